@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.benchmark;
+
+import com.rapiddweller.contiperf.PerfTestFailure;
+import com.rapiddweller.contiperf.report.CSVInvocationReportModule;
+import com.rapiddweller.contiperf.report.ReportContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of writing one invocation line with the {@link CSVInvocationReportModule}.<br/><br/>
+ * Created: 17.10.2026 17:31:07
+ * @since 2.6.0
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CSVInvocationReportModuleBenchmark {
+	
+	private static final String SERVICE_ID = "CSVInvocationReportModuleBenchmark";
+	
+	private CSVInvocationReportModule module;
+	private long invocation;
+	
+	@Setup
+	public void setUp() {
+		ReportContext context = new ReportContext(new File("target/benchmark"), PerfTestFailure.class);
+		module = new CSVInvocationReportModule();
+		context.addReportModule(module);
+		module.starting(SERVICE_ID);
+	}
+	
+	@TearDown
+	public void tearDown() {
+		module.completed(SERVICE_ID, null, null, null);
+	}
+
+	@Benchmark
+	public void invoked() {
+		long i = invocation++;
+		module.invoked(SERVICE_ID, i & 1023, TimeUnit.MILLISECONDS, i);
+	}
+	
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.benchmark;
+
+import com.rapiddweller.contiperf.CountRunner;
+import com.rapiddweller.contiperf.EmptyArgumentsProvider;
+import com.rapiddweller.contiperf.timer.None;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures the per-invocation cost of the {@link CountRunner} loop, 
+ * which decrements a shared {@link AtomicLong} and consults the wait timer.<br/><br/>
+ * Created: 17.10.2026 17:25:50
+ * @since 2.6.0
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CountRunnerBenchmark {
+	
+	private static final int INVOCATIONS = 10000;
+	
+	private final PerformanceTrackerBenchmark.NoOpInvoker invoker = new PerformanceTrackerBenchmark.NoOpInvoker();
+	private final EmptyArgumentsProvider argsProvider = new EmptyArgumentsProvider();
+	private final None timer = new None();
+
+	@Benchmark
+	@OperationsPerInvocation(INVOCATIONS)
+	public void run() {
+		new CountRunner(invoker, argsProvider, timer, new AtomicLong(INVOCATIONS)).run();
+	}
+	
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.benchmark;
+
+import com.rapiddweller.stat.AbstractLatencyHistogram;
+import com.rapiddweller.stat.ConcurrentLatencyHistogram;
+import com.rapiddweller.stat.LatencyCounter;
+import com.rapiddweller.stat.LatencyHistogram;
+import com.rapiddweller.stat.LinearLatencyHistogram;
+import com.rapiddweller.stat.LogLinearLatencyHistogram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the cost of {@link LatencyCounter#addSample(long)} for the different histogram types, 
+ * with one thread and with several threads sharing a counter.<br/><br/>
+ * Created: 17.10.2026 17:02:11
+ * @since 2.6.0
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatencyCounterBenchmark {
+	
+	@Param({ "linear", "logLinear", "concurrent" })
+	public String histogram;
+	
+	private LatencyCounter counter;
+	
+	@Setup
+	public void setUp() {
+		counter = new LatencyCounter("benchmark", "system", createHistogram(histogram));
+		counter.start();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void addSample1Thread() {
+		counter.addSample(ThreadLocalRandom.current().nextInt(1000));
+	}
+	
+	@Benchmark
+	@Threads(4)
+	public void addSample4Threads() {
+		counter.addSample(ThreadLocalRandom.current().nextInt(1000));
+	}
+	
+	static LatencyHistogram createHistogram(String type) {
+		Supplier<AbstractLatencyHistogram> linear = () -> new LinearLatencyHistogram(1000);
+		switch (type) {
+			case "linear" : return linear.get();
+			case "logLinear" : return new LogLinearLatencyHistogram(3);
+			case "concurrent" : return new ConcurrentLatencyHistogram(linear);
+			default: throw new IllegalArgumentException("Unknown histogram type: " + type);
+		}
+	}
+	
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.benchmark;
+
+import com.rapiddweller.stat.LatencyCounter;
+import com.rapiddweller.stat.LinearLatencyHistogram;
+import com.rapiddweller.stat.LogLinearLatencyHistogram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LatencyCounter#percentileLatency(int)} on histograms with a wide latency range.<br/><br/>
+ * Created: 17.10.2026 17:10:42
+ * @since 2.6.0
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PercentileBenchmark {
+	
+	/** The largest latency of the samples */
+	@Param({ "1000", "100000" })
+	public int maxLatency;
+	
+	@Param({ "linear", "logLinear" })
+	public String histogram;
+	
+	private LatencyCounter counter;
+	
+	@Setup
+	public void setUp() {
+		counter = new LatencyCounter("benchmark", "system", 
+				"linear".equals(histogram) ? new LinearLatencyHistogram(maxLatency) : new LogLinearLatencyHistogram(3));
+		Random random = new Random(42);
+		for (int i = 0; i < 1000000; i++)
+			counter.addSample((long) (maxLatency * Math.pow(random.nextDouble(), 4)));
+		counter.addSample(maxLatency);
+	}
+
+	@Benchmark
+	public long percentile99() {
+		return counter.percentileLatency(99);
+	}
+	
+	@Benchmark
+	public long median() {
+		return counter.percentileLatency(50);
+	}
+	
+}
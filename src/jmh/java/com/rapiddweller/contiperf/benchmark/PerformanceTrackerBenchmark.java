@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.benchmark;
+
+import com.rapiddweller.contiperf.Clock;
+import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.Invoker;
+import com.rapiddweller.contiperf.PerfTestFailure;
+import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.contiperf.PerformanceTracker;
+import com.rapiddweller.contiperf.clock.CpuClock;
+import com.rapiddweller.contiperf.clock.SystemClock;
+import com.rapiddweller.contiperf.clock.UserClock;
+import com.rapiddweller.contiperf.report.InvocationCountingReportModule;
+import com.rapiddweller.contiperf.report.ReportContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead which {@link PerformanceTracker#invoke(Object[])} adds to an empty invocation, 
+ * depending on the number of clocks and report modules.<br/><br/>
+ * Created: 17.10.2026 17:18:26
+ * @since 2.6.0
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerformanceTrackerBenchmark {
+	
+	private static final Object[] ARGS = new Object[0];
+	
+	@Param({ "1", "3" })
+	public int clocks;
+	
+	@Param({ "0", "1", "5" })
+	public int modules;
+	
+	private PerformanceTracker tracker;
+	
+	@Setup
+	public void setUp() {
+		ReportContext context = new ReportContext(new File("target/benchmark"), PerfTestFailure.class);
+		for (int i = 0; i < modules; i++)
+			context.addReportModule(new InvocationCountingReportModule());
+		Clock[] clockArray = (clocks == 1 ? 
+				new Clock[] { new SystemClock() } : 
+				new Clock[] { new SystemClock(), new CpuClock(), new UserClock() });
+		tracker = new PerformanceTracker(new NoOpInvoker(), new ExecutionConfig(0), 
+				new PerformanceRequirement(), context, clockArray);
+		tracker.startTracking();
+	}
+	
+	@TearDown
+	public void tearDown() {
+		tracker.clear();
+	}
+
+	@Benchmark
+	public Object invoke() throws Exception {
+		return tracker.invoke(ARGS);
+	}
+	
+	static class NoOpInvoker implements Invoker {
+
+		@Override
+		public String getId() {
+			return "noop";
+		}
+
+		@Override
+		public Object invoke(Object[] args) {
+			return null;
+		}
+	}
+	
+}
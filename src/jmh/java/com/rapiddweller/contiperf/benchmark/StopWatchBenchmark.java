@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.benchmark;
+
+import com.rapiddweller.contiperf.StopWatch;
+import com.rapiddweller.stat.CounterHandle;
+import com.rapiddweller.stat.CounterRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-measurement cost of a {@link StopWatch} with the one of a {@link CounterHandle}.
+ * JMH's gc profiler (<code>-prof gc</code>) additionally shows that the handle does not allocate.<br/><br/>
+ * Created: 17.10.2026 18:41:05
+ * @since 2.6.0
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StopWatchBenchmark {
+	
+	private static final String NAME = "StopWatchBenchmark";
+	
+	private CounterHandle handle;
+	
+	@Setup
+	public void setUp() {
+		handle = CounterRepository.getInstance().handle(NAME);
+	}
+	
+	@TearDown
+	public void tearDown() {
+		CounterRepository.getInstance().clear();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public int stopWatch() {
+		return new StopWatch(NAME).stop();
+	}
+	
+	@Benchmark
+	@Threads(1)
+	public long handle() {
+		return handle.stop(handle.start());
+	}
+	
+	@Benchmark
+	@Threads(4)
+	public int stopWatch4Threads() {
+		return new StopWatch(NAME).stop();
+	}
+	
+	@Benchmark
+	@Threads(4)
+	public long handle4Threads() {
+		return handle.stop(handle.start());
+	}
+	
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provides the intended start times of invocations which arrive at a constant rate, 
+ * independent of how long the invocations take. The schedule begins with the first 
+ * call to {@link #next()} and ends after a number of invocations or a duration.<br/><br/>
+ * Created: 17.10.2026 15:12:09
+ * @since 2.6.0
+ * @author agent
+ */
+public class ArrivalSchedule {
+	
+	private final double intervalNanos;
+	private final long invocations;
+	private final long durationNanos;
+	private final AtomicLong sequence;
+	private volatile long startNanos;
+
+	/** 
+	 * @param rate the number of invocations per second
+	 * @param invocations the total number of invocations, or -1 for no limit
+	 * @param duration the duration of the schedule in milliseconds, or -1 for no limit
+	 */
+	public ArrivalSchedule(double rate, long invocations, long duration) {
+		if (rate <= 0)
+			throw new IllegalArgumentException("rate must be positive, but was " + rate);
+		this.intervalNanos = 1000000000. / rate;
+		this.invocations = invocations;
+		this.durationNanos = (duration >= 0 ? duration * 1000000L : -1);
+		this.sequence = new AtomicLong();
+		this.startNanos = -1;
+	}
+	
+	/** @return the {@link System#nanoTime()} at which the next invocation is due, 
+	 *  or -1 if the schedule has been completed */
+	public long next() {
+		long index = sequence.getAndIncrement();
+		if (invocations >= 0 && index >= invocations)
+			return -1;
+		long offset = (long) (index * intervalNanos);
+		if (durationNanos >= 0 && offset >= durationNanos)
+			return -1;
+		return startNanos() + offset;
+	}
+
+	private long startNanos() {
+		long result = startNanos;
+		if (result == -1) {
+			synchronized (this) {
+				if (startNanos == -1)
+					startNanos = System.nanoTime();
+				result = startNanos;
+			}
+		}
+		return result;
+	}
+	
+}
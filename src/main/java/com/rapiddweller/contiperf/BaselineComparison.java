@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import com.rapiddweller.stat.BatchMeans;
+import com.rapiddweller.stat.LatencyDistribution;
+import com.rapiddweller.stat.MannWhitney;
+
+import java.util.Locale;
+
+/**
+ * Result of the comparison of a test run with its baseline: The run is considered a regression 
+ * if a one-sided Mann-Whitney U test shows with the required confidence that its batch average 
+ * latencies (see {@link BatchMeans}) are greater than those of the baseline increased by the tolerated 
+ * percentage. Testing batches instead of single invocations keeps the bursts and drifts within a run 
+ * from appearing significant, and the averages are computed from the nanoseconds of the first clock, 
+ * so that latencies below the {@link PerfTest#timeUnit()} are compared as well.<br/><br/>
+ * Each run has between 32 and 64 batches per invoking thread, so a shift must be large compared 
+ * to the variation between batches to be detected. Differences between JVM runs, like code layout 
+ * or the state of the machine, are not covered by a single baseline run and need to be covered 
+ * by the tolerated percentage.<br/><br/>
+ * Created: 18.10.2026 20:06:19
+ * @since 2.6.0
+ * @author agent
+ */
+public class BaselineComparison {
+	
+	/** The significance level, a regression is reported with 99% confidence */
+	public static final double ALPHA = 0.01;
+	
+	private final double baselineMedian;
+	private final double medianChangePercent;
+	private final double pValue;
+	
+	public BaselineComparison(double baselineMedian, double medianChangePercent, double pValue) {
+		this.baselineMedian = baselineMedian;
+		this.medianChangePercent = medianChangePercent;
+		this.pValue = pValue;
+	}
+	
+	/** 
+	 * @param baseline the batch averages of the baseline run
+	 * @param current the batch averages of the current run
+	 * @param tolerancePercent the tolerated slowdown in percent
+	 */
+	public static BaselineComparison compare(LatencyDistribution baseline, LatencyDistribution current, int tolerancePercent) {
+		double baselineMedian = baseline.percentile(50);
+		double currentMedian = current.percentile(50);
+		double change = (baselineMedian > 0 ? (currentMedian - baselineMedian) * 100 / baselineMedian : 0);
+		double pValue = MannWhitney.pValueGreater(current, baseline.scaled(1 + tolerancePercent / 100.));
+		return new BaselineComparison(baselineMedian, change, pValue);
+	}
+	
+	/** @return the median of the batch average latencies of the baseline in nanoseconds */
+	public double getBaselineMedian() {
+		return baselineMedian;
+	}
+	
+	/** @return the relative change of the median batch average latency compared to the baseline */
+	public double getMedianChangePercent() {
+		return medianChangePercent;
+	}
+	
+	/** @return the probability of a slowdown this large or larger if the run was not slower than tolerated */
+	public double getPValue() {
+		return pValue;
+	}
+	
+	public boolean isRegression() {
+		return pValue < ALPHA;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format(Locale.US, "median %+.1f%% vs. baseline (p = %.4f)", medianChangePercent, pValue);
+	}
+	
+}
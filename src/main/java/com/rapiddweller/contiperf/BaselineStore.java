@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import com.rapiddweller.stat.LatencyDistribution;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Stores the {@link LatencyDistribution} of the batch averages of a test run as baseline for later runs, 
+ * one compact binary file per test in the 'baseline' sub folder of the report folder. 
+ * An existing baseline is kept until the system property {@value #SYSPROP_UPDATE_BASELINE} 
+ * is set to true, so that slow drifts over several builds accumulate against a fixed reference.<br/><br/>
+ * Created: 18.10.2026 19:58:37
+ * @since 2.6.0
+ * @author agent
+ */
+public class BaselineStore {
+	
+	public static final String SYSPROP_UPDATE_BASELINE = "contiperf.updateBaseline";
+	
+	private static final String FOLDER_NAME = "baseline";
+	
+	private final File folder;
+	
+	public BaselineStore(File folder) {
+		this.folder = folder;
+	}
+	
+	public static BaselineStore createDefault() {
+		return new BaselineStore(new File(Config.instance().getReportFolder(), FOLDER_NAME));
+	}
+	
+	public static boolean isUpdateRequested() {
+		return Boolean.getBoolean(SYSPROP_UPDATE_BASELINE);
+	}
+	
+	/** @return the baseline of the test, or null if none has been stored */
+	public LatencyDistribution load(String id) {
+		File file = file(id);
+		if (!file.exists())
+			return null;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			return LatencyDistribution.read(in);
+		} catch (IOException e) {
+			throw new PerfTestExecutionError("Error reading baseline " + file, e);
+		}
+	}
+	
+	public void save(String id, LatencyDistribution distribution) {
+		folder.mkdirs();
+		File file = file(id);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			distribution.write(out);
+		} catch (IOException e) {
+			throw new PerfTestExecutionError("Error writing baseline " + file, e);
+		}
+	}
+	
+	private File file(String id) {
+		return new File(folder, id.replaceAll("[^A-Za-z0-9._-]", "_") + ".bin");
+	}
+	
+}
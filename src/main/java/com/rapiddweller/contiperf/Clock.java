@@ -15,7 +15,9 @@
 package com.rapiddweller.contiperf;
 
 /**
- * Extension interface for different providers of time, e.g. system, CPU or user time.<br/><br/>
+ * Extension interface for different providers of time, e.g. system, CPU or user time.
+ * {@link #getTime()} provides milliseconds, {@link #getNanoTime()} is used for measurements 
+ * in finer time units and should be overridden by clocks that can provide them.<br/><br/>
  * Created: 23.05.2012 07:51:45
  * @since 2.2.0
  * @author Volker Bergmann
@@ -23,4 +25,9 @@
 public interface Clock {
 	String getName();
 	long getTime();
+	
+	/** @return the time in nanoseconds, by default derived from the millisecond value of {@link #getTime()} */
+	default long getNanoTime() {
+		return getTime() * 1000000L;
+	}
 }
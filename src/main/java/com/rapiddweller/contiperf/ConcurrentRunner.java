@@ -15,10 +15,12 @@
 package com.rapiddweller.contiperf;
 
 import com.rapiddweller.contiperf.util.ContiPerfUtil;
+import com.rapiddweller.contiperf.util.VirtualThreads;
 
 /**
  * Runs several {@link Runnable}s concurrently. 
- * If a {@link Throwable} is encountered, execution of all threads is canceled.<br/><br/>
+ * If a {@link Throwable} is encountered, execution of all threads is canceled.
+ * Optionally, the runners are executed on virtual threads, if the Java runtime supports them.<br/><br/>
  * Created: 15.04.2010 23:42:30
  * @since 1.03
  * @author Volker Bergmann
@@ -28,18 +30,27 @@ public class ConcurrentRunner implements InvocationRunner {
 	private final String name;
 	private InvocationRunner[] runners;
 	private final int rampUp;
+	private final boolean virtualThreads;
 	
 	public ConcurrentRunner(String name, InvocationRunner[] runners, int rampUp) {
+	    this(name, runners, rampUp, false);
+    }
+	
+	public ConcurrentRunner(String name, InvocationRunner[] runners, int rampUp, boolean virtualThreads) {
 	    this.name = name;
 	    this.runners = runners;
 	    this.rampUp = rampUp;
+	    this.virtualThreads = virtualThreads;
+	    if (virtualThreads && !VirtualThreads.isSupported())
+	    	System.out.println("Virtual threads are not supported by this Java runtime, " + name + " uses platform threads");
     }
 
     public void run() {
 		CPThreadGroup threadGroup = new CPThreadGroup(name);
 	    Thread[] threads = new Thread[runners.length];
 	    for (int i = 0; i < runners.length; i++)
-	        threads[i] = new Thread(threadGroup, runners[i]);
+	        threads[i] = createThread(threadGroup, i);
+	    threadGroup.members = threads;
 	    for (int i = 0; i < runners.length; i++) {
 	    	Thread thread = threads[i];
 	    	thread.start();
@@ -59,6 +70,13 @@ public void run() {
     		throw ContiPerfUtil.executionError(threadGroup.throwable);
     }
     
+    private Thread createThread(CPThreadGroup threadGroup, int index) {
+    	if (virtualThreads && VirtualThreads.isSupported())
+    		return VirtualThreads.newThread(name + "-" + index, runners[index], threadGroup);
+    	else
+    		return new Thread(threadGroup, runners[index]);
+    }
+
     private void sleepForRampUpTime() {
 		try {
 			Thread.sleep(rampUp);
@@ -70,21 +88,27 @@ private void sleepForRampUpTime() {
 	/** 
      * Implements the {@link ThreadGroup#uncaughtException(Thread, Throwable)} method
      * interrupting the execution of all threads in case of a {@link Throwable} and
-     * memorizing the {@link Throwable}.
+     * memorizing the {@link Throwable}. Virtual threads cannot be members of a custom 
+     * thread group, so they use the group as uncaught exception handler and are 
+     * interrupted via the {@link #members} array.
      */
     static class CPThreadGroup extends ThreadGroup {
     	
     	Throwable throwable;
+    	Thread[] members;
 
 		public CPThreadGroup(String name) {
 	        super(name);
         }
     	
 		@Override
-		public void uncaughtException(Thread thread, Throwable throwable) {
+		public synchronized void uncaughtException(Thread thread, Throwable throwable) {
 		    if (this.throwable == null)
 		    	this.throwable = throwable;
 		    interrupt();
+		    if (members != null)
+		    	for (Thread member : members)
+		    		member.interrupt();
 		}
     }
 
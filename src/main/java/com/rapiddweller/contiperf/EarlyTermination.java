@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+/**
+ * Defines whether a test run may end before its configured invocations or duration 
+ * when the {@link RequirementMonitor} has decided the outcome of the requirements.<br/><br/>
+ * Created: 18.10.2026 18:10:41
+ * @since 2.6.0
+ * @author agent
+ */
+public enum EarlyTermination {
+	
+	/** The test always runs to its end. */
+	NONE,
+	
+	/** The test fails as soon as a requirement violation is statistically certain. */
+	ON_FAILURE,
+	
+	/** The test fails as soon as a requirement violation is statistically certain, 
+	 *  and ends successfully as soon as the fulfillment of all requirements is certain. */
+	ON_DECISION
+	
+}
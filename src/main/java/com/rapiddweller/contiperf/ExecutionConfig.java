@@ -17,6 +17,8 @@
 import com.rapiddweller.contiperf.clock.SystemClock;
 import com.rapiddweller.contiperf.timer.None;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Holds the execution configuration for a single test.<br/><br/>
  * Created: 18.10.2009 06:31:25
@@ -25,6 +27,11 @@
  */
 public class ExecutionConfig {
 	
+	public static final int DEFAULT_REPORT_BUFFER_SIZE = 8192;
+	public static final int DEFAULT_STATISTICS_INTERVAL = 0;
+	public static final int DEFAULT_MAX_WARM_UP = 60000;
+	public static final int DEFAULT_EVALUATION_INTERVAL = 1000;
+	
 	private int invocations;
 	private final int duration;
 	private final Clock[] clocks;
@@ -33,6 +40,19 @@ public class ExecutionConfig {
 	private final int threads;
 	WaitTimer waitTimer;
 	private final boolean cancelOnViolation;
+	private int significantDigits;
+	private TimeUnit timeUnit;
+	private ReportDispatch reportDispatch;
+	private int reportBufferSize;
+	private boolean virtualThreads;
+	private int rate;
+	private boolean correctCoordinatedOmission;
+	private long expectedInterval;
+	private long statisticsInterval;
+	private WarmUpMode warmUpMode;
+	private int warmUpWindow;
+	private EarlyTermination earlyTermination;
+	private long evaluationInterval;
 	// TODO v2.x private int timeout;
 	
 	public ExecutionConfig(int invocations) {
@@ -48,6 +68,19 @@ public ExecutionConfig(int invocations, int threads, int duration, Clock[] clock
 	    this.rampUp = rampUp;
 	    this.warmUp = warmUp;
 	    this.cancelOnViolation = cancelOnViolation;
+	    this.significantDigits = 0;
+	    this.timeUnit = TimeUnit.MILLISECONDS;
+	    this.reportDispatch = ReportDispatch.SYNC;
+	    this.reportBufferSize = DEFAULT_REPORT_BUFFER_SIZE;
+	    this.virtualThreads = false;
+	    this.rate = -1;
+	    this.correctCoordinatedOmission = false;
+	    this.expectedInterval = 0;
+	    this.statisticsInterval = DEFAULT_STATISTICS_INTERVAL;
+	    this.warmUpMode = WarmUpMode.FIXED;
+	    this.warmUpWindow = WarmUpDetector.MIN_WINDOW_SIZE;
+	    this.earlyTermination = EarlyTermination.NONE;
+	    this.evaluationInterval = DEFAULT_EVALUATION_INTERVAL;
 	    try {
 			waitTimer = waitTimerClass.getDeclaredConstructor().newInstance();
 			waitTimer.init(waitParams);
@@ -94,6 +127,128 @@ public boolean isCancelOnViolation() {
 		return cancelOnViolation;
 	}
 
+	/** @return the number of significant digits of the latency histogram, or 0 for exact values */
+	public int getSignificantDigits() {
+		return significantDigits;
+	}
+
+	public void setSignificantDigits(int significantDigits) {
+		this.significantDigits = significantDigits;
+	}
+
+	/** @return the time unit in which latencies are measured and reported */
+	public TimeUnit getTimeUnit() {
+		return timeUnit;
+	}
+
+	public void setTimeUnit(TimeUnit timeUnit) {
+		this.timeUnit = timeUnit;
+	}
+
+	/** @return the way in which invocations are passed to the report modules */
+	public ReportDispatch getReportDispatch() {
+		return reportDispatch;
+	}
+
+	public void setReportDispatch(ReportDispatch reportDispatch) {
+		this.reportDispatch = reportDispatch;
+	}
+
+	/** @return the number of invocations each thread can buffer for asynchronous reporting */
+	public int getReportBufferSize() {
+		return reportBufferSize;
+	}
+
+	public void setReportBufferSize(int reportBufferSize) {
+		this.reportBufferSize = reportBufferSize;
+	}
+
+	/** @return true if the test threads are to be virtual threads, if the Java runtime supports them */
+	public boolean isVirtualThreads() {
+		return virtualThreads;
+	}
+
+	public void setVirtualThreads(boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
+	/** @return the number of invocations per second in an open workload model, or -1 for a closed model */
+	public int getRate() {
+		return rate;
+	}
+
+	public void setRate(int rate) {
+		this.rate = rate;
+	}
+
+	/** @return true if latencies are to be corrected for coordinated omission */
+	public boolean isCorrectCoordinatedOmission() {
+		return correctCoordinatedOmission;
+	}
+
+	public void setCorrectCoordinatedOmission(boolean correctCoordinatedOmission) {
+		this.correctCoordinatedOmission = correctCoordinatedOmission;
+	}
+
+	/** @return the expected time between two invocations of a thread in the {@link #getTimeUnit()}, 
+	 *  or 0 if it is to be derived from the observed invocations */
+	public long getExpectedInterval() {
+		return expectedInterval;
+	}
+
+	public void setExpectedInterval(long expectedInterval) {
+		this.expectedInterval = expectedInterval;
+	}
+
+	public WarmUpMode getWarmUpMode() {
+		return warmUpMode;
+	}
+
+	public void setWarmUpMode(WarmUpMode warmUpMode) {
+		this.warmUpMode = warmUpMode;
+	}
+
+	/** @return the number of invocations in a window of the steady state detection */
+	public int getWarmUpWindow() {
+		return warmUpWindow;
+	}
+
+	public void setWarmUpWindow(int warmUpWindow) {
+		this.warmUpWindow = warmUpWindow;
+	}
+
+	public EarlyTermination getEarlyTermination() {
+		return earlyTermination;
+	}
+
+	public void setEarlyTermination(EarlyTermination earlyTermination) {
+		this.earlyTermination = earlyTermination;
+	}
+
+	/** @return the time in milliseconds between two evaluations of the requirements on the running test */
+	public long getEvaluationInterval() {
+		return evaluationInterval;
+	}
+
+	public void setEvaluationInterval(long evaluationInterval) {
+		this.evaluationInterval = evaluationInterval;
+	}
+
+	/** @return the maximum time in milliseconds before the measurement begins */
+	public int getMaxWarmUp() {
+		return (warmUpMode != WarmUpMode.FIXED && warmUp == 0 ? DEFAULT_MAX_WARM_UP : warmUp);
+	}
+
+	/** @return the length of the intervals of the time series statistics in milliseconds, 
+	 *  or 0 if no time series is recorded */
+	public long getStatisticsInterval() {
+		return statisticsInterval;
+	}
+
+	public void setStatisticsInterval(long statisticsInterval) {
+		this.statisticsInterval = statisticsInterval;
+	}
+
 	@Override
 	public String toString() {
 	    return (invocations > 0 ? invocations + " invocations" : "Running" + duration + " ms") + 
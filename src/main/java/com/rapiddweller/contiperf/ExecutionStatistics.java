@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import com.rapiddweller.contiperf.sensor.ResourceUsage;
+import com.rapiddweller.stat.IntervalStatistics;
+import com.rapiddweller.stat.LatencyCounter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds statistics of a test execution beyond the latency counters of the {@link Clock}s.<br/><br/>
+ * Created: 17.10.2026 15:06:44
+ * @since 2.6.0
+ * @author agent
+ */
+public class ExecutionStatistics {
+	
+	private LatencyCounter scheduleLag;
+	private LatencyCounter correctedLatency;
+	private long expectedInterval;
+	private ResourceUsage resourceUsage;
+	private List<IntervalStatistics> intervals = Collections.emptyList();
+	private long warmUpTime;
+	private long warmUpInvocations;
+	private String earlyTermination;
+	private BaselineComparison baselineComparison;
+	
+	/** @return the delays by which invocations started later than scheduled by 
+	 *  the {@link PerfTest#rate()}, or null if the test was not rate-based */
+	public LatencyCounter getScheduleLag() {
+		return scheduleLag;
+	}
+	
+	public void setScheduleLag(LatencyCounter scheduleLag) {
+		this.scheduleLag = scheduleLag;
+	}
+	
+	/** @return the latencies of the main clock corrected for coordinated omission, 
+	 *  or null if no correction was requested */
+	public LatencyCounter getCorrectedLatency() {
+		return correctedLatency;
+	}
+	
+	/** @return the expected interval between invocations which was used for the {@link #getCorrectedLatency()} */
+	public long getExpectedInterval() {
+		return expectedInterval;
+	}
+	
+	public void setCorrectedLatency(LatencyCounter correctedLatency, long expectedInterval) {
+		this.correctedLatency = correctedLatency;
+		this.expectedInterval = expectedInterval;
+	}
+	
+	/** @return the resources consumed during the measurement, or null if they were not measured */
+	public ResourceUsage getResourceUsage() {
+		return resourceUsage;
+	}
+	
+	public void setResourceUsage(ResourceUsage resourceUsage) {
+		this.resourceUsage = resourceUsage;
+	}
+	
+	/** @return the time in milliseconds from the first invocation to the begin of the measurement */
+	public long getWarmUpTime() {
+		return warmUpTime;
+	}
+	
+	/** @return the number of invocations which were discarded as warm-up */
+	public long getWarmUpInvocations() {
+		return warmUpInvocations;
+	}
+	
+	public void setWarmUp(long warmUpTime, long warmUpInvocations) {
+		this.warmUpTime = warmUpTime;
+		this.warmUpInvocations = warmUpInvocations;
+	}
+	
+	/** @return the reason for which the test ended before its configured end, or null if it ran to the end */
+	public String getEarlyTermination() {
+		return earlyTermination;
+	}
+	
+	public void setEarlyTermination(String earlyTermination) {
+		this.earlyTermination = earlyTermination;
+	}
+	
+	/** @return the comparison with the baseline run, or null if no comparison was required or possible */
+	public BaselineComparison getBaselineComparison() {
+		return baselineComparison;
+	}
+	
+	public void setBaselineComparison(BaselineComparison baselineComparison) {
+		this.baselineComparison = baselineComparison;
+	}
+	
+	/** @return the statistics of consecutive time intervals of the measurement, 
+	 *  or an empty list if no time series was recorded */
+	public List<IntervalStatistics> getIntervals() {
+		return intervals;
+	}
+	
+	public void setIntervals(List<IntervalStatistics> intervals) {
+		this.intervals = intervals;
+	}
+	
+}
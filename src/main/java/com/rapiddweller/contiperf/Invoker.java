@@ -25,4 +25,11 @@
 public interface Invoker {
 	String getId();
 	Object invoke(Object[] args) throws Exception;
+	
+	/** Performs an invocation which was scheduled to start at the given {@link System#nanoTime()}. 
+	 *  Invokers which measure latencies include the delay of the actual start. 
+	 *  The default implementation ignores the intended start time. */
+	default Object invoke(Object[] args, long intendedStartNanos) throws Exception {
+		return invoke(args);
+	}
 }
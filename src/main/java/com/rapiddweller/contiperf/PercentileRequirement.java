@@ -14,6 +14,8 @@
  */
 package com.rapiddweller.contiperf;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Defines percentile performance requests on a test.<br/><br/>
  * Created: 18.10.2009 06:25:42
@@ -23,15 +25,21 @@
 public class PercentileRequirement {
 	
 	private int percentage;
-	private int millis;
+	private int limit;
+	private TimeUnit timeUnit;
 	
 	public PercentileRequirement() {
 	    this(-1, -1);
     }
 
 	public PercentileRequirement(int percentage, int millis) {
+	    this(percentage, millis, TimeUnit.MILLISECONDS);
+    }
+
+	public PercentileRequirement(int percentage, int limit, TimeUnit timeUnit) {
 	    this.percentage = percentage;
-	    this.millis = millis;
+	    this.limit = limit;
+	    this.timeUnit = timeUnit;
     }
 
 	public int getPercentage() {
@@ -42,12 +50,23 @@ public void setPercentage(int percentage) {
     	this.percentage = percentage;
     }
 
+	/** @return the latency limit in milliseconds, or -1 if none was set */
 	public int getMillis() {
-    	return millis;
+    	return (limit < 0 ? limit : (int) timeUnit.toMillis(limit));
     }
 	
 	public void setMillis(int millis) {
-    	this.millis = millis;
+    	this.limit = millis;
+    	this.timeUnit = TimeUnit.MILLISECONDS;
     }
 
+	/** @return the latency limit in the {@link #getTimeUnit()}, or -1 if none was set */
+	public int getLimit() {
+		return limit;
+	}
+
+	public TimeUnit getTimeUnit() {
+		return timeUnit;
+	}
+
 }
@@ -22,6 +22,7 @@
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.TYPE;
@@ -112,6 +113,28 @@
 	 *  applied (like code optimization or cache population). */
 	int warmUp() default  0;
 	
+	/** Defines when the measurement begins. With the adaptive modes, the warm-up ends as soon as the latencies 
+	 *  are steady, and {@link #warmUp()} defines the maximum warm-up time, which is one minute if it is not set. 
+	 *  A steady state needs at least {@link WarmUpDetector#DEFAULT_WINDOW_COUNT} windows of {@link #warmUpWindow()} 
+	 *  invocations, so a count-based test with an adaptive mode must have more {@link #invocations()}. 
+	 *  The default is {@link WarmUpMode#FIXED}. */
+	WarmUpMode warmUpMode() default WarmUpMode.FIXED;
+	
+	/** The number of invocations in a window of the steady state detection of an adaptive {@link #warmUpMode()}. 
+	 *  Use larger windows for code which takes long to be optimized. The default and minimum is 
+	 *  {@link WarmUpDetector#MIN_WINDOW_SIZE}, which lets the optimizing JIT compiler start before 
+	 *  the latencies are considered steady. */
+	int warmUpWindow() default WarmUpDetector.MIN_WINDOW_SIZE;
+	
+	/** Lets a test end before its invocations or duration are completed, as soon as the requirements are 
+	 *  statistically certain to be violated or fulfilled. The requirements are evaluated on the running test 
+	 *  every {@link #evaluationInterval()}. The default is {@link EarlyTermination#NONE}. */
+	EarlyTermination earlyTermination() default EarlyTermination.NONE;
+	
+	/** The number of milliseconds between two evaluations of the requirements when using 
+	 *  {@link #earlyTermination()}. The default is one second. */
+	int evaluationInterval() default ExecutionConfig.DEFAULT_EVALUATION_INTERVAL;
+	
 	/** Set this to true, if execution should stop with a failure message as soon as a configured {@link Required#max()} 
 	 * value is violated. Set it to false, if you are interested in performing a full measurement to get percentiles,  
 	 * throughput and more. The default value is false. */
@@ -128,6 +151,64 @@
 	 * The first one specified is the one relevant for requirements verification. */
 	Class<? extends Clock>[] clocks() default { };
 	
+	/** The number of significant decimal digits to which latencies are recorded (1 to 5). 
+	 *  When set, latencies are counted in a log-linear histogram of bounded size, 
+	 *  which is useful for long-tailed latency distributions.
+	 *  The default value 0 causes each latency to be counted exactly. */
+	int significantDigits() default 0;
+	
+	/** The time unit in which latencies are measured and reported. Use {@link TimeUnit#MICROSECONDS} 
+	 *  or {@link TimeUnit#NANOSECONDS} for tests with sub-millisecond latencies. Finer units than 
+	 *  milliseconds imply a log-linear histogram with 3 significant digits, 
+	 *  unless {@link #significantDigits()} is specified. The default is {@link TimeUnit#MILLISECONDS}. */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+	
+	/** 
+	 * The number of invocations per second to start on a fixed timeline (open workload model). 
+	 * By default, each thread performs its next invocation only after the previous one has finished 
+	 * (closed workload model), so a slow system under test receives less load. With a rate, 
+	 * invocations are scheduled at constant intervals and executed by the {@link #threads()} 
+	 * as worker pool. When the workers fall behind schedule, latencies are measured from the 
+	 * intended start time and the lag is reported. The {@link #timer()} is ignored in this mode. 
+	 * Example: <code>@PerfTest(rate = 2000, duration = 60000, threads = 20)</code>
+	 */
+	int rate() default -1;
+	
+	/** 
+	 * Set this to true for reporting latency statistics which are corrected for coordinated omission: 
+	 * When an invocation stalls, a thread does not issue the requests it would have performed meanwhile 
+	 * and the measurement misses their latencies. The corrected statistics back-fill these samples 
+	 * based on the {@link #expectedInterval()} and are reported along with the raw measurement. 
+	 * This is not applied to tests with a {@link #rate()}, which measure from the intended start time anyway. 
+	 * The default value is false.
+	 */
+	boolean correctCoordinatedOmission() default false;
+	
+	/** The expected time between the starts of two invocations of a thread, in the {@link #timeUnit()}. 
+	 *  This is used when {@link #correctCoordinatedOmission()} is set. The default value 0 causes 
+	 *  the interval to be derived from the median time between the observed invocations, 
+	 *  which includes the wait times of the {@link #timer()}. */
+	int expectedInterval() default 0;
+	
+	/** Set this to true for running the {@link #threads()} as virtual threads. This allows for simulating 
+	 *  thousands of concurrent clients whose test code mostly waits for I/O. Virtual threads require 
+	 *  Java 21 or newer, on older runtimes platform threads are used. The default value is false. */
+	boolean virtualThreads() default false;
+	
+	/** Defines whether invocations are reported to the report modules synchronously by the measured thread 
+	 *  or asynchronously by a background thread. Asynchronous reporting keeps the I/O of report modules 
+	 *  like the {@link com.rapiddweller.contiperf.report.CSVInvocationReportModule} out of the measurement. 
+	 *  The default is {@link ReportDispatch#SYNC}. */
+	ReportDispatch reportDispatch() default ReportDispatch.SYNC;
+	
+	/** The number of invocations each thread can buffer when using asynchronous {@link #reportDispatch()}. */
+	int reportBufferSize() default ExecutionConfig.DEFAULT_REPORT_BUFFER_SIZE;
+	
+	/** The length in milliseconds of the intervals for which throughput, latency percentiles and errors 
+	 *  are reported over time. Long runs merge adjacent intervals to keep the memory consumption bounded. 
+	 *  Recording them adds work to each invocation, so they are off by default (value 0). */
+	int statisticsInterval() default ExecutionConfig.DEFAULT_STATISTICS_INTERVAL;
+	
 	// TODO v2.x int timeout()       default -1;
 	
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+/**
+ * Thrown by the {@link PerformanceTracker} for ending a test run early 
+ * when the fulfillment of all requirements is statistically certain.<br/><br/>
+ * Created: 18.10.2026 18:14:06
+ * @since 2.6.0
+ * @author agent
+ */
+public class PerfTestEarlySuccess extends PerfTestException {
+
+	private static final long serialVersionUID = 2838502218357411062L;
+
+	public PerfTestEarlySuccess(String message) {
+	    super(message);
+    }
+
+}
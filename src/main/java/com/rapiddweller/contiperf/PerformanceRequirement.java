@@ -16,6 +16,8 @@
 
 import com.rapiddweller.contiperf.util.ContiPerfUtil;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Defines performance requirements on a test.<br/><br/>
  * Created: 18.10.2009 06:21:57
@@ -30,6 +32,10 @@ public class PerformanceRequirement {
 	private final int throughput;
 
 	private PercentileRequirement[] percentiles;
+	private TimeUnit timeUnit;
+	private int maxGcTime;
+	private int allocationPerInvocation;
+	private int maxRegressionPercent;
 
 	public PerformanceRequirement() {
 	    this(-1, -1, -1, new PercentileRequirement[0], -1);
@@ -42,6 +48,10 @@ public PerformanceRequirement(int average, int max, int totalTime, PercentileReq
 	    this.totalTime = totalTime;
 	    this.percentiles = percentiles;
 	    this.throughput = throughput;
+	    this.timeUnit = TimeUnit.MILLISECONDS;
+	    this.maxGcTime = -1;
+	    this.allocationPerInvocation = -1;
+	    this.maxRegressionPercent = -1;
     }
 
     public int getAverage() {
@@ -73,9 +83,45 @@ public int getThroughput() {
     }
     
 	public void setPercentiles(String percentilesSpec) {
-	    setPercentileValues(ContiPerfUtil.parsePercentiles(percentilesSpec));
+	    setPercentileValues(ContiPerfUtil.parsePercentiles(percentilesSpec, timeUnit));
     }
 
+	/** @return the time unit of the average, max and percentile requirements */
+	public TimeUnit getTimeUnit() {
+		return timeUnit;
+	}
+
+	public void setTimeUnit(TimeUnit timeUnit) {
+		this.timeUnit = timeUnit;
+	}
+
+	/** @return the maximum accumulated garbage collection time in milliseconds, or -1 if not required */
+	public int getMaxGcTime() {
+		return maxGcTime;
+	}
+
+	public void setMaxGcTime(int maxGcTime) {
+		this.maxGcTime = maxGcTime;
+	}
+
+	/** @return the maximum average number of bytes allocated per invocation, or -1 if not required */
+	public int getAllocationPerInvocation() {
+		return allocationPerInvocation;
+	}
+
+	public void setAllocationPerInvocation(int allocationPerInvocation) {
+		this.allocationPerInvocation = allocationPerInvocation;
+	}
+
+	/** @return the tolerated slowdown compared to the baseline in percent, or -1 if not required */
+	public int getMaxRegressionPercent() {
+		return maxRegressionPercent;
+	}
+
+	public void setMaxRegressionPercent(int maxRegressionPercent) {
+		this.maxRegressionPercent = maxRegressionPercent;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
@@ -84,6 +130,10 @@ public String toString() {
 		builder.append(", totalTime=").append(totalTime);
 		builder.append(", throughput=").append(throughput);
 		builder.append(", percentiles=").append(percentiles);
+		builder.append(", timeUnit=").append(timeUnit);
+		builder.append(", maxGcTime=").append(maxGcTime);
+		builder.append(", allocationPerInvocation=").append(allocationPerInvocation);
+		builder.append(", maxRegressionPercent=").append(maxRegressionPercent);
 		return builder.toString();
 	}
 
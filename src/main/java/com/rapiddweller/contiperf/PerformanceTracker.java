@@ -15,12 +15,33 @@
 package com.rapiddweller.contiperf;
 
 import com.rapiddweller.contiperf.clock.SystemClock;
+import com.rapiddweller.contiperf.report.AsyncReportDispatcher;
 import com.rapiddweller.contiperf.report.ReportContext;
 import com.rapiddweller.contiperf.report.ReportModule;
+import com.rapiddweller.contiperf.report.ReportUtil;
+import com.rapiddweller.contiperf.report.Verdict;
+import com.rapiddweller.contiperf.sensor.AllocationSensor;
+import com.rapiddweller.contiperf.sensor.ResourceUsage;
+import com.rapiddweller.contiperf.sensor.SensorSet;
 import com.rapiddweller.contiperf.util.InvokerProxy;
+import com.rapiddweller.stat.AbstractLatencyHistogram;
+import com.rapiddweller.stat.BatchMeans;
+import com.rapiddweller.stat.ConcurrentLatencyHistogram;
+import com.rapiddweller.stat.IntervalRecorder;
 import com.rapiddweller.stat.LatencyCounter;
+import com.rapiddweller.stat.LatencyDistribution;
+import com.rapiddweller.stat.LatencyHistogram;
+import com.rapiddweller.stat.LinearLatencyHistogram;
+import com.rapiddweller.stat.LogLinearLatencyHistogram;
 
 import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.rapiddweller.contiperf.util.ContiPerfUtil.unitSymbol;
 
 /**
  * {@link InvokerProxy} that provides performance tracking features.<br/><br/>
@@ -30,15 +51,45 @@
  */
 public class PerformanceTracker extends InvokerProxy {
 	
+	/** The number of significant digits used for time units finer than milliseconds */
+	private static final int DEFAULT_SIGNIFICANT_DIGITS = 3;
+
 	private final ExecutionConfig executionConfig;
     private final PerformanceRequirement requirement;
+    private final TimeUnit timeUnit;
+    private final long unitNanos;
+    private final long maxLatency;
+    private final String id;
+    private final String maxViolationMessage;
     
     private ReportContext context;
+    private ReportModule[] modules;
+    private AsyncReportDispatcher dispatcher;
+    private long droppedReportCount;
     
     private final Clock[] clocks;
     private LatencyCounter[] counters;
-    private boolean trackingStarted;
-    private long warmUpFinishedTime;
+    private LatencyCounter scheduleLag;
+    private LatencyCounter invocationIntervals;
+    private IntervalRecorder timeSeries;
+    private BatchMeans batchMeans;
+    private final ThreadLocal<long[]> lastInvocationStart;
+    /** numbers the invoking threads in the order of their first invocation, for the report modules */
+    private final AtomicInteger threadCount;
+    private final ThreadLocal<int[]> threadIndex;
+    private SensorSet sensors;
+    private AllocationSensor allocationSensor;
+    private ExecutionStatistics statistics;
+    private final AtomicBoolean trackingRequested;
+    private volatile boolean trackingStarted;
+    private final AtomicLong warmUpStartTime;
+    private final long maxWarmUp;
+    private final WarmUpDetector warmUpDetector;
+    private final LongAdder warmUpInvocations;
+    private RequirementMonitor requirementMonitor;
+    private final AtomicLong nextEvaluation;
+    private volatile Verdict earlyVerdict;
+    private volatile Throwable startFailure;
 
 	public PerformanceTracker(Invoker target, 
 			PerformanceRequirement requirement, ReportContext context) {
@@ -50,58 +101,192 @@ public PerformanceTracker(Invoker target, ExecutionConfig executionConfig,
 	    super(target);
 	    this.executionConfig = (executionConfig != null ? executionConfig : new ExecutionConfig(0));
 	    this.requirement = requirement;
+	    this.timeUnit = this.executionConfig.getTimeUnit();
+	    this.unitNanos = timeUnit.toNanos(1);
+	    this.maxLatency = (requirement != null && requirement.getMax() >= 0 ? 
+	    		timeUnit.convert(requirement.getMax(), requirement.getTimeUnit()) : -1);
+	    this.id = target.getId();
+	    this.maxViolationMessage = (maxLatency >= 0 ? "Method " + id + " exceeded time limit of " + 
+    			requirement.getMax() + " " + unitSymbol(requirement.getTimeUnit()) + " running " : null);
 	    this.setContext(context);
 	    this.clocks = clocks;
 	    this.counters = null;
+	    this.trackingRequested = new AtomicBoolean(false);
 	    this.trackingStarted = false;
-	    this.warmUpFinishedTime = -1;
+	    this.warmUpStartTime = new AtomicLong(-1);
+	    this.maxWarmUp = this.executionConfig.getMaxWarmUp();
+	    WarmUpMode warmUpMode = this.executionConfig.getWarmUpMode();
+	    this.warmUpDetector = (warmUpMode != WarmUpMode.FIXED ? 
+	    		new WarmUpDetector(this.executionConfig.getWarmUpWindow(), 
+	    				warmUpMode == WarmUpMode.STEADY_LATENCY_AND_JIT) : null);
+	    this.warmUpInvocations = new LongAdder();
+	    this.nextEvaluation = new AtomicLong(Long.MAX_VALUE);
+	    this.lastInvocationStart = ThreadLocal.withInitial(() -> new long[] { -1 });
+	    this.threadCount = new AtomicInteger();
+	    this.threadIndex = ThreadLocal.withInitial(() -> new int[] { threadCount.getAndIncrement() });
     }
 	
 	public void setContext(ReportContext context) {
 		this.context = context;
+		this.modules = snapshotModules();
 	}
 	
     public LatencyCounter[] getCounters() {
 	    return counters;
     }
 
+	/** Starts the measurement. Only the first of concurrent calls performs the transition, 
+	 *  the others wait until it is complete. If it fails, the others fail as well and 
+	 *  a later call may retry. */
 	public void startTracking() {
+		if (!trackingRequested.compareAndSet(false, true)) {
+			while (!trackingStarted && trackingRequested.get())
+				Thread.yield();
+			Throwable failure = startFailure;
+			if (!trackingStarted && failure != null)
+				throw new PerfTestExecutionError("Starting the measurement of " + id + " failed", failure);
+			return;
+		}
+		startFailure = null;
+		try {
+			initTracking();
+		} catch (RuntimeException | Error e) {
+			closeDispatcher();
+			// the failure is published before the flag is reset, so waiting threads see it when they stop waiting
+			startFailure = e;
+			trackingRequested.set(false);
+			throw e;
+		}
+		// the volatile write publishes the fields initialized above to all invoking threads
+		trackingStarted = true;
+	}
+
+	private void initTracking() {
+		this.modules = snapshotModules();
 		reportStart();
-    	int max = (requirement != null ? requirement.getMax() : -1);
+		this.dispatcher = createDispatcher();
+    	int expectedMax = expectedMaxLatency();
     	this.counters = new LatencyCounter[clocks.length];
     	for (int i = 0; i < clocks.length; i++) {
-        	LatencyCounter counter = new LatencyCounter(target.toString(), clocks[i].getName(), max >= 0 ? max : 1000);
+        	LatencyHistogram histogram = createHistogram(expectedMax);
+        	LatencyCounter counter = new LatencyCounter(target.toString(), clocks[i].getName(), histogram, timeUnit);
         	this.counters[i] = counter;
     		counter.start();
     	}
-    	trackingStarted = true;
+    	this.statistics = new ExecutionStatistics();
+    	long warmUpStart = warmUpStartTime.get();
+    	this.statistics.setWarmUp(warmUpStart >= 0 ? System.nanoTime() / 1000000 - warmUpStart : 0, 
+    			warmUpInvocations.sum());
+    	if (executionConfig.getRate() > 0) {
+    		this.scheduleLag = new LatencyCounter(target.toString(), "schedule lag", createHistogram(expectedMax), timeUnit);
+    		this.scheduleLag.start();
+    		this.statistics.setScheduleLag(scheduleLag);
+    	} else if (executionConfig.isCorrectCoordinatedOmission() && executionConfig.getExpectedInterval() <= 0)
+    		this.invocationIntervals = new LatencyCounter(target.toString(), "invocation interval", createHistogram(expectedMax), timeUnit);
+    	if (executionConfig.getStatisticsInterval() > 0)
+    		this.timeSeries = new IntervalRecorder(System.nanoTime() / 1000000, executionConfig.getStatisticsInterval());
+    	if (requirement != null && requirement.getMaxRegressionPercent() >= 0)
+    		this.batchMeans = new BatchMeans();
+    	EarlyTermination earlyTermination = executionConfig.getEarlyTermination();
+    	if (requirement != null && earlyTermination != EarlyTermination.NONE) {
+    		this.requirementMonitor = new RequirementMonitor(requirement, timeUnit, earlyTermination == EarlyTermination.ON_DECISION);
+    		this.earlyVerdict = null;
+    		this.nextEvaluation.set(System.nanoTime() / 1000000 + executionConfig.getEvaluationInterval());
+    	}
+    	this.sensors = SensorSet.createDefault(requirement != null && requirement.getAllocationPerInvocation() >= 0);
+    	this.allocationSensor = sensors.getAllocationSensor();
+    	this.sensors.start();
 	}
 	
 	@Override
     public Object invoke(Object[] args) throws Exception {
-	    long clock0StartTime = clocks[0].getTime();
-    	long realStartMillis = System.nanoTime() / 1000000;
-		if (warmUpFinishedTime == -1)
-			warmUpFinishedTime = realStartMillis + executionConfig.getWarmUp();
-	    checkState(realStartMillis);
-		Object result = super.invoke(args);
-	    int latency = (int) (clocks[0].getTime() - clock0StartTime);
-	    if (isTrackingStarted())
+		return invoke(args, -1);
+	}
+	
+	/** Performs an invocation and measures its latency from the intended start time, 
+	 *  so that the delay of a late start is included. 
+	 *  @param intendedStartNanos the {@link System#nanoTime()} at which the invocation was due, 
+	 *  or -1 for measuring from the actual start */
+	@Override
+    public Object invoke(Object[] args, long intendedStartNanos) throws Exception {
+	    long realStartNanos = System.nanoTime();
+    	long realStartMillis = realStartNanos / 1000000;
+	    boolean tracking = (trackingStarted || checkWarmUp(realStartMillis));
+		AllocationSensor allocationSensor = (tracking ? this.allocationSensor : null);
+		long allocationStart = (allocationSensor != null ? allocationSensor.threadAllocatedBytes() : -1);
+	    long clock0StartTime = clocks[0].getNanoTime();
+		Object result;
+		try {
+			result = super.invoke(args);
+		} catch (Throwable t) {
+			if (tracking && timeSeries != null)
+				timeSeries.addError(realStartMillis);
+			throw t;
+		}
+	    long elapsed = clocks[0].getNanoTime() - clock0StartTime;
+	    long allocated = (allocationStart >= 0 ? allocationSensor.threadAllocatedBytes() - allocationStart : -1);
+	    long lag = (intendedStartNanos >= 0 ? Math.max(realStartNanos - intendedStartNanos, 0) : 0);
+	    long latency = (elapsed + lag) / unitNanos;
+	    if (tracking) {
 	    	for (LatencyCounter counter : counters)
 	    		counter.addSample(latency);
+	    	if (scheduleLag != null && intendedStartNanos >= 0)
+	    		scheduleLag.addSample(lag / unitNanos);
+	    	if (invocationIntervals != null)
+	    		recordInvocationInterval(realStartNanos);
+	    	if (allocated >= 0)
+	    		allocationSensor.addSample(allocated);
+	    	if (timeSeries != null)
+	    		timeSeries.addSample(latency, realStartMillis);
+	    	if (batchMeans != null)
+	    		batchMeans.addSample(elapsed + lag);
+	    	if (realStartMillis >= nextEvaluation.get())
+	    		evaluateRequirements(realStartMillis);
+	    } else {
+	    	warmUpInvocations.increment();
+	    	if (warmUpDetector != null && warmUpDetector.addSample(elapsed))
+	    		startTracking();
+	    }
 	    reportInvocation(latency, realStartMillis);
-	    if (requirement != null && requirement.getMax() >= 0 && latency > requirement.getMax() 
-	    		&& executionConfig.isCancelOnViolation())
-	    	context.fail("Method " + getId() + " exceeded time limit of " + 
-	    			requirement.getMax() + " ms running " + latency + " ms");
+	    if (maxLatency >= 0 && latency > maxLatency && executionConfig.isCancelOnViolation())
+	    	context.fail(maxViolationMessage + latency + " " + unitSymbol(timeUnit));
 	    return result;
 	}
 
-	private synchronized void checkState(long callStart) {
-		if (callStart >= warmUpFinishedTime && !trackingStarted)
+	/** Initializes the warm-up period on the first invocation and starts tracking when it is over. 
+	 *  @return true if the measurement has started */
+	private boolean checkWarmUp(long callStart) {
+		long warmUpStart = warmUpStartTime.get();
+		if (warmUpStart == -1) {
+			warmUpStartTime.compareAndSet(-1, callStart);
+			warmUpStart = warmUpStartTime.get();
+		}
+		if (callStart - warmUpStart >= maxWarmUp)
 			startTracking();
+		return trackingStarted;
 	}
 	
+	/** Evaluates the requirements on the running test if it is the turn of the calling thread, 
+	 *  and ends the test once the outcome has been decided */
+	private void evaluateRequirements(long now) {
+		long next = nextEvaluation.get();
+		if (next > 0) {
+			if (!nextEvaluation.compareAndSet(next, now + executionConfig.getEvaluationInterval()))
+				return;
+			Verdict verdict = requirementMonitor.evaluate(counters[0], now);
+			if (verdict == Verdict.IGNORED)
+				return;
+			statistics.setEarlyTermination(requirementMonitor.getMessage());
+			earlyVerdict = verdict;
+			// from now on, every invocation ends its thread
+			nextEvaluation.set(0);
+		}
+		if (earlyVerdict == Verdict.FAILURE)
+			context.fail(id + ": " + requirementMonitor.getMessage());
+		else
+			throw new PerfTestEarlySuccess(id + ": " + requirementMonitor.getMessage());
+	}
+
 	public boolean isTrackingStarted() {
 		return trackingStarted;
 	}
@@ -111,43 +296,184 @@ public void stopTracking() {
 			throw new RuntimeException("Trying to stop counter before it was started");
 		for (LatencyCounter counter : counters)
 			counter.stop();
+		if (scheduleLag != null)
+			scheduleLag.stop();
+		statistics.setResourceUsage(sensors.stop());
+		if (timeSeries != null)
+			statistics.setIntervals(timeSeries.getIntervals(System.nanoTime() / 1000000));
+		correctCoordinatedOmission();
+		compareWithBaseline();
+		closeDispatcher();
     	LatencyCounter mainCounter = counters[0];
-		mainCounter.printSummary(new PrintWriter(System.out));
+		PrintWriter out = new PrintWriter(System.out);
+		mainCounter.printSummary(out);
+		if (scheduleLag != null)
+			out.println("schedule lag: average " + (long) scheduleLag.averageLatency() + ", max " + 
+					scheduleLag.maxLatency() + " " + unitSymbol(timeUnit));
+		LatencyCounter corrected = statistics.getCorrectedLatency();
+		if (corrected != null)
+			out.println("corrected: median " + corrected.percentileLatency(50) + ", 90%: " + corrected.percentileLatency(90) + 
+					", 99%: " + corrected.percentileLatency(99) + ", max " + corrected.maxLatency() + " " + unitSymbol(timeUnit) + 
+					" (expected interval " + statistics.getExpectedInterval() + " " + unitSymbol(timeUnit) + ")");
+		if (statistics.getEarlyTermination() != null)
+			out.println("terminated early: " + statistics.getEarlyTermination());
+		if (statistics.getBaselineComparison() != null)
+			out.println("baseline: " + statistics.getBaselineComparison());
+		if (statistics.getWarmUpInvocations() > 0)
+			out.println("warm-up: " + statistics.getWarmUpTime() + " ms, " + 
+					statistics.getWarmUpInvocations() + " invocations discarded");
+		printResourceUsage(statistics.getResourceUsage(), out);
+		if (droppedReportCount > 0)
+			out.println("dropped: " + droppedReportCount + " invocation reports");
+		out.flush();
     	reportCompletion();
     	if (requirement != null)
     		checkRequirements(mainCounter.duration());
     	this.trackingStarted = false;
+    	this.trackingRequested.set(false);
+	}
+
+	/** @return the number of invocations which were not reported to the report modules 
+	 *  since an asynchronous report buffer was full */
+	public long getDroppedReportCount() {
+		return droppedReportCount;
+	}
+
+	/** @return additional statistics of the last test execution */
+	public ExecutionStatistics getStatistics() {
+		return statistics;
 	}
 
 	public void clear() {
 		counters = null;
+		sensors = null;
+		allocationSensor = null;
+		scheduleLag = null;
+		invocationIntervals = null;
+		timeSeries = null;
+		requirementMonitor = null;
 	}
 
 	// helper methods --------------------------------------------------------------------------------------------------
 	
+	private int expectedMaxLatency() {
+		return (maxLatency >= 0 && maxLatency < Integer.MAX_VALUE ? (int) maxLatency : 1000);
+	}
+
+	/** Uses a lock-free histogram when several threads record samples concurrently. */
+	private LatencyHistogram createHistogram(int expectedMaxLatency) {
+		if (executionConfig.getThreads() > 1)
+			return new ConcurrentLatencyHistogram(() -> createBuckets(expectedMaxLatency));
+		else
+			return createBuckets(expectedMaxLatency);
+	}
+
+	private AbstractLatencyHistogram createBuckets(int expectedMaxLatency) {
+		int significantDigits = executionConfig.getSignificantDigits();
+		if (significantDigits == 0 && timeUnit.compareTo(TimeUnit.MILLISECONDS) < 0)
+			significantDigits = DEFAULT_SIGNIFICANT_DIGITS;
+		if (significantDigits > 0)
+			return new LogLinearLatencyHistogram(significantDigits);
+		else
+			return new LinearLatencyHistogram(expectedMaxLatency);
+	}
+
+	/** Records the time since the previous invocation of the current thread */
+	private void recordInvocationInterval(long startNanos) {
+		long[] lastStart = lastInvocationStart.get();
+		if (lastStart[0] >= 0)
+			invocationIntervals.addSample((startNanos - lastStart[0]) / unitNanos);
+		lastStart[0] = startNanos;
+	}
+
+	/** Back-fills the samples which were omitted while threads waited for slow invocations. 
+	 *  Rate-based tests measure from the intended start time and need no correction. */
+	private void correctCoordinatedOmission() {
+		if (!executionConfig.isCorrectCoordinatedOmission() || executionConfig.getRate() > 0)
+			return;
+		long interval = executionConfig.getExpectedInterval();
+		if (interval <= 0 && invocationIntervals != null && invocationIntervals.sampleCount() > 0)
+			interval = invocationIntervals.percentileLatency(50);
+		LatencyCounter corrected = counters[0].correctedForCoordinatedOmission(interval, createBuckets(expectedMaxLatency()));
+		statistics.setCorrectedLatency(corrected, interval);
+	}
+
+	/** Compares the run with its baseline and stores it as baseline if there is none yet, 
+	 *  unless the run was terminated early and thus has fewer invocations than configured */
+	private void compareWithBaseline() {
+		if (requirement == null || requirement.getMaxRegressionPercent() < 0)
+			return;
+		BaselineStore store = BaselineStore.createDefault();
+		LatencyDistribution current = batchMeans.distribution();
+		LatencyDistribution baseline = store.load(id);
+		if (baseline != null)
+			statistics.setBaselineComparison(BaselineComparison.compare(baseline, current, requirement.getMaxRegressionPercent()));
+		if ((baseline == null || BaselineStore.isUpdateRequested()) && statistics.getEarlyTermination() == null)
+			store.save(id, current);
+	}
+
+	private static void printResourceUsage(ResourceUsage usage, PrintWriter out) {
+		out.print("gc: " + usage.getGcCount() + " collections, " + usage.getGcTime() + " ms");
+		if (usage.getSafepointCount() >= 0)
+			out.print(", safepoints: " + usage.getSafepointCount() + ", " + usage.getSafepointTime() + " ms");
+		if (usage.getAllocationSamples() > 0)
+			out.print(", allocated: " + (long) usage.getAllocatedBytesPerInvocation() + " bytes/invocation");
+		out.println(", heap high water mark: " + usage.getHeapHighWaterMark() / 1024 + " KB, " + 
+				"jit: " + usage.getCompilationTime() + " ms, loaded classes: " + usage.getLoadedClasses());
+	}
+
+	/** Copies the report modules to an array which can be iterated on each invocation without allocating an iterator */
+	private ReportModule[] snapshotModules() {
+		return (context != null ? context.getReportModules().toArray(new ReportModule[0]) : new ReportModule[0]);
+	}
+
+	private AsyncReportDispatcher createDispatcher() {
+		ReportDispatch dispatch = executionConfig.getReportDispatch();
+		if (dispatch == ReportDispatch.SYNC || modules.length == 0)
+			return null;
+		return new AsyncReportDispatcher(id, modules, timeUnit, 
+				executionConfig.getReportBufferSize(), dispatch == ReportDispatch.ASYNC_DROP);
+	}
+
+	private void closeDispatcher() {
+		if (dispatcher != null) {
+			AsyncReportDispatcher dispatcher = this.dispatcher;
+			this.dispatcher = null;
+			dispatcher.close();
+			this.droppedReportCount = dispatcher.getDroppedCount();
+		}
+	}
+
 	private void reportStart() {
-		for (ReportModule module : context.getReportModules())
-			module.starting(getId());
+		for (ReportModule module : modules)
+			module.starting(id, timeUnit);
 	}
 
-	private void reportInvocation(int latency, long callStart) {
-		for (ReportModule module : context.getReportModules())
-			module.invoked(getId(), latency, callStart);
+	private void reportInvocation(long latency, long callStart) {
+		int threadIndex = this.threadIndex.get()[0];
+		AsyncReportDispatcher dispatcher = this.dispatcher;
+		if (dispatcher != null) {
+			dispatcher.invoked(latency, callStart, threadIndex);
+			return;
+		}
+		ReportModule[] modules = this.modules;
+		for (int i = 0; i < modules.length; i++)
+			modules[i].invoked(id, latency, timeUnit, callStart, threadIndex);
 	}
 
 	private void reportCompletion() {
-		for (ReportModule module : context.getReportModules())
-			module.completed(getId(), counters, executionConfig, requirement);
+		for (ReportModule module : modules)
+			module.completed(id, counters, executionConfig, requirement, statistics);
 	}
 
 	private void checkRequirements(long elapsedMillis) {
-	    long requiredMax = requirement.getMax();
     	LatencyCounter mainCounter = counters[0];
-		if (requiredMax >= 0) {
-    		if (mainCounter .maxLatency() > requiredMax)
-    			context.fail("The maximum latency of " + 
-    					requiredMax + " ms was exceeded, Measured: " + mainCounter.maxLatency() + " ms");
-    	}
+    	String requiredUnit = unitSymbol(requirement.getTimeUnit());
+    	String measuredUnit = unitSymbol(timeUnit);
+		if (ReportUtil.maxVerdict(mainCounter, requirement) == Verdict.FAILURE)
+			context.fail("The maximum latency of " + 
+					requirement.getMax() + " " + requiredUnit + " was exceeded, Measured: " + 
+					mainCounter.maxLatency() + " " + measuredUnit);
 	    long requiredTotalTime = requirement.getTotalTime();
     	if (requiredTotalTime >= 0) {
     		if (elapsedMillis > requiredTotalTime)
@@ -161,15 +487,25 @@ private void checkRequirements(long elapsedMillis) {
     			context.fail("Test " + getId() + " had a throughput of only " + 
         				actualThroughput + " calls per second, required: " + requiredThroughput + " calls per second");
     	}
-    	int requiredAverage = requirement.getAverage();
-		if (requiredAverage >= 0 && mainCounter.averageLatency() > requiredAverage)
+		if (ReportUtil.averageVerdict(mainCounter, requirement) == Verdict.FAILURE)
 			context.fail("Average execution time of " + getId() + " exceeded the requirement of " + 
-					requiredAverage + " ms, measured " + mainCounter.averageLatency() + " ms");
+					requirement.getAverage() + " " + requiredUnit + ", measured " + 
+					mainCounter.averageLatency() + " " + measuredUnit);
+		if (ReportUtil.gcTimeVerdict(statistics, requirement) == Verdict.FAILURE)
+			context.fail("Garbage collection time of " + getId() + " exceeded the requirement of " + 
+					requirement.getMaxGcTime() + " ms, measured " + statistics.getResourceUsage().getGcTime() + " ms");
+		if (ReportUtil.regressionVerdict(statistics, requirement) == Verdict.FAILURE)
+			context.fail(getId() + " is more than " + requirement.getMaxRegressionPercent() + "% slower than its baseline: " + 
+					statistics.getBaselineComparison());
+		if (ReportUtil.allocationVerdict(statistics, requirement) == Verdict.FAILURE)
+			context.fail("Allocation of " + getId() + " exceeded the requirement of " + 
+					requirement.getAllocationPerInvocation() + " bytes per invocation, measured " + 
+					(long) statistics.getResourceUsage().getAllocatedBytesPerInvocation() + " bytes");
     	for (PercentileRequirement percentile : requirement.getPercentileRequirements()) {
-    		long measuredLatency = mainCounter.percentileLatency(percentile.getPercentage());
-			if (measuredLatency > percentile.getMillis())
+			if (ReportUtil.percentileVerdict(mainCounter, percentile) == Verdict.FAILURE)
 				context.fail(percentile.getPercentage() + "-percentile of " + getId() + " exceeded the requirement of " + 
-    					percentile.getMillis() + " ms, measured " + measuredLatency + " ms");
+    					percentile.getLimit() + " " + unitSymbol(percentile.getTimeUnit()) + ", measured " + 
+						mainCounter.percentileLatency(percentile.getPercentage()) + " " + measuredUnit);
     	}
     }
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import com.rapiddweller.contiperf.util.ContiPerfUtil;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Calls the invoker at the start times defined by an {@link ArrivalSchedule}, which is shared 
+ * by all runners of a test (open workload model). If the invoker falls behind schedule, 
+ * due invocations are started immediately and their latency is measured from the intended 
+ * start time, so a slow system under test does not reduce the applied load.<br/><br/>
+ * Created: 17.10.2026 15:20:51
+ * @since 2.6.0
+ * @author agent
+ */
+public class RateRunner implements InvocationRunner {
+
+    private final ArgumentsProvider argsProvider;
+    private final ArrivalSchedule schedule;
+    private Invoker invoker;
+
+    public RateRunner(Invoker invoker, ArgumentsProvider argsProvider, ArrivalSchedule schedule) {
+	    this.invoker = invoker;
+	    this.argsProvider = argsProvider;
+	    this.schedule = schedule;
+    }
+
+    public void run() {
+    	try {
+    		long intendedStart;
+    		while ((intendedStart = schedule.next()) >= 0) {
+    			waitUntil(intendedStart);
+	    	    invoker.invoke(argsProvider.next(), intendedStart);
+			}
+    	} catch (Exception e) {
+    		throw ContiPerfUtil.executionError(e);
+    	}
+    }
+
+	public void close() {
+	    invoker = null;
+    }
+	
+	private static void waitUntil(long nanoTime) throws InterruptedException {
+		long delay;
+		while ((delay = nanoTime - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(delay);
+			if (Thread.interrupted())
+				throw new InterruptedException();
+		}
+	}
+    
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+/**
+ * Defines how invocation events are passed to the {@link com.rapiddweller.contiperf.report.ReportModule}s.<br/><br/>
+ * Created: 17.10.2026 11:02:15
+ * @since 2.6.0
+ * @author agent
+ */
+public enum ReportDispatch {
+	
+	/** Report modules are called synchronously by the measured thread after each invocation. */
+	SYNC,
+	
+	/** Invocations are buffered and reported by a background thread. 
+	 *  When a thread's buffer is full, the thread waits until the reporter has caught up. */
+	ASYNC_BLOCK,
+	
+	/** Invocations are buffered and reported by a background thread. 
+	 *  When a thread's buffer is full, the invocation is not reported but counted as dropped. */
+	ASYNC_DROP
+	
+}
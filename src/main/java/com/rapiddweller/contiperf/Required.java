@@ -17,6 +17,7 @@
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.TYPE;
@@ -58,9 +59,28 @@
 	/** Requires the execution time of 99% of the test executions of the specified value or less. */
 	int percentile99() default -1;
 	
-	/** Defines a custom set of percentile requirements as a comma-separated list of percentile:millisecond pairs,
+	/** Defines a custom set of percentile requirements as a comma-separated list of percentile:latency pairs,
 	 *  for example 80:300,96:2000 to require 80% of the invocations to take 300 ms or less and 96% to take 2000 ms 
 	 *  or less. */
 	String percentiles() default "";
 	
+	/** The time unit of the {@link #average()}, {@link #median()}, {@link #max()} and percentile requirements. 
+	 *  {@link #totalTime()} is always specified in milliseconds. The default is {@link TimeUnit#MILLISECONDS}. */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+	
+	/** Requires the accumulated garbage collection time during the measurement to be the specified number 
+	 *  of milliseconds or less. Garbage collection is measured process-wide, so it includes the activity 
+	 *  of tests which run concurrently. */
+	int maxGcTime()    default -1;
+	
+	/** Requires the average number of bytes allocated by an invocation in the invoking thread 
+	 *  to be the specified value or less. */
+	int allocationPerInvocation() default -1;
+	
+	/** Requires the latencies not to be more than the specified percentage greater than those of a baseline run, 
+	 *  as decided by a significance test on the average latencies of batches of invocations with 99% confidence 
+	 *  (see {@link BaselineComparison}). The first run stores its batch averages as baseline in the report folder, 
+	 *  which is replaced when the system property <code>contiperf.updateBaseline</code> is set to true. */
+	int maxRegressionPercent() default -1;
+	
 }
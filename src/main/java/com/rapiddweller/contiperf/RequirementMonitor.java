@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import com.rapiddweller.contiperf.report.Verdict;
+import com.rapiddweller.stat.LatencyCounter;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.rapiddweller.contiperf.util.ContiPerfUtil.unitSymbol;
+
+/**
+ * Evaluates the average, percentile, throughput and max requirements against the live counter 
+ * of a running test and decides when their outcome is statistically certain.
+ * Average latency, throughput and the fraction of invocations above a percentile limit are estimated 
+ * with batch means: Each evaluation closes a batch, and the variation of the batch values yields 
+ * a confidence interval. Correlation of invocations within a batch is reflected in this variation, 
+ * but batches are assumed to be long enough to be independent of each other. 
+ * For percentiles, the interval is at least as wide as the binomial one.<br/><br/>
+ * Since the requirements are tested again at each evaluation, the confidence intervals are widened 
+ * with the number of evaluations: The k-th evaluation spends an error probability of 
+ * alpha / (m * k * (k + 1)) for each of the m tested values, which sums up to at most alpha 
+ * over any number of evaluations, and the interval width is derived from the Gaussian tail bound 
+ * 2 * exp(-z&sup2; / 2), which is conservative.<br/><br/>
+ * A violated max requirement is certain at once, while its fulfillment can only be decided at the end, 
+ * as are the total time, GC time, allocation and baseline regression requirements.<br/><br/>
+ * Created: 18.10.2026 18:20:32
+ * @since 2.6.0
+ * @author agent
+ */
+public class RequirementMonitor {
+	
+	/** The maximum probability of a wrong early decision over all evaluations of a test run */
+	public static final double DEFAULT_ALPHA = 0.01;
+	
+	/** The minimum number of batches before a decision is made */
+	static final int MIN_BATCHES = 5;
+	
+	private final PerformanceRequirement requirement;
+	private final TimeUnit unit;
+	private final double alpha;
+	private final boolean decidesSuccess;
+	private final int testedValues;
+	
+	private long lastCount;
+	private long lastTotal;
+	private long lastTime;
+	private int batches;
+	private int looks;
+	private final Batches latencies;
+	private final Batches rates;
+	private final long[] lastAbove;
+	private final Batches[] aboveFractions;
+	private String message;
+	
+	/**
+	 * @param requirement the requirement to evaluate
+	 * @param unit the time unit of the evaluated counters
+	 * @param decidesSuccess if set, a certain fulfillment of the requirements is reported as {@link Verdict#SUCCESS}
+	 */
+	public RequirementMonitor(PerformanceRequirement requirement, TimeUnit unit, boolean decidesSuccess) {
+		this(requirement, unit, DEFAULT_ALPHA, decidesSuccess);
+	}
+	
+	/** @param alpha the maximum probability of a wrong early decision over all evaluations */
+	public RequirementMonitor(PerformanceRequirement requirement, TimeUnit unit, double alpha, boolean decidesSuccess) {
+		if (alpha <= 0 || alpha >= 1)
+			throw new IllegalArgumentException("alpha must be between 0 and 1, but was " + alpha);
+		this.requirement = requirement;
+		this.unit = unit;
+		this.alpha = alpha;
+		this.decidesSuccess = decidesSuccess && successDecidable(requirement);
+		int percentiles = requirement.getPercentileRequirements().length;
+		this.testedValues = Math.max(1, (requirement.getAverage() >= 0 ? 1 : 0) + 
+				(requirement.getThroughput() > 0 ? 1 : 0) + percentiles);
+		this.lastTime = -1;
+		this.batches = 0;
+		this.looks = 0;
+		this.latencies = new Batches();
+		this.rates = new Batches();
+		this.lastAbove = new long[percentiles];
+		this.aboveFractions = new Batches[percentiles];
+		for (int i = 0; i < percentiles; i++)
+			aboveFractions[i] = new Batches();
+	}
+	
+	// interface -------------------------------------------------------------------------------------------------------
+	
+	/** 
+	 * Closes a batch and evaluates the requirements. 
+	 * @param counter the live counter of the measurement
+	 * @param nowMillis the current time in milliseconds
+	 * @return {@link Verdict#FAILURE} if a violation is certain, {@link Verdict#SUCCESS} if the fulfillment of 
+	 *     all requirements is certain and may be decided, otherwise {@link Verdict#IGNORED}
+	 */
+	public synchronized Verdict evaluate(LatencyCounter counter, long nowMillis) {
+		long count = counter.sampleCount();
+		long total = counter.totalLatency();
+		PercentileRequirement[] percentiles = requirement.getPercentileRequirements();
+		long[] above = new long[percentiles.length];
+		for (int i = 0; i < percentiles.length; i++)
+			above[i] = countAbove(counter, percentiles[i]);
+		if (lastTime >= 0 && nowMillis > lastTime) {
+			long batchCount = count - lastCount;
+			if (batchCount > 0) {
+				latencies.add((double) (total - lastTotal) / batchCount);
+				for (int i = 0; i < percentiles.length; i++)
+					aboveFractions[i].add((double) (above[i] - lastAbove[i]) / batchCount);
+			}
+			rates.add(batchCount * 1000. / (nowMillis - lastTime));
+			batches++;
+		}
+		lastCount = count;
+		lastTotal = total;
+		lastTime = nowMillis;
+		System.arraycopy(above, 0, lastAbove, 0, above.length);
+		if (requirement.getMax() >= 0 && counter.maxLatency() > unit.convert(requirement.getMax(), requirement.getTimeUnit())) {
+			message = "The maximum latency of " + requirement.getMax() + " " + unitSymbol(requirement.getTimeUnit()) + 
+					" was exceeded, measured: " + counter.maxLatency() + " " + unitSymbol(unit);
+			return Verdict.FAILURE;
+		}
+		if (batches < MIN_BATCHES)
+			return Verdict.IGNORED;
+		looks++;
+		double z = Math.sqrt(2 * Math.log(2. * testedValues * looks * (looks + 1) / alpha));
+		boolean success = true;
+		if (requirement.getAverage() >= 0) {
+			Verdict verdict = averageVerdict(counter, z);
+			if (verdict == Verdict.FAILURE)
+				return Verdict.FAILURE;
+			success &= (verdict == Verdict.SUCCESS);
+		}
+		if (requirement.getThroughput() > 0) {
+			Verdict verdict = throughputVerdict(z);
+			if (verdict == Verdict.FAILURE)
+				return Verdict.FAILURE;
+			success &= (verdict == Verdict.SUCCESS);
+		}
+		for (int i = 0; i < percentiles.length; i++) {
+			Verdict verdict = percentileVerdict(counter, percentiles[i], aboveFractions[i], z);
+			if (verdict == Verdict.FAILURE)
+				return Verdict.FAILURE;
+			success &= (verdict == Verdict.SUCCESS);
+		}
+		if (success && decidesSuccess) {
+			message = "All requirements are met after " + count + " invocations";
+			return Verdict.SUCCESS;
+		}
+		return Verdict.IGNORED;
+	}
+	
+	/** @return a description of the last decision */
+	public synchronized String getMessage() {
+		return message;
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private Verdict averageVerdict(LatencyCounter counter, double z) {
+		if (latencies.count < 2)
+			return Verdict.IGNORED;
+		double limit = (double) requirement.getAverage() * requirement.getTimeUnit().toNanos(1) / unit.toNanos(1);
+		double average = counter.averageLatency();
+		double margin = z * latencies.standardError();
+		if (average - margin > limit) {
+			message = "Average latency exceeds the requirement of " + requirement.getAverage() + " " + 
+					unitSymbol(requirement.getTimeUnit()) + ", measured " + average + " +/- " + margin + " " + unitSymbol(unit);
+			return Verdict.FAILURE;
+		}
+		return (average + margin <= limit ? Verdict.SUCCESS : Verdict.IGNORED);
+	}
+
+	private Verdict throughputVerdict(double z) {
+		double throughput = rates.mean();
+		double margin = z * rates.standardError();
+		if (throughput + margin < requirement.getThroughput()) {
+			message = "Throughput falls short of the requirement of " + requirement.getThroughput() + 
+					" calls per second, measured " + throughput + " +/- " + margin;
+			return Verdict.FAILURE;
+		}
+		return (throughput - margin >= requirement.getThroughput() ? Verdict.SUCCESS : Verdict.IGNORED);
+	}
+
+	private Verdict percentileVerdict(LatencyCounter counter, PercentileRequirement percentile, Batches fractions, double z) {
+		long n = counter.sampleCount();
+		if (percentile.getLimit() < 0 || n == 0 || fractions.count < 2)
+			return Verdict.IGNORED;
+		double allowed = 1 - percentile.getPercentage() / 100.;
+		double above = (double) countAbove(counter, percentile) / n;
+		double standardError = Math.max(fractions.standardError(), Math.sqrt(allowed * (1 - allowed) / n));
+		double margin = z * standardError;
+		if (above - margin > allowed) {
+			message = percentile.getPercentage() + "-percentile exceeds the requirement of " + 
+					percentile.getLimit() + " " + unitSymbol(percentile.getTimeUnit()) + ": " + 
+					(above * 100) + "% of " + n + " invocations took longer";
+			return Verdict.FAILURE;
+		}
+		return (above + margin < allowed ? Verdict.SUCCESS : Verdict.IGNORED);
+	}
+
+	private long countAbove(LatencyCounter counter, PercentileRequirement percentile) {
+		long n = counter.sampleCount();
+		if (percentile.getLimit() < 0 || n == 0)
+			return 0;
+		long limit = unit.convert(percentile.getLimit(), percentile.getTimeUnit());
+		return Math.round(counter.percentileAboveLatency(limit) * n / 100);
+	}
+
+	/** The fulfillment of some requirements can only be decided at the end of a test run */
+	private static boolean successDecidable(PerformanceRequirement requirement) {
+		return requirement.getMax() < 0 && requirement.getMaxGcTime() < 0 && requirement.getAllocationPerInvocation() < 0 
+				&& requirement.getMaxRegressionPercent() < 0 
+				&& (requirement.getAverage() >= 0 || requirement.getThroughput() > 0 
+						|| requirement.getPercentileRequirements().length > 0);
+	}
+
+	/** Mean and standard error of batch averages */
+	private static final class Batches {
+		
+		int count;
+		double sum;
+		double sumOfSquares;
+		
+		void add(double value) {
+			count++;
+			sum += value;
+			sumOfSquares += value * value;
+		}
+		
+		double mean() {
+			return sum / count;
+		}
+		
+		double standardError() {
+			if (count < 2)
+				return Double.POSITIVE_INFINITY;
+			double variance = Math.max(sumOfSquares - sum * sum / count, 0) / (count - 1);
+			return Math.sqrt(variance / count);
+		}
+	}
+	
+}
@@ -14,8 +14,10 @@
  */
 package com.rapiddweller.contiperf;
 
+import com.rapiddweller.profile.Profiling;
 import com.rapiddweller.stat.CounterRepository;
 import com.rapiddweller.stat.LatencyCounter;
+import com.rapiddweller.stat.Sampler;
 
 /**
  * Stopwatch-style access to ContiPerf's {@link LatencyCounter} features.
@@ -36,6 +38,10 @@
  *     LatencyCounter counter = CounterRepository.getInstance("mytest");
  *     System.out.println("avg:" + counter.averageLatency + ", max:" + counter.maxLatency())
  * </pre>
+ * For frequent measurements in hot code, use a {@link com.rapiddweller.stat.CounterHandle} instead, 
+ * which records samples without creating objects.
+ * When a sample rate is configured (see {@link Profiling}), only the sampled stop watches measure time, 
+ * the others return -1 from {@link #elapsedTime()} and {@link #stop()}.
  * <br/><br/>
  * Created: 14.01.2011 11:17:30
  * @since 2.0.0
@@ -46,11 +52,19 @@
 public class StopWatch {
 
 	private final String name;
+	private final long weight;
 	private long startTime;
 	
 	public StopWatch(String name) {
 		this.name = name;
-		this.startTime = System.nanoTime();
+		Sampler sampler = Profiling.getSampler();
+		if (sampler.sample()) {
+			this.weight = sampler.weight();
+			this.startTime = System.nanoTime();
+		} else {
+			this.weight = 0;
+			this.startTime = 0;
+		}
 	}
 
 	public String getName() {
@@ -58,7 +72,11 @@ public String getName() {
 	}
 
 	public int elapsedTime() {
-		return (startTime == -1 ? -1 : (int) ((System.nanoTime() - startTime) / 1000000L));
+		return (startTime == -1 || weight == 0 ? -1 : (int) ((System.nanoTime() - startTime) / 1000000L));
+	}
+
+	public boolean isSampled() {
+		return (weight > 0);
 	}
 
 	public boolean isRunning() {
@@ -68,9 +86,13 @@ public boolean isRunning() {
 	public int stop() {
 		if (startTime == -1)
 			throw new IllegalStateException("Called stop() on StopWatch '" + name + "' which has already been stopped");
+		if (weight == 0) {
+			startTime = -1;
+			return -1;
+		}
 		int latency = (int) ((System.nanoTime() - startTime) / 1000000L);
 		startTime = -1;
-		CounterRepository.getInstance().addSample(name, latency);
+		CounterRepository.getInstance().handle(name).addSamples(latency, weight);
 		return latency;
 	}
 	
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Detects the end of the warm-up phase of a test: The latencies of the warm-up invocations are 
+ * grouped into consecutive windows, and a steady state is assumed when the average latencies 
+ * of the last windows have a coefficient of variation (standard deviation divided by mean) 
+ * below a threshold. Optionally, the JIT compiler must not have been active during these windows.<br/><br/>
+ * A window has at least {@link #MIN_WINDOW_SIZE} invocations, so that a steady state is only 
+ * detected after the tested code has passed the invocation thresholds of the optimizing compiler 
+ * (5,000 invocations and 15,000 invocations plus loop iterations in the tiered compilation 
+ * of HotSpot). Latencies which only seem steady on interpreted or C1-compiled code are not taken 
+ * for the end of the warm-up. The JVM only reports the total compilation time of all threads, 
+ * so compilations unrelated to the test also delay a steady state of 
+ * {@link WarmUpMode#STEADY_LATENCY_AND_JIT}.<br/><br/>
+ * Created: 18.10.2026 15:47:03
+ * @since 2.6.0
+ * @author agent
+ */
+public class WarmUpDetector {
+	
+	/** the minimum number of invocations in a window of a test */
+	public static final int MIN_WINDOW_SIZE = 4000;
+	public static final int DEFAULT_WINDOW_COUNT = 5;
+	public static final double DEFAULT_MAX_VARIATION = 0.1;
+	
+	/** the number of invocations before a detector of a test can report a steady state at the earliest */
+	public static final int MIN_WARM_UP_INVOCATIONS = MIN_WINDOW_SIZE * DEFAULT_WINDOW_COUNT;
+	
+	private final int windowSize;
+	private final double maxVariation;
+	private final CompilationMXBean compiler;
+	
+	private final double[] windowMeans;
+	private final long[] compilationTimes;
+	private int windows;
+	private long windowSamples;
+	private long windowTotal;
+	private boolean steady;
+	
+	/**
+	 * @param windowSize the number of invocations in a window, see {@link PerfTest#warmUpWindow()}
+	 * @param awaitCompilation if set, a steady state also requires that no JIT compilation happened during the windows
+	 */
+	public WarmUpDetector(int windowSize, boolean awaitCompilation) {
+		this(windowSize, DEFAULT_WINDOW_COUNT, DEFAULT_MAX_VARIATION, awaitCompilation);
+	}
+	
+	/**
+	 * @param windowSize the number of invocations in a window
+	 * @param windowCount the number of windows which need to be steady
+	 * @param maxVariation the maximum coefficient of variation of the window averages in a steady state
+	 * @param awaitCompilation if set, a steady state also requires that no JIT compilation happened 
+	 *     during the windows. This is ignored if the JVM does not monitor the compilation time.
+	 */
+	public WarmUpDetector(int windowSize, int windowCount, double maxVariation, boolean awaitCompilation) {
+		if (windowSize <= 0 || windowCount < 2)
+			throw new IllegalArgumentException("Illegal window configuration: " + windowCount + " x " + windowSize);
+		this.windowSize = windowSize;
+		this.maxVariation = maxVariation;
+		this.compiler = (awaitCompilation ? compiler() : null);
+		this.windowMeans = new double[windowCount];
+		this.compilationTimes = new long[windowCount + 1];
+		this.windows = 0;
+		this.windowSamples = 0;
+		this.windowTotal = 0;
+		this.steady = false;
+		if (compiler != null)
+			compilationTimes[0] = compiler.getTotalCompilationTime();
+	}
+	
+	/** Adds the latency of a warm-up invocation.
+	 *  @return true if a steady state has been reached */
+	public synchronized boolean addSample(long latency) {
+		if (steady)
+			return true;
+		windowTotal += latency;
+		if (++windowSamples == windowSize)
+			steady = closeWindow();
+		return steady;
+	}
+	
+	public synchronized boolean isSteady() {
+		return steady;
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private boolean closeWindow() {
+		int count = windowMeans.length;
+		windowMeans[windows % count] = (double) windowTotal / windowSamples;
+		windows++;
+		if (compiler != null)
+			compilationTimes[windows % (count + 1)] = compiler.getTotalCompilationTime();
+		windowSamples = 0;
+		windowTotal = 0;
+		if (windows < count)
+			return false;
+		if (compiler != null && compilationTimes[windows % (count + 1)] != compilationTimes[(windows + 1) % (count + 1)])
+			return false;
+		return variation(windowMeans) <= maxVariation;
+	}
+	
+	/** @return the coefficient of variation of the values */
+	static double variation(double[] values) {
+		double sum = 0;
+		for (double value : values)
+			sum += value;
+		double mean = sum / values.length;
+		if (mean == 0)
+			return 0;
+		double squares = 0;
+		for (double value : values)
+			squares += (value - mean) * (value - mean);
+		return Math.sqrt(squares / values.length) / mean;
+	}
+	
+	private static CompilationMXBean compiler() {
+		CompilationMXBean bean = ManagementFactory.getCompilationMXBean();
+		return (bean != null && bean.isCompilationTimeMonitoringSupported() ? bean : null);
+	}
+	
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+/**
+ * Defines when the warm-up of a test ends and the measurement begins.<br/><br/>
+ * Created: 18.10.2026 15:40:26
+ * @since 2.6.0
+ * @author agent
+ */
+public enum WarmUpMode {
+	
+	/** The measurement begins after the {@link PerfTest#warmUp()} time. */
+	FIXED,
+	
+	/** The measurement begins as soon as the latencies have reached a steady state, 
+	 *  at the latest after the {@link PerfTest#warmUp()} time. */
+	STEADY_LATENCY,
+	
+	/** The measurement begins as soon as the latencies have reached a steady state and 
+	 *  the JIT compiler has stopped compiling, at the latest after the {@link PerfTest#warmUp()} time. */
+	STEADY_LATENCY_AND_JIT
+	
+}
@@ -34,7 +34,12 @@ public CpuClock() {
 	}
 
 	public long getTime() {
-		return ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime() / 1000000;
+		return getNanoTime() / 1000000;
+	}
+
+	@Override
+	public long getNanoTime() {
+		return ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime();
 	}
 	
 }
@@ -18,7 +18,7 @@
 
 /**
  * {@link Clock} implementation which provides the system time 
- * using <code>{@link System#nanoTime()} / 1000000</code><br/><br/>.
+ * using {@link System#nanoTime()}<br/><br/>.
  * Created: 23.05.2012 07:52:53
  * @since 2.2.0
  * @author Volker Bergmann
@@ -35,4 +35,9 @@ public long getTime() {
 		return System.nanoTime() / 1000000;
 	}
 
+	@Override
+	public long getNanoTime() {
+		return System.nanoTime();
+	}
+
 }
@@ -34,7 +34,12 @@ public UserClock() {
 	}
 
 	public long getTime() {
-		return ManagementFactory.getThreadMXBean().getCurrentThreadUserTime() / 1000000;
+		return getNanoTime() / 1000000;
+	}
+
+	@Override
+	public long getNanoTime() {
+		return ManagementFactory.getThreadMXBean().getCurrentThreadUserTime();
 	}
 
 }
@@ -51,7 +51,13 @@ public void evaluate() {
     	Clock[] clocks = config.getClocks();
     	PerformanceTracker tracker = new PerformanceTracker(invoker, config, requirement, context, clocks);
 		try (InvocationRunner runner = createRunner(tracker)) {
-			runner.run();
+			try {
+				runner.run();
+			} catch (PerfTestEarlySuccess e) {
+				System.out.println(e.getMessage());
+			}
+			if (!tracker.isTrackingStarted() && config.getWarmUpMode() != WarmUpMode.FIXED)
+				throw new PerfTestExecutionError("Test finished before reaching a steady state");
 			if (!tracker.isTrackingStarted() && config.getWarmUp() > 0)
 				throw new PerfTestExecutionError(
 						"Test finished before warm-up period (" +
@@ -71,7 +77,20 @@ private InvocationRunner createRunner(PerformanceTracker tracker) {
 		int durationWithRampUp = config.getDuration() + config.getRampUp() * (config.getThreads() - 1);
 		int invocations = config.getInvocations();
 		WaitTimer waitTimer = config.getWaitTimer();
-		if (config.getDuration() > 0) {
+		if (config.getRate() > 0) {
+			// open workload model: invocations are scheduled at a constant rate
+			ArrivalSchedule schedule = (config.getDuration() > 0 ? 
+					new ArrivalSchedule(config.getRate(), -1, durationWithRampUp) : 
+					new ArrivalSchedule(config.getRate(), invocations, -1));
+			if (threads == 1)
+				runner = new RateRunner(tracker, provider, schedule);
+			else {
+				InvocationRunner[] runners = new InvocationRunner[threads];
+				for (int i = 0; i < threads; i++)
+					runners[i] = new RateRunner(tracker, provider, schedule);
+				runner = new ConcurrentRunner(id, runners, rampUp, config.isVirtualThreads());
+			}
+		} else if (config.getDuration() > 0) {
 			if (threads == 1) {
 				// single-threaded timed test
 				runner = new TimedRunner(tracker, provider, waitTimer, durationWithRampUp);
@@ -82,7 +101,7 @@ private InvocationRunner createRunner(PerformanceTracker tracker) {
 				InvocationRunner[] runners = new InvocationRunner[threads];
 				for (int i = 0; i < threads; i++)
 					runners[i] = new TimedRunner(tracker, provider, waitTimer, durationWithRampUp - i * rampUp);
-				runner = new ConcurrentRunner(id, runners, rampUp);
+				runner = new ConcurrentRunner(id, runners, rampUp, config.isVirtualThreads());
 			}
     	} else if (invocations >= 0) {
     		AtomicLong counter = new AtomicLong(invocations);
@@ -94,7 +113,7 @@ private InvocationRunner createRunner(PerformanceTracker tracker) {
     			InvocationRunner[] runners = new InvocationRunner[threads];
 	        	for (int i = 0; i < threads; i++)
 	        		runners[i] = new CountRunner(tracker, provider, waitTimer, counter);
-				runner = new ConcurrentRunner(id, runners, rampUp);
+				runner = new ConcurrentRunner(id, runners, rampUp, config.isVirtualThreads());
     		}
         } else 
         	throw new PerfTestConfigurationError("No useful invocation count or duration defined");
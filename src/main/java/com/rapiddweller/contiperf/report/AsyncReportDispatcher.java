@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.stat.Stripes;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reports invocations to {@link ReportModule}s asynchronously, keeping I/O and lock contention 
+ * of the modules out of the measured threads. Each measuring thread writes its invocations 
+ * to the preallocated ring buffer of primitive values of its stripe (see {@link Stripes}), 
+ * so that memory does not grow with the number of threads, for example with virtual threads. 
+ * The buffers are drained in batches by a background thread that calls the modules' 
+ * {@link ReportModule#invoked(String, long, TimeUnit, long, int)} method with the index 
+ * of the measuring thread, since stripes are shared by several threads.
+ * When a buffer is full, the measuring thread either waits for the background thread 
+ * or drops the event and counts it, see {@link #getDroppedCount()}.<br/><br/>
+ * Created: 17.10.2026 11:10:48
+ * @since 2.6.0
+ * @author agent
+ */
+public class AsyncReportDispatcher {
+	
+	/** The time to wait when all buffers have been drained */
+	private static final long IDLE_PARK_NANOS = 1000000;
+	
+	/** The time a measuring thread waits for the background thread when its buffer is full */
+	private static final long FULL_PARK_NANOS = 10000;
+
+	private final String serviceId;
+	private final ReportModule[] modules;
+	private final TimeUnit timeUnit;
+	private final int bufferSize;
+	private final boolean dropOnOverflow;
+	private final AtomicReferenceArray<EventBuffer> buffers;
+	private final int mask;
+	private final Thread consumer;
+	private volatile boolean running;
+	private volatile RuntimeException error;
+
+	public AsyncReportDispatcher(String serviceId, ReportModule[] modules, TimeUnit timeUnit, 
+			int bufferSize, boolean dropOnOverflow) {
+		if (bufferSize <= 0)
+			throw new IllegalArgumentException("Buffer size must be positive, but was " + bufferSize);
+		this.serviceId = serviceId;
+		this.modules = modules;
+		this.timeUnit = timeUnit;
+		this.bufferSize = ceilPowerOfTwo(bufferSize);
+		this.dropOnOverflow = dropOnOverflow;
+		int stripes = Stripes.defaultCount();
+		this.buffers = new AtomicReferenceArray<>(stripes);
+		this.mask = stripes - 1;
+		this.running = true;
+		this.consumer = new Thread(this::run, "ContiPerf report dispatcher " + serviceId);
+		this.consumer.setDaemon(true);
+		this.consumer.start();
+	}
+	
+	/** Queues an invocation for reporting. This method is called by the measuring threads 
+	 *  and does not allocate memory after the first call of a stripe. */
+	public void invoked(long latency, long startTime, int threadIndex) {
+		if (!running) {
+			dispatch(latency, startTime, threadIndex);
+			return;
+		}
+		EventBuffer buffer = buffer();
+		if (buffer.offer(latency, startTime, threadIndex))
+			return;
+		if (dropOnOverflow) {
+			buffer.dropped.incrementAndGet();
+		} else {
+			do {
+				LockSupport.unpark(consumer);
+				LockSupport.parkNanos(this, FULL_PARK_NANOS);
+			} while (running && !buffer.offer(latency, startTime, threadIndex));
+			if (!running)
+				dispatch(latency, startTime, threadIndex);
+		}
+	}
+	
+	/** @return the number of invocations which have not been reported since a buffer was full */
+	public long getDroppedCount() {
+		long result = 0;
+		for (int i = 0; i < buffers.length(); i++) {
+			EventBuffer buffer = buffers.get(i);
+			if (buffer != null)
+				result += buffer.dropped.get();
+		}
+		return result;
+	}
+	
+	/** Reports all pending invocations and stops the background thread. 
+	 *  This is supposed to be called after the measuring threads have finished. */
+	public void close() {
+		running = false;
+		LockSupport.unpark(consumer);
+		try {
+			consumer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (error != null)
+			throw error;
+	}
+	
+	// helper methods --------------------------------------------------------------------------------------------------
+	
+	private static int ceilPowerOfTwo(int n) {
+		int result = 1;
+		while (result < n)
+			result <<= 1;
+		return result;
+	}
+
+	private EventBuffer buffer() {
+		int index = Stripes.index(mask);
+		EventBuffer buffer = buffers.get(index);
+		if (buffer == null) {
+			buffers.compareAndSet(index, null, new EventBuffer(bufferSize));
+			buffer = buffers.get(index);
+		}
+		return buffer;
+	}
+	
+	/** package-private for testing */
+	int bufferCount() {
+		int count = 0;
+		for (int i = 0; i < buffers.length(); i++)
+			if (buffers.get(i) != null)
+				count++;
+		return count;
+	}
+
+	private void run() {
+		try {
+			while (running)
+				if (drainAll() == 0)
+					LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+			drainAll();
+		} catch (RuntimeException e) {
+			error = e;
+			running = false;
+		}
+	}
+
+	private long drainAll() {
+		long count = 0;
+		for (int i = 0; i < buffers.length(); i++) {
+			EventBuffer buffer = buffers.get(i);
+			if (buffer != null)
+				count += drain(buffer);
+		}
+		return count;
+	}
+
+	private long drain(EventBuffer buffer) {
+		long head = buffer.head.get();
+		long tail = buffer.tail.get();
+		for (long position = head; position < tail; position++) {
+			int index = (int) position & buffer.mask;
+			dispatch(buffer.latencies[index], buffer.startTimes[index], buffer.threadIndexes[index]);
+		}
+		buffer.head.lazySet(tail);
+		return tail - head;
+	}
+	
+	private void dispatch(long latency, long startTime, int threadIndex) {
+		for (ReportModule module : modules)
+			module.invoked(serviceId, latency, timeUnit, startTime, threadIndex);
+	}
+	
+	/** Ring buffer for the invocations of a stripe of measuring threads with a single consumer. 
+	 *  Producers of the same stripe are serialized by the buffer's lock. */
+	static final class EventBuffer {
+		
+		final long[] latencies;
+		final long[] startTimes;
+		final int[] threadIndexes;
+		final int mask;
+		
+		/** The next position to read, only written by the background thread */
+		final AtomicLong head = new AtomicLong();
+		
+		/** The next position to write, only written under the buffer's lock */
+		final AtomicLong tail = new AtomicLong();
+		
+		final AtomicLong dropped = new AtomicLong();
+		
+		EventBuffer(int size) {
+			this.latencies = new long[size];
+			this.startTimes = new long[size];
+			this.threadIndexes = new int[size];
+			this.mask = size - 1;
+		}
+
+		synchronized boolean offer(long latency, long startTime, int threadIndex) {
+			long position = tail.get();
+			if (position - head.get() > mask)
+				return false;
+			int index = (int) position & mask;
+			latencies[index] = latency;
+			startTimes[index] = startTime;
+			threadIndexes[index] = threadIndex;
+			tail.lazySet(position + 1);
+			return true;
+		}
+		
+	}
+	
+}
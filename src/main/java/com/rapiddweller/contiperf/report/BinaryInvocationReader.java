@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.contiperf.clock.SystemClock;
+import com.rapiddweller.stat.AbstractLatencyHistogram;
+import com.rapiddweller.stat.LatencyCounter;
+import com.rapiddweller.stat.LinearLatencyHistogram;
+import com.rapiddweller.stat.LogLinearLatencyHistogram;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+
+import static com.rapiddweller.contiperf.report.BinaryInvocationReportModule.*;
+
+/**
+ * Reads the invocation log files written by the {@link BinaryInvocationReportModule} 
+ * and converts them to the CSV format of the {@link CSVInvocationReportModule} 
+ * or to a {@link LatencyCounter}. It can be used from the command line: 
+ * <code>java com.rapiddweller.contiperf.report.BinaryInvocationReader &lt;reportFolder&gt; &lt;serviceId&gt;</code>
+ * writes the <code>&lt;serviceId&gt;.inv.csv</code> file to the report folder.<br/><br/>
+ * Created: 17.10.2026 13:04:26
+ * @since 2.6.0
+ * @author agent
+ */
+public class BinaryInvocationReader {
+	
+	/** Receives the invocations read from a binary invocation log */
+	public interface InvocationHandler {
+		void invoked(long startTime, long latency, int threadIndex, int outcome);
+	}
+	
+	private final File reportFolder;
+	private final String serviceId;
+
+	public BinaryInvocationReader(File reportFolder, String serviceId) {
+		this.reportFolder = reportFolder;
+		this.serviceId = serviceId;
+	}
+	
+	public static void main(String[] args) {
+		if (args.length != 2) {
+			System.out.println("Usage: BinaryInvocationReader <reportFolder> <serviceId>");
+			return;
+		}
+		File reportFolder = new File(args[0]);
+		new BinaryInvocationReader(reportFolder, args[1]).writeCSV(CSVInvocationReportModule.file(reportFolder, args[1]));
+	}
+
+	/** @return the time unit of the logged latencies, or milliseconds if no invocation was logged */
+	public TimeUnit getTimeUnit() {
+		if (!segmentFile(reportFolder, serviceId, 0).exists())
+			return TimeUnit.MILLISECONDS;
+		return TimeUnit.values()[map(0).getInt(8)];
+	}
+	
+	/** Passes all logged invocations to the handler 
+	 *  @return the number of invocations */
+	public long read(InvocationHandler handler) {
+		long count = 0;
+		for (int segment = 0; segmentFile(reportFolder, serviceId, segment).exists(); segment++) {
+			MappedByteBuffer buffer = map(segment);
+			long records = buffer.getLong(RECORD_COUNT_OFFSET);
+			int recordSize = buffer.getInt(12);
+			for (long i = 0; i < records; i++) {
+				int position = (int) (HEADER_SIZE + i * recordSize);
+				handler.invoked(buffer.getLong(position), buffer.getLong(position + 8), 
+						buffer.getInt(position + 16), buffer.getInt(position + 20));
+			}
+			count += records;
+		}
+		return count;
+	}
+
+	/** Writes the invocations in the format of the {@link CSVInvocationReportModule} */
+	public void writeCSV(File file) {
+		try (PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(file)))) {
+			out.println(CSVInvocationReportModule.headerLine(getTimeUnit()));
+			read((startTime, latency, threadIndex, outcome) -> {
+				out.print(latency);
+				out.print(',');
+				out.println(startTime);
+			});
+		} catch (IOException e) {
+			throw new RuntimeException("Error writing " + file, e);
+		}
+	}
+	
+	/** @return a stopped {@link LatencyCounter} with the logged latencies. Since the log does not 
+	 *  record when the test started and ended, the counter does not provide a duration or throughput. */
+	public LatencyCounter toLatencyCounter() {
+		TimeUnit timeUnit = getTimeUnit();
+		AbstractLatencyHistogram histogram = (timeUnit.compareTo(TimeUnit.MILLISECONDS) < 0 ? 
+				new LogLinearLatencyHistogram(3) : new LinearLatencyHistogram(1000));
+		LatencyCounter counter = new LatencyCounter(serviceId, SystemClock.NAME, histogram, timeUnit);
+		counter.start();
+		read((startTime, latency, threadIndex, outcome) -> counter.addSample(latency));
+		counter.stop();
+		return counter;
+	}
+	
+	// helper methods --------------------------------------------------------------------------------------------------
+	
+	private MappedByteBuffer map(int segment) {
+		File file = segmentFile(reportFolder, serviceId, segment);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+			if (buffer.getInt(0) != MAGIC)
+				throw new IllegalArgumentException("Not a binary invocation log: " + file);
+			if (buffer.getInt(4) != VERSION)
+				throw new IllegalArgumentException("Unsupported version " + buffer.getInt(4) + " of " + file);
+			return buffer;
+		} catch (IOException e) {
+			throw new RuntimeException("Error reading " + file, e);
+		}
+	}
+
+}
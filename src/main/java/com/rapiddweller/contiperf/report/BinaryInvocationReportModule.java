@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.stat.LatencyCounter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReportModule} that logs each invocation as a fixed-width binary record 
+ * to memory-mapped files. This is much cheaper than formatting CSV lines 
+ * (see {@link CSVInvocationReportModule}) and yields smaller files. 
+ * The log is split into segments of a fixed number of records, named 
+ * <code>&lt;serviceId&gt;.inv.0000.bin</code>, <code>&lt;serviceId&gt;.inv.0001.bin</code> and so on.
+ * Each segment starts with a header of {@value #HEADER_SIZE} bytes: a magic number, 
+ * the format version, the ordinal of the latency {@link TimeUnit}, the record size 
+ * and the number of records in the segment. Each record consists of 
+ * the start time (long), the latency (long), the index of the invoking thread (int) 
+ * and the outcome (int). The files can be read with a {@link BinaryInvocationReader}. 
+ * Each segment is mapped once, so that invocations do not cause system calls or disk I/O 
+ * while it is filled. The file is truncated to its records when the segment is closed, 
+ * so a short test does not leave a file of full segment size.
+ * <br/><br/>
+ * Created: 17.10.2026 12:31:54
+ * @since 2.6.0
+ * @author agent
+ */
+public class BinaryInvocationReportModule extends AbstractReportModule {
+	
+	public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 20;
+	
+	/** Outcome of an invocation which finished without exception */
+	public static final int SUCCESS = 0;
+	
+	static final int MAGIC = 0x43504931; // "CPI1"
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 24;
+	static final int RECORD_COUNT_OFFSET = 16;
+	static final int RECORD_SIZE = 24;
+	
+	private final int recordsPerSegment;
+	
+	private String serviceId;
+	private int segment;
+	private File segmentFile;
+	private RandomAccessFile segmentAccess;
+	private MappedByteBuffer buffer;
+	private int segmentRecords;
+	
+	public BinaryInvocationReportModule() {
+		this(DEFAULT_RECORDS_PER_SEGMENT);
+	}
+
+	public BinaryInvocationReportModule(int recordsPerSegment) {
+		if (recordsPerSegment <= 0 || recordsPerSegment > (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE)
+			throw new IllegalArgumentException("recordsPerSegment out of range: " + recordsPerSegment);
+		this.recordsPerSegment = recordsPerSegment;
+	}
+
+	@Override
+	public String getReportReferenceLabel(String serviceId) {
+		return "Invocations as binary log";
+	}
+	
+	@Override
+	public String getReportReference(String serviceId) {
+		return (serviceId != null ? segmentFile(context.getReportFolder(), serviceId, 0).getPath() : null);
+	}
+
+	@Override
+	public synchronized void starting(String serviceId) {
+		this.serviceId = serviceId;
+		this.segment = -1;
+		for (int i = 0; segmentFile(context.getReportFolder(), serviceId, i).exists(); i++)
+			segmentFile(context.getReportFolder(), serviceId, i).delete();
+	}
+	
+	@Override
+	public void invoked(String serviceId, int latency, long startTime) {
+		invoked(serviceId, latency, TimeUnit.MILLISECONDS, startTime);
+	}
+	
+	@Override
+	public void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime) {
+		invoked(serviceId, latency, timeUnit, startTime, 0);
+	}
+	
+	@Override
+	public synchronized void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime, int threadIndex) {
+		if (buffer == null || segmentRecords == recordsPerSegment) {
+			closeSegment();
+			openSegment(timeUnit);
+		}
+		buffer.putLong(startTime);
+		buffer.putLong(latency);
+		buffer.putInt(threadIndex);
+		buffer.putInt(SUCCESS);
+		segmentRecords++;
+	}
+
+	@Override
+	public synchronized void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement) {
+		closeSegment();
+	}
+	
+	static File segmentFile(File reportFolder, String serviceId, int segment) {
+		return new File(reportFolder, serviceId + ".inv." + String.format("%04d", segment) + ".bin");
+	}
+	
+	// helper methods --------------------------------------------------------------------------------------------------
+	
+	private void openSegment(TimeUnit timeUnit) {
+		segmentFile = segmentFile(context.getReportFolder(), serviceId, ++segment);
+		try {
+			segmentAccess = new RandomAccessFile(segmentFile, "rw");
+			segmentAccess.setLength(0);
+			// the unwritten part of the mapping does not occupy disk space on file systems with sparse files
+			buffer = segmentAccess.getChannel().map(FileChannel.MapMode.READ_WRITE, 
+					0, HEADER_SIZE + (long) recordsPerSegment * RECORD_SIZE);
+		} catch (IOException e) {
+			throw new RuntimeException("Error creating " + segmentFile, e);
+		}
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(timeUnit.ordinal());
+		buffer.putInt(RECORD_SIZE);
+		buffer.putLong(0);
+		segmentRecords = 0;
+	}
+
+	private void closeSegment() {
+		if (buffer == null)
+			return;
+		buffer.putLong(RECORD_COUNT_OFFSET, segmentRecords);
+		buffer.force();
+		buffer = null;
+		try {
+			segmentAccess.setLength(HEADER_SIZE + (long) segmentRecords * RECORD_SIZE);
+		} catch (IOException e) {
+			// some platforms do not truncate files which are still mapped, leaving the segment 
+			// at full size; readers rely on the record count of the header
+		}
+		try {
+			segmentAccess.close();
+		} catch (IOException e) {
+			throw new RuntimeException("Error closing " + segmentFile, e);
+		}
+		segmentAccess = null;
+	}
+
+}
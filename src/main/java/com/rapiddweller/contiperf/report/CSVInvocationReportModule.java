@@ -22,6 +22,7 @@
 import java.io.File;
 import java.io.FileWriter;
 import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link ReportModule} that creates a CSV file with one line per invocation, 
@@ -49,11 +50,23 @@ public String getReportReference(String serviceId) {
 
 	@Override
 	public void starting(String serviceId) {
+		starting(serviceId, TimeUnit.MILLISECONDS);
+	}
+	
+	/** Creates the file with its header, so that a test without invocations yields a valid CSV file */
+	@Override
+	public synchronized void starting(String serviceId, TimeUnit timeUnit) {
 		createFile(serviceId);
+		out.println(headerLine(timeUnit));
+	}
+	
+	@Override
+	public void invoked(String serviceId, int latency, long startTime) {
+		invoked(serviceId, latency, TimeUnit.MILLISECONDS, startTime);
 	}
 	
 	@Override
-	public synchronized void invoked(String serviceId, int latency, long startTime) {
+	public synchronized void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime) {
 		out.print(latency);
 		out.print(',');
 		out.println(startTime);
@@ -65,18 +78,25 @@ public void completed(String serviceId, LatencyCounter[] counters, ExecutionConf
 			out.close();
 	}
 	
+	static String headerLine(TimeUnit timeUnit) {
+		return ReportUtil.latencyColumn(timeUnit) + ",startTimeNanos";
+	}
+	
+	static File file(File reportFolder, String serviceId) {
+		return new File(reportFolder, serviceId + FILE_SUFFIX);
+	}
+	
 	private void createFile(String serviceId) {
 		try {
 			String filename = filename(serviceId);
 			out = new PrintWriter(new BufferedWriter(new FileWriter(filename)));
-			out.println("latency,startTimeNanos");
 		} catch (Exception e) {
 			throw new RuntimeException();
 		}
 	}
 
 	private String filename(String serviceId) {
-		return context.getReportFolder() + File.separator + serviceId + FILE_SUFFIX;
+		return file(context.getReportFolder(), serviceId).getPath();
 	}
 
 }
@@ -57,7 +57,6 @@ public void starting(String serviceId) {
 		file = new File(context.getReportFolder(), filename(serviceId));
 		try {
 			out = new BufferedOutputStream(new FileOutputStream(file));
-			writeHeader(serviceId, out);
 		} catch (FileNotFoundException e) {
 			throw new RuntimeException(e);
 		}
@@ -65,6 +64,7 @@ public void starting(String serviceId) {
 
 	@Override
 	public void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement) {
+		writeHeader(serviceId, counters[0], out);
 		writeStats(serviceId, counters);
 		try {
 			out.close();
@@ -77,8 +77,8 @@ public void completed(String serviceId, LatencyCounter[] counters, ExecutionConf
 
 	// helper methods --------------------------------------------------------------------------------------------------
 
-	private static void writeHeader(String serviceId, OutputStream out) {
-        String line = "latency,sampleCount" + LINE_SEPARATOR;
+	private static void writeHeader(String serviceId, LatencyCounter counter, OutputStream out) {
+        String line = ReportUtil.latencyColumn(counter.getTimeUnit()) + ",sampleCount" + LINE_SEPARATOR;
 		try {
 			out.write(line.getBytes());
 		} catch (IOException e) {
@@ -89,7 +89,7 @@ private static void writeHeader(String serviceId, OutputStream out) {
 	private void writeStats(String serviceId, LatencyCounter[] counters) {
 		try {
 			LatencyCounter counter = counters[0];
-			for (long i = counter.minLatency(); i <= counter.maxLatency(); i++) {
+			for (long i = counter.minLatency(); i <= counter.maxLatency(); i = counter.nextLatency(i)) {
 				String line = i + "," + counter.getLatencyCount(i) + LINE_SEPARATOR;
 		        out.write(line.getBytes());
 			}
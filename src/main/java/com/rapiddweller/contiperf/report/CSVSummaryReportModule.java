@@ -15,7 +15,9 @@
 package com.rapiddweller.contiperf.report;
 
 import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.ExecutionStatistics;
 import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.contiperf.sensor.ResourceUsage;
 import com.rapiddweller.contiperf.util.ContiPerfUtil;
 import com.rapiddweller.stat.LatencyCounter;
 
@@ -77,9 +79,15 @@ public void starting(String serviceId) {
 
 	@Override
 	public void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement) {
-		writeStats(serviceId, counters);
+		writeStats(serviceId, counters, null);
     }
 
+	@Override
+	public void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, 
+			PerformanceRequirement requirement, ExecutionStatistics statistics) {
+		writeStats(serviceId, counters, statistics);
+	}
+
 
 
 	// helper methods --------------------------------------------------------------------------------------------------
@@ -88,7 +96,10 @@ private void writeHeader(String serviceId) {
 		OutputStream out = null;
 		try {
 	        out = new FileOutputStream(file, true);
-	        String line = "serviceId,startTime,duration,invocations,min,average,median,90%,95%,99%,max" + LINE_SEPARATOR;
+	        String line = "serviceId,startTime,duration,invocations,min,average,median,90%,95%,99%,max,unit," + 
+	        		"correctedMedian,corrected90%,corrected95%,corrected99%,correctedMax,expectedInterval," + 
+	        		"gcCount,gcTime,allocatedBytesPerInvocation,heapHighWaterMark,loadedClasses,compilationTime," + 
+	        		"warmUpTime,warmUpInvocations,safepointCount,safepointTime" + LINE_SEPARATOR;
 			out.write(line.getBytes());
         } catch (IOException e) {
 	        e.printStackTrace();
@@ -97,7 +108,7 @@ private void writeHeader(String serviceId) {
         }
 	}
 
-	private void writeStats(String serviceId, LatencyCounter[] counters) {
+	private void writeStats(String serviceId, LatencyCounter[] counters, ExecutionStatistics statistics) {
 		OutputStream out = null;
 		try {
 	        out = new FileOutputStream(file, true);
@@ -110,7 +121,9 @@ private void writeStats(String serviceId, LatencyCounter[] counters) {
 	        	mainCounter.minLatency() + ',' + avg + ',' + 
 	        	mainCounter.percentileLatency(50) + ',' + mainCounter.percentileLatency(90) + ',' + 
 	        	mainCounter.percentileLatency(95) + ',' + mainCounter.percentileLatency(99) + ',' + 
-	        	mainCounter.maxLatency() + LINE_SEPARATOR;
+	        	mainCounter.maxLatency() + ',' + ContiPerfUtil.unitSymbol(mainCounter.getTimeUnit()) + ',' + 
+	        	correctedStats(statistics) + ',' + resourceStats(statistics, decForm) + ',' + 
+	        	warmUpStats(statistics) + ',' + safepointStats(statistics) + LINE_SEPARATOR;
 	        out.write(message.getBytes());
         } catch (IOException e) {
 	        e.printStackTrace();
@@ -119,6 +132,37 @@ private void writeStats(String serviceId, LatencyCounter[] counters) {
         }
 	}
 	
+	private static String correctedStats(ExecutionStatistics statistics) {
+		LatencyCounter corrected = (statistics != null ? statistics.getCorrectedLatency() : null);
+		if (corrected == null)
+			return ",,,,,";
+		return corrected.percentileLatency(50) + "," + corrected.percentileLatency(90) + "," + 
+			corrected.percentileLatency(95) + "," + corrected.percentileLatency(99) + "," + 
+			corrected.maxLatency() + "," + statistics.getExpectedInterval();
+	}
+	
+	private static String resourceStats(ExecutionStatistics statistics, DecimalFormat decForm) {
+		ResourceUsage usage = (statistics != null ? statistics.getResourceUsage() : null);
+		if (usage == null)
+			return ",,,,,";
+		String allocated = (usage.getAllocationSamples() > 0 ? decForm.format(usage.getAllocatedBytesPerInvocation()) : "");
+		return usage.getGcCount() + "," + usage.getGcTime() + "," + allocated + "," + 
+			usage.getHeapHighWaterMark() + "," + usage.getLoadedClasses() + "," + usage.getCompilationTime();
+	}
+	
+	private static String warmUpStats(ExecutionStatistics statistics) {
+		if (statistics == null)
+			return ",";
+		return statistics.getWarmUpTime() + "," + statistics.getWarmUpInvocations();
+	}
+	
+	private static String safepointStats(ExecutionStatistics statistics) {
+		ResourceUsage usage = (statistics != null ? statistics.getResourceUsage() : null);
+		if (usage == null || usage.getSafepointCount() < 0)
+			return ",";
+		return usage.getSafepointCount() + "," + usage.getSafepointTime();
+	}
+	
 	private static String filename() {
 		return "summary.csv";
 	}
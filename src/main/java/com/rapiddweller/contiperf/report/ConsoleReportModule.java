@@ -18,6 +18,10 @@
 import com.rapiddweller.contiperf.PerformanceRequirement;
 import com.rapiddweller.stat.LatencyCounter;
 
+import java.util.concurrent.TimeUnit;
+
+import static com.rapiddweller.contiperf.util.ContiPerfUtil.unitSymbol;
+
 /**
  * {@link ReportModule} implementation that prints all information to the console.<br/><br/>
  * Created: 16.01.2011 14:27:05
@@ -31,6 +35,11 @@ public void invoked(String serviceId, int latency, long startTime) {
 	    System.out.println(serviceId + ',' + latency + ',' + startTime);
     }
 
+	@Override
+	public void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime) {
+	    System.out.println(serviceId + ',' + latency + ' ' + unitSymbol(timeUnit) + ',' + startTime);
+    }
+
 	@Override
     public void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement) {
 	    System.out.println(serviceId + ',' + counters[0].duration() + ',' + counters[0].sampleCount() + ',' + counters[0].getStartTime());
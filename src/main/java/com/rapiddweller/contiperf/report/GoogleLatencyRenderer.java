@@ -21,21 +21,18 @@
 import java.net.URLEncoder;
 
 /**
- * Formats the latency distribution of a {@link LatencyCounter} using the Google charts API.<br/><br/>
+ * Formats the latency distribution of a {@link LatencyCounter} using the Google charts API.
+ * The chart service has been shut down, so the resulting URLs do not render any more.<br/><br/>
  * Created: 14.01.2011 11:54:18
  * @since 2.0.0
  * @author Volker Bergmann
+ * @deprecated use the {@link SvgLatencyRenderer}
  */
+@Deprecated
 public class GoogleLatencyRenderer {
 	
 	public String render(LatencyCounter counter, String title, int width, int height) throws UnsupportedEncodingException {
-		LatencyDataSet dataset = new LatencyDataSet((int) (counter.maxLatency() - counter.minLatency() + 3));
-		for (int i = (int) counter.minLatency(); i <= counter.maxLatency(); i++)
-			dataset.addPoint(i, (int) counter.getLatencyCount(i));
-		dataset = dataset.reduce(50);
-		dataset.addLabel("avg", (int) counter.averageLatency());
-		dataset.addLabel("med", (int) counter.percentileLatency(50));
-		dataset.addLabel("90%", (int) counter.percentileLatency(90));
+		LatencyDataSet dataset = LatencyDataSet.of(counter, 50);
 		return renderDataset(dataset, title, width, height);
 	}
 	
@@ -16,14 +16,31 @@
 
 import com.rapiddweller.contiperf.Config;
 import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.BaselineComparison;
+import com.rapiddweller.contiperf.ExecutionStatistics;
 import com.rapiddweller.contiperf.PercentileRequirement;
 import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.contiperf.sensor.CollectorUsage;
+import com.rapiddweller.contiperf.sensor.ResourceUsage;
+import com.rapiddweller.stat.AllocationCounter;
 import com.rapiddweller.stat.LatencyCounter;
 
 import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.rapiddweller.contiperf.util.ContiPerfUtil.unitSymbol;
 
 /**
  * {@link ReportModule} implementation that creates an HTML report of the 
@@ -39,12 +56,28 @@ public class HtmlReportModule extends AbstractReportModule {
 	private static final int WIDTH = 320;
 	private static final int HEIGHT = 240;
 	
-	private static final String CPF_MARKER_1 = "<!-- !!__cpf-marker1__!! -->";
-	private static final String CPF_MARKER_2 = "<!-- !!__cpf-marker2__!! -->";
+	/** A latency chart gets a logarithmic scale when the maximum exceeds the 90-percentile by this factor */
+	private static final int LOG_SCALE_TAIL_FACTOR = 10;
+	
+	private static final String FRAGMENT_FOLDER_NAME = "html-fragments";
+	private static final String FRAGMENT_SEPARATOR = "<!-- cpf-fragment-separator -->";
+	
+	/** Prefix of the fragment files of this JVM: its start time and process id, padded to a fixed width, 
+	 *  so that forked JVMs never overwrite each other's fragments and fragment names sort by JVM start */
+	private static final String JVM_TOKEN = String.format("%013d-%010d", 
+			ManagementFactory.getRuntimeMXBean().getStartTime(), ProcessHandle.current().pid());
+	
+	/** the length of the JVM token and the sequence number which precede the test id in a fragment name */
+	private static final int FRAGMENT_PREFIX_LENGTH = JVM_TOKEN.length() + 11;
+	
+	/** the number of builds shown in the trend sparklines */
+	private static final int TREND_LENGTH = 30;
 
 	ReportContext context;
 	private static boolean initialized = false;
-	private static final DecimalFormat lf = new DecimalFormat();
+	private static String reportHead;
+	private static final AtomicInteger fragmentCount = new AtomicInteger();
+	private static final ThreadLocal<DecimalFormat> lf = ThreadLocal.withInitial(DecimalFormat::new);
 
 
 
@@ -57,72 +90,60 @@ public void setContext(ReportContext context) {
 
 	@Override
 	public void completed(String id, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement) {
-		updateReport(id, counters, executionConfig, requirement, context);
+		completed(id, counters, executionConfig, requirement, null);
 	}
 
-	// helper methods --------------------------------------------------------------------------------------------------
-	
-	private static synchronized void updateReport(String id, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement, ReportContext context) {
-		File reportFile = reportFile();
-		if (!initialized || !reportFile.exists())
-			initReportFile(reportFile, id, counters, executionConfig, requirement, context);
-		else
-			extendReportFile(reportFile, id, counters, executionConfig, requirement, context);
+	@Override
+	public void completed(String id, LatencyCounter[] counters, ExecutionConfig executionConfig, 
+			PerformanceRequirement requirement, ExecutionStatistics statistics) {
+		initReport(context);
+		writeFragment(id, counters, executionConfig, requirement, statistics, context);
 	}
 
-	private static File reportFile() {
-		return new File(Config.instance().getReportFolder(), REPORT_FILENAME);
+	/** 
+	 * Deletes the fragments of all previous runs. A report shows the latest run of each test, 
+	 * so fragments only need to be cleared for removing tests which do not exist any more. 
+	 * Since the fragments of all JVMs of a build are assembled into one report, this is a 
+	 * per-build decision and must not be made by a single test JVM or suite; 
+	 * call this from a build step, or delete the report folder (e.g. by 'mvn clean').
+	 */
+	public static synchronized void clearFragments() {
+		File[] oldFragments = fragmentFolder().listFiles();
+		if (oldFragments != null)
+			for (File oldFragment : oldFragments)
+				oldFragment.delete();
 	}
 
-	private static void initReportFile(File reportFile, String id, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement, ReportContext context) {
-		initialized = true;
-		try {
-			PrintWriter out = new PrintWriter(new FileOutputStream(reportFile));
-			out.println("<html>");
-			out.println("<head>");
-			out.println("<title>ContiPerf Report</title>");
-			out.println("</head>");
-			out.println("<body style='font-family:Verdana;'>");
-			out.println("<center>");
-			// Render header
-			out.println("<h1 style='color:#EE6600'>ContiPerf Report</h1>");
-			// render ReportModule links
-			boolean first = true;
-			for (ReportModule module : context.getReportModules()) {
-				String ref = module.getReportReference(null);
-				if (ref != null) {
-					if (!first)
-						out.print("&nbsp;|&nbsp;");
-					appendRef(ref, module.getReportReferenceLabel(null), out);
-					first = false;
-				}
-			}
-			if (!first)
-				out.print("&nbsp;|&nbsp;");
-			// Render Help link
-			out.println("<a href='http://databene.org/contiperf'>Help</a>");
-			out.println("<hr/>");
-			out.println("<br/>");
-			
+	/** 
+	 * Assembles the index.html file from the fragments of all tests which have completed so far 
+	 * in this JVM and in other JVMs which share the report folder, like forked Surefire JVMs. 
+	 * This is called automatically on JVM shutdown and only needs to be called for viewing 
+	 * the report of a running JVM, for example at the end of a test suite.
+	 */
+	public static synchronized void writeReport() {
+		if (!initialized)
+			return;
+		File[] fragments = fragmentFiles();
+		File reportFile = reportFile();
+		File tempFile = new File(reportFile.getParentFile(), REPORT_FILENAME + "." + JVM_TOKEN + ".tmp");
+		try (PrintWriter out = new PrintWriter(new FileOutputStream(tempFile))) {
+			out.print(reportHead);
 			// render overview table
 			out.println("<table border='1' cellspacing='0' cellpadding='3px' style='border-color:#eee'>");
 			out.println("	<tr>");
 			out.println("		<th style='background-color:#ffffdd; color:#EE6600'>&nbsp;&nbsp;&nbsp;</th>");
 			out.println("		<th style='background-color:#ffffdd; color:#EE6600'>Test</th>");
 			out.println("	<tr>");
-			appendHeader(id, counters[0], requirement, out);
-			// render overview insertion marker
-			out.println(CPF_MARKER_1);
+			for (File fragment : fragments)
+				copyFragment(fragment, true, out);
 			out.println("</table>");
 			
 			out.println("<br/>");
 			out.println("<hr/>");
 			
-			// render first entry
-			appendEntry(id, counters, executionConfig, requirement, out, context);
-			
-			// render entry insertion marker
-			out.println(CPF_MARKER_2);
+			// render entries
+			for (File fragment : fragments)
+				copyFragment(fragment, false, out);
 			
 			// render footer
 			out.println("<hr/>");
@@ -132,57 +153,168 @@ private static void initReportFile(File reportFile, String id, LatencyCounter[]
 			out.println("</center>");
 			out.println("</body>");
 			out.println("</html>");
-			out.close();
-		} catch (FileNotFoundException | UnsupportedEncodingException e) {
-			throw new RuntimeException(e);
+		} catch (IOException e) {
+			e.printStackTrace();
+			return;
 		}
+		// JVMs ending concurrently each replace the whole report instead of interleaving their output
+		moveFile(tempFile, reportFile);
 	}
+
+	// helper methods --------------------------------------------------------------------------------------------------
 	
-	private static void extendReportFile(File reportFile, String id, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement, ReportContext context) {
+	/** Renders the report head and registers the assembly of the index file on shutdown, once per JVM */
+	private static synchronized void initReport(ReportContext context) {
+		if (initialized)
+			return;
+		fragmentFolder().mkdirs();
+		reportHead = renderHead(context);
+		Runtime.getRuntime().addShutdownHook(new Thread(HtmlReportModule::writeReport, "ContiPerf HTML report"));
+		initialized = true;
+	}
+
+	private static File reportFile() {
+		return new File(Config.instance().getReportFolder(), REPORT_FILENAME);
+	}
+
+	private static File fragmentFolder() {
+		return new File(Config.instance().getReportFolder(), FRAGMENT_FOLDER_NAME);
+	}
+
+	/** @return the latest fragment file of each test, ordered by JVM start and, 
+	 *  within a JVM, in the order in which they were written */
+	private static File[] fragmentFiles() {
+		File[] files = fragmentFolder().listFiles((dir, name) -> name.endsWith(".html"));
+		if (files == null)
+			return new File[0];
+		Arrays.sort(files);
+		Map<String, File> latest = new LinkedHashMap<>();
+		for (File file : files) {
+			String testKey = testKey(file.getName());
+			latest.remove(testKey);
+			latest.put(testKey, file);
+		}
+		return latest.values().toArray(new File[0]);
+	}
+
+	/** Deletes the fragments which the given fragment of the same test supersedes */
+	private static void deleteEarlierFragments(File fragment) {
+		String testKey = testKey(fragment.getName());
+		File[] files = fragmentFolder().listFiles((dir, name) -> name.endsWith(".html") 
+				&& testKey(name).equals(testKey) && name.compareTo(fragment.getName()) < 0);
+		if (files != null)
+			for (File file : files)
+				file.delete();
+	}
+
+	/** @return the part of a fragment name which identifies the test */
+	private static String testKey(String fragmentName) {
+		return (fragmentName.length() > FRAGMENT_PREFIX_LENGTH ? fragmentName.substring(FRAGMENT_PREFIX_LENGTH) : fragmentName);
+	}
+
+	private static void moveFile(File source, File target) {
 		try {
-			// create temp file
-			File tempFile = File.createTempFile("index", "html", reportFile.getParentFile());
-			PrintWriter out = new PrintWriter(tempFile);
-			BufferedReader in = new BufferedReader(new FileReader(reportFile));
-			String line;
-			
-			// insert overview line
-			while (!(line = in.readLine()).contains(CPF_MARKER_1))
-				out.println(line);
-			appendHeader(id, counters[0], requirement, out);
-			out.println(line);
-			
-			// insert entry
-			while (!(line = in.readLine()).contains(CPF_MARKER_2))
-				out.println(line);
-			appendEntry(id, counters, executionConfig, requirement, out, context);
-			out.println(line);
-			
-			// finish temp file and replace original
-			while ((line = in.readLine()) != null)
-				out.println(line);
-			out.close();
-			in.close();
-			reportFile.delete();
-			tempFile.renameTo(reportFile);
+			Files.move(source.toPath(), target.toPath(), 
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
 	}
 
-	private static void appendHeader(String id, LatencyCounter counter, PerformanceRequirement requirement, PrintWriter out) {
+	private static String renderHead(ReportContext context) {
+		StringWriter buffer = new StringWriter();
+		PrintWriter out = new PrintWriter(buffer);
+		out.println("<html>");
+		out.println("<head>");
+		out.println("<title>ContiPerf Report</title>");
+		out.println("</head>");
+		out.println("<body style='font-family:Verdana;'>");
+		out.println("<center>");
+		// Render header
+		out.println("<h1 style='color:#EE6600'>ContiPerf Report</h1>");
+		// render ReportModule links
+		boolean first = true;
+		for (ReportModule module : context.getReportModules()) {
+			String ref = module.getReportReference(null);
+			if (ref != null) {
+				if (!first)
+					out.print("&nbsp;|&nbsp;");
+				appendRef(ref, module.getReportReferenceLabel(null), out);
+				first = false;
+			}
+		}
+		if (!first)
+			out.print("&nbsp;|&nbsp;");
+		// Render Help link
+		out.println("<a href='http://databene.org/contiperf'>Help</a>");
+		out.println("<hr/>");
+		out.println("<br/>");
+		out.flush();
+		return buffer.toString();
+	}
+
+	/** Writes the overview line and the entry of a test to a fragment file of its own, 
+	 *  so that tests do not need to wait for each other or rewrite the report. 
+	 *  The fragment is written under a temporary name and renamed when complete, 
+	 *  so that a report assembled by another JVM never contains half a fragment. */
+	private static void writeFragment(String id, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement, ExecutionStatistics statistics, ReportContext context) {
+		String filename = JVM_TOKEN + "-" + String.format("%09d", fragmentCount.incrementAndGet()) 
+				+ "-" + id.replaceAll("[^A-Za-z0-9._-]", "_") + ".html";
+		File fragment = new File(fragmentFolder(), filename);
+		File tempFile = new File(fragmentFolder(), filename + ".tmp");
+		List<TrendRecord> trend = recordTrend(id, counters[0], context);
+		try (PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(tempFile)))) {
+			appendHeader(id, counters[0], requirement, statistics, out);
+			out.println(FRAGMENT_SEPARATOR);
+			appendEntry(id, counters, executionConfig, requirement, statistics, trend, out, context);
+		} catch (IOException e) {
+			e.printStackTrace();
+			return;
+		}
+		moveFile(tempFile, fragment);
+		deleteEarlierFragments(fragment);
+	}
+
+	/** Appends the summary of the test to the trend store and returns its history over the last builds */
+	private static List<TrendRecord> recordTrend(String id, LatencyCounter counter, ReportContext context) {
+		TrendStore store = TrendStore.inReportFolder(context.getReportFolder());
+		try {
+			store.append(TrendRecord.of(id, counter));
+			return store.history(id, TREND_LENGTH);
+		} catch (IOException e) {
+			e.printStackTrace();
+			return Collections.emptyList();
+		}
+	}
+
+	/** Copies the overview line or the entry part of a fragment file */
+	private static void copyFragment(File fragment, boolean overview, PrintWriter out) throws IOException {
+		try (BufferedReader in = new BufferedReader(new FileReader(fragment))) {
+			boolean inEntry = false;
+			String line;
+			while ((line = in.readLine()) != null) {
+				if (line.equals(FRAGMENT_SEPARATOR))
+					inEntry = true;
+				else if (inEntry != overview)
+					out.println(line);
+			}
+		}
+	}
+
+	private static void appendHeader(String id, LatencyCounter counter, PerformanceRequirement requirement, 
+			ExecutionStatistics statistics, PrintWriter out) {
 		out.println("	<tr>");
-		out.println("		" + successCell(counter, requirement)); 
+		out.println("		" + successCell(counter, requirement, statistics)); 
 		out.println("		<td><a href='#" + id + "'>" + id + "</td>");
 		out.println("	<tr>");
 	}
 
-	private static String successCell(LatencyCounter counter, PerformanceRequirement requirement) {
-		boolean success = ReportUtil.success(counter, requirement);
+	private static String successCell(LatencyCounter counter, PerformanceRequirement requirement, ExecutionStatistics statistics) {
+		boolean success = ReportUtil.success(counter, requirement, statistics);
 		return "<td style='background-color:" + (success ? "#00BB00" : "RED") + ";'>&nbsp;</td>";
 	}
 
-	private static void appendEntry(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement, PrintWriter out, ReportContext context) throws UnsupportedEncodingException {
+	private static void appendEntry(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement, ExecutionStatistics statistics, List<TrendRecord> trend, PrintWriter out, ReportContext context) throws UnsupportedEncodingException {
 		// render header
 		out.println("<a name='" + serviceId + "'><h2 style='color:#EE6600'>" + serviceId + "</h2></a>");
 		// render stats table...
@@ -194,10 +326,17 @@ private static void appendEntry(String serviceId, LatencyCounter[] counters, Exe
 		out.println("		</td>");
 		out.println("		<td>");
 		// ...and number table on the right
-		printStats(serviceId, counters, executionConfig, requirement, out);
+		printStats(serviceId, counters, executionConfig, requirement, statistics, out);
 		out.println("		</td>");
 		out.println("	</tr>");
 		out.println("</table>");
+		// render time series
+		if (statistics != null && statistics.getIntervals().size() >= 2)
+			out.println(new TimeSeriesRenderer().render(statistics.getIntervals(), 
+					unitSymbol(counters[0].getTimeUnit()), 2 * WIDTH, HEIGHT));
+		// render trend over the last builds
+		if (trend.size() >= 2)
+			out.println(new TrendRenderer().render(trend, 2 * WIDTH));
 		out.println("<br/>");
 		
 		// render ReportModule links
@@ -219,22 +358,35 @@ private static void appendRef(String ref, String label, PrintWriter out) {
 		out.print("<a href='" + ref + "'>" + label + "</a>");
 	}
 
-	private static void renderStats(String id, LatencyCounter counter, PrintWriter out) throws UnsupportedEncodingException {
-		String chartUrl = new GoogleLatencyRenderer().render(counter, null, WIDTH, HEIGHT);
-		out.println("			<img src='" + chartUrl +"' width='" + WIDTH + "', height='" + HEIGHT + "'/>");
+	/** Renders the latency distribution, using a logarithmic scale for long-tailed distributions */
+	private static void renderStats(String id, LatencyCounter counter, PrintWriter out) {
+		boolean logScale = (counter.maxLatency() > LOG_SCALE_TAIL_FACTOR * Math.max(counter.percentileLatency(90), 1));
+		out.println(new SvgLatencyRenderer(logScale).render(counter, null, WIDTH, HEIGHT));
 	}
 
-	private static void printStats(String id, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement, PrintWriter out) {
+	private static void printStats(String id, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement, ExecutionStatistics statistics, PrintWriter out) {
 		out.println("			<table style='font-family:sans-serif;'>");
 		Date startDate = new Date(counters[0].getStartTime());
 		out.println("	<tr><th>Started at:</th><td colspan='2'>" + DateFormat.getDateTimeInstance().format(startDate) + "</td></tr>");
 		printStatLine("Measured invocations:", counters[0].sampleCount(), null, null, null, null, out);
 		if (executionConfig.getThreads() > 1)
 			printStatLine("Thread Count:", executionConfig.getThreads(), null, null, null, null, out);
-		if (executionConfig.getWarmUp() > 0)
+		if (statistics != null && statistics.getEarlyTermination() != null)
+			out.println("	<tr><th>Terminated early:</th><td colspan='2'>" + statistics.getEarlyTermination() + "</td></tr>");
+		if (statistics != null && statistics.getWarmUpInvocations() > 0) {
+			printStatLine("Warm up:", statistics.getWarmUpTime(), "ms", null, null, null, out);
+			printStatLine("Warm-up invocations:", statistics.getWarmUpInvocations(), null, null, null, null, out);
+		} else if (executionConfig.getWarmUp() > 0)
 			printStatLine("Warm up:", executionConfig.getWarmUp(), "ms", null, null, null, out);
 		if (executionConfig.getRampUp() > 0)
 			printStatLine("Ramp up:", executionConfig.getRampUp(), "ms", null, null, null, out);
+		if (executionConfig.getRate() > 0)
+			printStatLine("Rate:", executionConfig.getRate(), "/ s", null, null, null, out);
+		LatencyCounter scheduleLag = (statistics != null ? statistics.getScheduleLag() : null);
+		if (scheduleLag != null) {
+			printLatencyLine("Average schedule lag:", (long) scheduleLag.averageLatency(), scheduleLag.getTimeUnit(), null, null, null, null, out);
+			printLatencyLine("Max. schedule lag:", scheduleLag.maxLatency(), scheduleLag.getTimeUnit(), null, null, null, null, out);
+		}
 		out.println("	<tr><td>&nbsp;</td><td>&nbsp;</td><td>&nbsp;</td></tr>");
 		out.println("	<tr valign='top'>");
 		out.println("		<th>&nbsp;</th>");
@@ -249,6 +401,10 @@ private static void printStats(String id, LatencyCounter[] counters, ExecutionCo
 		printAverageStats(counters, requirement, out);
 		printPercentileStats(counters, requirement, out);
 		printMaxStats(counters, requirement, out);
+		printAllocationStats(requirement, statistics, out);
+		printBaselineStats(requirement, statistics, out);
+		printCorrectedStats(counters, requirement, statistics, out);
+		printResourceStats(requirement, statistics, out);
 		out.println("			</table>");		
 	}
 
@@ -283,7 +439,8 @@ private static void printMinStats(LatencyCounter[] counters, PerformanceRequirem
 			for (int i = 1; i < counters.length; i++)
 				secondaryValues[i - 1] = counters[i].minLatency();
 		}
-		printStatMsLine("Min. latency:", counters[0].minLatency(), null, secondaryValues, Verdict.IGNORED, out);
+		printLatencyLine("Min. latency:", counters[0].minLatency(), counters[0].getTimeUnit(), 
+				null, null, secondaryValues, Verdict.IGNORED, out);
 	}
 
 	private static void printAverageStats(LatencyCounter[] counters, PerformanceRequirement requirement, PrintWriter out) {
@@ -295,29 +452,32 @@ private static void printAverageStats(LatencyCounter[] counters, PerformanceRequ
 			for (int i = 1; i < counters.length; i++)
 				secondaryValues[i - 1] = (long) counters[i].averageLatency();
 		}
-		printStatMsLine("Average latency:", (long) counters[0].averageLatency(), required, secondaryValues, verdict, out);
+		printLatencyLine("Average latency:", (long) counters[0].averageLatency(), counters[0].getTimeUnit(), 
+				required, requiredUnit(requirement), secondaryValues, verdict, out);
 	}
 
 	private static void printPercentileStats(LatencyCounter[] counters, PerformanceRequirement requirement, PrintWriter out) {
 		if (requirement == null || requirement.getPercentileRequirements().length == 0) {
-			printPercentileStats(counters, 50, null, out);
-			printPercentileStats(counters, 90, null, out);
+			printPercentileStats(counters, 50, null, null, out);
+			printPercentileStats(counters, 90, null, null, out);
 		} else {
 			for (PercentileRequirement percentileRequirement : requirement.getPercentileRequirements())
-				printPercentileStats(counters, percentileRequirement.getPercentage(), (long) percentileRequirement.getMillis(), out);
+				printPercentileStats(counters, percentileRequirement.getPercentage(), 
+						(long) percentileRequirement.getLimit(), percentileRequirement.getTimeUnit(), out);
 		}
 	}
 
-	private static void printPercentileStats(LatencyCounter[] counters, int percentage, Long requiredMillis, PrintWriter out) {
+	private static void printPercentileStats(LatencyCounter[] counters, int percentage, Long required, TimeUnit requiredUnit, PrintWriter out) {
 		String label = (percentage == 50 ? "Median:" : percentage + "%:");
-		Verdict verdict = ReportUtil.percentileVerdict(counters[0], percentage, requiredMillis);
+		Verdict verdict = ReportUtil.percentileVerdict(counters[0], percentage, required, requiredUnit);
 		long[] secondaryValues = null;
 		if (counters.length > 1) {
 			secondaryValues = new long[counters.length - 1];
 			for (int i = 1; i < counters.length; i++)
 				secondaryValues[i - 1] = counters[i].percentileLatency(percentage);
 		}
-		printStatMsLine(label, counters[0].percentileLatency(percentage), requiredMillis, secondaryValues, verdict, out);
+		printLatencyLine(label, counters[0].percentileLatency(percentage), counters[0].getTimeUnit(), 
+				required, requiredUnit, secondaryValues, verdict, out);
 	}
 
 	private static void printMaxStats(LatencyCounter[] counters, PerformanceRequirement requirement, PrintWriter out) {
@@ -329,18 +489,100 @@ private static void printMaxStats(LatencyCounter[] counters, PerformanceRequirem
 			for (int i = 1; i < counters.length; i++)
 				secondaryValues[i - 1] = counters[i].maxLatency();
 		}
-		printStatMsLine("Max latency:", counters[0].maxLatency(), required, secondaryValues , verdict, out);
+		printLatencyLine("Max latency:", counters[0].maxLatency(), counters[0].getTimeUnit(), 
+				required, requiredUnit(requirement), secondaryValues , verdict, out);
+	}
+
+	private static void printAllocationStats(PerformanceRequirement requirement, ExecutionStatistics statistics, PrintWriter out) {
+		ResourceUsage usage = (statistics != null ? statistics.getResourceUsage() : null);
+		AllocationCounter allocation = (usage != null ? usage.getAllocation() : null);
+		if (allocation == null || allocation.sampleCount() == 0)
+			return;
+		Long required = (requirement != null && requirement.getAllocationPerInvocation() >= 0 ? 
+				(long) requirement.getAllocationPerInvocation() : null);
+		printStatLine("Average allocation:", (long) allocation.averageBytes(), "bytes", required, null, 
+				ReportUtil.allocationVerdict(statistics, requirement), out);
+		printStatLine("Max allocation:", allocation.maxBytes(), "bytes", null, null, null, out);
+	}
+
+	private static void printBaselineStats(PerformanceRequirement requirement, ExecutionStatistics statistics, PrintWriter out) {
+		BaselineComparison comparison = (statistics != null ? statistics.getBaselineComparison() : null);
+		if (comparison == null)
+			return;
+		Verdict verdict = ReportUtil.regressionVerdict(statistics, requirement);
+		out.println("				<tr>");
+		out.println("					<th align='left'>Baseline:</th>");
+		out.println("					<td align='right'>" + format(comparison.toString(), verdict) + "</td>");
+		out.println("					<td align='right'>" + format("max. +" + requirement.getMaxRegressionPercent() + "%", verdict) + "</td>");
+		out.println("				</tr>");
+	}
+
+	private static void printCorrectedStats(LatencyCounter[] counters, PerformanceRequirement requirement, 
+			ExecutionStatistics statistics, PrintWriter out) {
+		LatencyCounter corrected = (statistics != null ? statistics.getCorrectedLatency() : null);
+		if (corrected == null)
+			return;
+		TimeUnit unit = corrected.getTimeUnit();
+		out.println("	<tr><td>&nbsp;</td><td>&nbsp;</td><td>&nbsp;</td></tr>");
+		out.println("	<tr><th colspan='3'>Corrected for coordinated omission</th></tr>");
+		printLatencyLine("Expected interval:", statistics.getExpectedInterval(), unit, null, null, null, null, out);
+		if (requirement == null || requirement.getPercentileRequirements().length == 0) {
+			printLatencyLine("Median:", corrected.percentileLatency(50), unit, null, null, null, null, out);
+			printLatencyLine("90%:", corrected.percentileLatency(90), unit, null, null, null, null, out);
+		} else {
+			for (PercentileRequirement percentileRequirement : requirement.getPercentileRequirements()) {
+				int percentage = percentileRequirement.getPercentage();
+				String label = (percentage == 50 ? "Median:" : percentage + "%:");
+				printLatencyLine(label, corrected.percentileLatency(percentage), unit, null, null, null, null, out);
+			}
+		}
+		printLatencyLine("Max latency:", corrected.maxLatency(), unit, null, null, null, null, out);
+	}
+
+	private static void printResourceStats(PerformanceRequirement requirement, ExecutionStatistics statistics, PrintWriter out) {
+		ResourceUsage usage = (statistics != null ? statistics.getResourceUsage() : null);
+		if (usage == null)
+			return;
+		out.println("	<tr><td>&nbsp;</td><td>&nbsp;</td><td>&nbsp;</td></tr>");
+		out.println("	<tr><th colspan='3'>Resources</th></tr>");
+		Long requiredGcTime = (requirement != null && requirement.getMaxGcTime() >= 0 ? (long) requirement.getMaxGcTime() : null);
+		printStatMsLine("GC time:", usage.getGcTime(), requiredGcTime, null, ReportUtil.gcTimeVerdict(statistics, requirement), out);
+		for (CollectorUsage collector : usage.getCollectors())
+			printStatLine(collector.getName() + ":", collector.getCount(), "GCs", null, null, null, out);
+		if (usage.getSafepointCount() >= 0) {
+			printStatMsLine("Safepoint time:", usage.getSafepointTime(), null, null, null, out);
+			printStatLine("Safepoints:", usage.getSafepointCount(), null, null, null, null, out);
+		}
+		printStatLine("Heap high water mark:", usage.getHeapHighWaterMark() / 1024, "KB", null, null, null, out);
+		if (usage.getCompilationTime() >= 0)
+			printStatMsLine("JIT compilation:", usage.getCompilationTime(), null, null, null, out);
+		printStatLine("Loaded classes:", usage.getLoadedClasses(), null, null, null, null, out);
 	}
 
 	private static void printStatMsLine(String label, long mainValue, Long requirement, long[] secondaryValues, Verdict verdict, PrintWriter out) {
 		printStatLine(label, mainValue, "ms", requirement, secondaryValues, verdict, out);
 	}
 
+	private static void printLatencyLine(String label, long mainValue, TimeUnit unit, 
+			Long requirement, TimeUnit requirementUnit, long[] secondaryValues, Verdict verdict, PrintWriter out) {
+		printStatLine(label, mainValue, unitSymbol(unit), requirement, 
+				(requirementUnit != null ? unitSymbol(requirementUnit) : null), secondaryValues, verdict, out);
+	}
+
+	private static TimeUnit requiredUnit(PerformanceRequirement requirement) {
+		return (requirement != null ? requirement.getTimeUnit() : null);
+	}
+
 	private static void printStatLine(String label, long value, String unit, Long requirement, long[] secondaryValues, Verdict verdict, PrintWriter out) {
+		printStatLine(label, value, unit, requirement, unit, secondaryValues, verdict, out);
+	}
+
+	private static void printStatLine(String label, long value, String unit, Long requirement, String requirementUnit, 
+			long[] secondaryValues, Verdict verdict, PrintWriter out) {
 		out.println("				<tr>");
 		out.println("					<th align='right' valign='top'>" + format(label, verdict) + "</th>");
 		out.println("					<td align='right'>" + format(value, unit, verdict) + "</td>");
-		out.println("					<td align='right'>" + format(requirement, unit, verdict) + "</td>");
+		out.println("					<td align='right'>" + format(requirement, requirementUnit, verdict) + "</td>");
 		if (secondaryValues != null)
 		for (long secondaryValue : secondaryValues)
 			out.println("					<td align='right'>" + format(secondaryValue, unit, null) + "</td>");
@@ -351,7 +593,7 @@ private static String format(Long number, String unit, Verdict verdict) {
 		if (number == null)
 			return "";
 		StringBuilder builder = new StringBuilder();
-		builder.append(lf.format(number));
+		builder.append(lf.get().format(number));
 		if (unit != null)
 			builder.append(' ').append(unit);
 		return format(builder, verdict);
@@ -14,34 +14,52 @@
  */
 package com.rapiddweller.contiperf.report;
 
+import com.rapiddweller.stat.LatencyCounter;
+
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Helper class for managing and reducing latency distribution counts
- * to dimensions that can pe handled by the {@link GoogleLatencyRenderer}.<br/><br/>
+ * to dimensions that can pe handled by the {@link SvgLatencyRenderer}.<br/><br/>
  * Created: 14.01.2011 12:59:40
  * @since 2.0.0
  * @author Volker Bergmann
  */
 public class LatencyDataSet {
 	
-	int[] xx;
+	long[] xx;
 	int[] yy;
 	int pointCount;
 	List<LabelInfo> labels;
 	
-	int maxX;
+	long maxX;
 	int maxY;
 	
 	public LatencyDataSet(int capacity) {
 		this.pointCount = 0;
-		this.xx = new int[capacity];
+		this.xx = new long[capacity];
 		this.yy = new int[capacity];
 		this.labels = new ArrayList<>();
 	}
 	
-	public void addPoint(int x, int y) {
+	/** Creates a data set of the latency distribution of a counter, reduced to about the given number of points 
+	 *  and labeled with the average, median and 90-percentile latency. */
+	public static LatencyDataSet of(LatencyCounter counter, int size) {
+		int bucketCount = 0;
+		for (long i = counter.minLatency(); i <= counter.maxLatency(); i = counter.nextLatency(i))
+			bucketCount++;
+		LatencyDataSet dataset = new LatencyDataSet(bucketCount + 3);
+		for (long i = counter.minLatency(); i <= counter.maxLatency(); i = counter.nextLatency(i))
+			dataset.addPoint(i, (int) counter.getLatencyCount(i));
+		dataset = dataset.reduce(size);
+		dataset.addLabel("avg", (long) counter.averageLatency());
+		dataset.addLabel("med", counter.percentileLatency(50));
+		dataset.addLabel("90%", counter.percentileLatency(90));
+		return dataset;
+	}
+	
+	public void addPoint(long x, int y) {
 		if (pointCount == 0 && y > 0 && x > 0)
 			addPoint(x - 1, 0);
 		if (pointCount == xx.length)
@@ -60,7 +78,7 @@ public void addPoint(int x, int y) {
 		pointCount++;
 	}
 
-	public int getMaxX() {
+	public long getMaxX() {
 		return maxX;
 	}
 
@@ -72,7 +90,7 @@ public int pointCount() {
 		return pointCount;
 	}
 
-	public int getX(int i) {
+	public long getX(int i) {
 		return xx[i];
 	}
 	
@@ -86,11 +104,11 @@ public void scaleY(int newMax) {
 			yy[i] = (int) (yy[i] * scale);
 	}
 	
-	public void addLabel(String text, int x) {
+	public void addLabel(String text, long x) {
 		labels.add(new LabelInfo(text, indexForX(x)));
 	}
 	
-	private int indexForX(int x) {
+	private int indexForX(long x) {
 		int i = 0;
 		while (i < xx.length && xx[i] < x)
 			i++;
@@ -15,9 +15,12 @@
 package com.rapiddweller.contiperf.report;
 
 import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.ExecutionStatistics;
 import com.rapiddweller.contiperf.PerformanceRequirement;
 import com.rapiddweller.stat.LatencyCounter;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Replaces the {@link com.rapiddweller.contiperf.ExecutionLogger} interface of ContiPerf 1 and adds 
  * context access and inter-module referencing features.<br/><br/>
@@ -31,6 +34,39 @@ public interface ReportModule {
 	String getReportReference(String serviceId);
 	
 	void starting(String serviceId);
+	
+	/** Reports the start of a test which measures latencies in the given time unit. 
+	 *  The default implementation calls {@link #starting(String)}, modules which 
+	 *  need the time unit before the first invocation override this method. */
+	default void starting(String serviceId, TimeUnit timeUnit) {
+		starting(serviceId);
+	}
+	
 	void invoked(String serviceId, int latency, long startTime);
+	
+	/** Reports an invocation with a latency in the given time unit. 
+	 *  The default implementation forwards the latency in milliseconds to 
+	 *  {@link #invoked(String, int, long)}, modules which support finer 
+	 *  time units override this method. */
+	default void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime) {
+		invoked(serviceId, (int) timeUnit.toMillis(latency), startTime);
+	}
+	
+	/** Reports an invocation together with the index of the thread which performed it. 
+	 *  The threads of a test are numbered from 0 in the order of their first invocation. 
+	 *  The default implementation ignores the thread and calls 
+	 *  {@link #invoked(String, long, TimeUnit, long)}. */
+	default void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime, int threadIndex) {
+		invoked(serviceId, latency, timeUnit, startTime);
+	}
+	
 	void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, PerformanceRequirement requirement);
+	
+	/** Reports the completion of a test with additional {@link ExecutionStatistics}. 
+	 *  The default implementation ignores the statistics and calls 
+	 *  {@link #completed(String, LatencyCounter[], ExecutionConfig, PerformanceRequirement)}. */
+	default void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, 
+			PerformanceRequirement requirement, ExecutionStatistics statistics) {
+		completed(serviceId, counters, executionConfig, requirement);
+	}
 }
@@ -14,10 +14,16 @@
  */
 package com.rapiddweller.contiperf.report;
 
+import com.rapiddweller.contiperf.BaselineComparison;
+import com.rapiddweller.contiperf.ExecutionStatistics;
 import com.rapiddweller.contiperf.PercentileRequirement;
 import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.contiperf.sensor.ResourceUsage;
+import com.rapiddweller.contiperf.util.ContiPerfUtil;
 import com.rapiddweller.stat.LatencyCounter;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Utility class for report modules.<br/><br/>
  * Created: 25.01.2011 19:52:59
@@ -26,6 +32,11 @@
  */
 public class ReportUtil {
 
+	/** @return the name of a CSV latency column, which carries the time unit unless it is milliseconds */
+	public static String latencyColumn(TimeUnit timeUnit) {
+		return (timeUnit == TimeUnit.MILLISECONDS ? "latency" : "latency[" + ContiPerfUtil.unitSymbol(timeUnit) + "]");
+	}
+
 	public static boolean success(LatencyCounter counter, PerformanceRequirement requirement) {
 		boolean success = averageVerdict(counter, requirement) != Verdict.FAILURE;
 		success &= (maxVerdict(counter, requirement) != Verdict.FAILURE);
@@ -39,6 +50,34 @@ public static boolean success(LatencyCounter counter, PerformanceRequirement req
 		return success;
 	}
 
+	public static boolean success(LatencyCounter counter, PerformanceRequirement requirement, ExecutionStatistics statistics) {
+		return success(counter, requirement) 
+				&& gcTimeVerdict(statistics, requirement) != Verdict.FAILURE 
+				&& allocationVerdict(statistics, requirement) != Verdict.FAILURE 
+				&& regressionVerdict(statistics, requirement) != Verdict.FAILURE;
+	}
+
+	public static Verdict regressionVerdict(ExecutionStatistics statistics, PerformanceRequirement requirement) {
+		BaselineComparison comparison = (statistics != null ? statistics.getBaselineComparison() : null);
+		if (requirement == null || requirement.getMaxRegressionPercent() < 0 || comparison == null)
+			return Verdict.IGNORED;
+		return (comparison.isRegression() ? Verdict.FAILURE : Verdict.SUCCESS);
+	}
+
+	public static Verdict allocationVerdict(ExecutionStatistics statistics, PerformanceRequirement requirement) {
+		ResourceUsage usage = (statistics != null ? statistics.getResourceUsage() : null);
+		if (requirement == null || requirement.getAllocationPerInvocation() < 0 || usage == null || usage.getAllocation() == null)
+			return Verdict.IGNORED;
+		return (usage.getAllocatedBytesPerInvocation() <= requirement.getAllocationPerInvocation() ? Verdict.SUCCESS : Verdict.FAILURE);
+	}
+
+	public static Verdict gcTimeVerdict(ExecutionStatistics statistics, PerformanceRequirement requirement) {
+		ResourceUsage usage = (statistics != null ? statistics.getResourceUsage() : null);
+		if (requirement == null || requirement.getMaxGcTime() < 0 || usage == null)
+			return Verdict.IGNORED;
+		return (usage.getGcTime() <= requirement.getMaxGcTime() ? Verdict.SUCCESS : Verdict.FAILURE);
+	}
+
 	public static Verdict totalTimeVerdict(LatencyCounter counter, PerformanceRequirement requirement) {
 		if (requirement == null || requirement.getTotalTime() < 0)
 			return Verdict.IGNORED;
@@ -48,7 +87,8 @@ public static Verdict totalTimeVerdict(LatencyCounter counter, PerformanceRequir
 	public static Verdict maxVerdict(LatencyCounter counter, PerformanceRequirement requirement) {
 		if (requirement == null || requirement.getMax() < 0)
 			return Verdict.IGNORED;
-		return (counter.maxLatency() <= requirement.getMax() ? Verdict.SUCCESS : Verdict.FAILURE);
+		long limit = counter.getTimeUnit().convert(requirement.getMax(), requirement.getTimeUnit());
+		return (counter.maxLatency() <= limit ? Verdict.SUCCESS : Verdict.FAILURE);
 	}
 
 	public static Verdict throughputVerdict(LatencyCounter counter, PerformanceRequirement requirement) {
@@ -60,19 +100,26 @@ public static Verdict throughputVerdict(LatencyCounter counter, PerformanceRequi
 	public static Verdict averageVerdict(LatencyCounter counter, PerformanceRequirement requirement) {
 		if (requirement == null || requirement.getAverage() < 0)
 			return Verdict.IGNORED;
-		return (counter.averageLatency() <= requirement.getAverage() ? Verdict.SUCCESS : Verdict.FAILURE);
+		double averageNanos = counter.averageLatency() * counter.getTimeUnit().toNanos(1);
+		double requiredNanos = (double) requirement.getAverage() * requirement.getTimeUnit().toNanos(1);
+		return (averageNanos <= requiredNanos ? Verdict.SUCCESS : Verdict.FAILURE);
 	}
 
 	public static Verdict percentileVerdict(LatencyCounter counter, PercentileRequirement requirement) {
-		if (requirement == null || requirement.getMillis() < 0)
+		if (requirement == null || requirement.getLimit() < 0)
 			return Verdict.IGNORED;
-		return percentileVerdict(counter, requirement.getPercentage(), (long) requirement.getMillis());
+		return percentileVerdict(counter, requirement.getPercentage(), (long) requirement.getLimit(), requirement.getTimeUnit());
 	}
 
 	public static Verdict percentileVerdict(LatencyCounter counter, int percentage, Long requiredMillis) {
-		if (requiredMillis == null || requiredMillis < 0)
+		return percentileVerdict(counter, percentage, requiredMillis, TimeUnit.MILLISECONDS);
+	}
+
+	public static Verdict percentileVerdict(LatencyCounter counter, int percentage, Long required, TimeUnit timeUnit) {
+		if (required == null || required < 0)
 			return Verdict.IGNORED;
-		return (counter.percentileLatency(percentage) <= requiredMillis ? Verdict.SUCCESS : Verdict.FAILURE);
+		long limit = counter.getTimeUnit().convert(required, timeUnit);
+		return (counter.percentileLatency(percentage) <= limit ? Verdict.SUCCESS : Verdict.FAILURE);
 	}
 
 }
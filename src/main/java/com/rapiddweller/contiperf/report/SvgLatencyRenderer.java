@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.contiperf.report.LatencyDataSet.LabelInfo;
+import com.rapiddweller.stat.LatencyCounter;
+
+import java.util.Locale;
+
+import static com.rapiddweller.contiperf.util.ContiPerfUtil.unitSymbol;
+
+/**
+ * Renders the latency distribution of a {@link LatencyCounter} as inline SVG, 
+ * so that reports can be viewed without network access. 
+ * A logarithmic latency axis makes long-tailed distributions readable.<br/><br/>
+ * Created: 18.10.2026 17:31:18
+ * @since 2.6.0
+ * @author agent
+ */
+public class SvgLatencyRenderer {
+	
+	private static final int LEFT = 10;
+	private static final int RIGHT = 15;
+	private static final int TOP = 20;
+	private static final int BOTTOM = 20;
+	
+	private final boolean logScale;
+	
+	public SvgLatencyRenderer() {
+		this(false);
+	}
+	
+	public SvgLatencyRenderer(boolean logScale) {
+		this.logScale = logScale;
+	}
+	
+	public String render(LatencyCounter counter, String title, int width, int height) {
+		LatencyDataSet dataset = (counter.sampleCount() > 0 ? LatencyDataSet.of(counter, 50) : new LatencyDataSet(0));
+		return renderDataset(dataset, title, unitSymbol(counter.getTimeUnit()), width, height);
+	}
+	
+	String renderDataset(LatencyDataSet dataset, String title, String unit, int width, int height) {
+		int plotWidth = width - LEFT - RIGHT;
+		int plotHeight = height - TOP - BOTTOM;
+		StringBuilder builder = new StringBuilder();
+		builder.append("<svg xmlns='http://www.w3.org/2000/svg' width='").append(width).append("' height='").append(height)
+			.append("' style='font-family:sans-serif;font-size:10px;'>\n");
+		// a plain fill, since element ids would clash between the charts of a report page
+		builder.append("<rect x='").append(LEFT).append("' y='").append(TOP).append("' width='").append(plotWidth)
+			.append("' height='").append(plotHeight).append("' fill='#FFFFC4' stroke='#999999'/>\n");
+		if (title != null)
+			appendText(width / 2., TOP - 6, "middle", title, builder);
+		int n = dataset.pointCount();
+		if (n > 0) {
+			// like the former Google charts, the highest point is drawn at 80% of the plot height
+			double maxY = dataset.getMaxY() / 0.8;
+			double maxX = scaleX(dataset.getMaxX());
+			StringBuilder points = new StringBuilder();
+			for (int i = 0; i < n; i++)
+				points.append(format(x(dataset.getX(i), maxX, plotWidth))).append(',')
+					.append(format(y(dataset.getY(i), maxY, plotHeight))).append(' ');
+			builder.append("<polygon fill='#FFE69B' stroke='#CC9900' points='")
+				.append(format(x(dataset.getX(0), maxX, plotWidth))).append(',').append(TOP + plotHeight).append(' ')
+				.append(points)
+				.append(format(x(dataset.getX(n - 1), maxX, plotWidth))).append(',').append(TOP + plotHeight)
+				.append("'/>\n");
+			for (LabelInfo label : dataset.getLabels()) {
+				int index = Math.min(label.index, n - 1);
+				double x = x(dataset.getX(index), maxX, plotWidth);
+				double y = y(dataset.getY(index), maxY, plotHeight);
+				builder.append("<line x1='").append(format(x)).append("' y1='").append(format(y))
+					.append("' x2='").append(format(x)).append("' y2='").append(format(y - 12))
+					.append("' stroke='#666666'/>\n");
+				appendText(x, y - 14, "middle", label.text, builder);
+			}
+			appendAxis(dataset.getMaxX(), maxX, unit, plotWidth, plotHeight, builder);
+		}
+		builder.append("</svg>");
+		return builder.toString();
+	}
+
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private void appendAxis(long maxLatency, double maxX, String unit, int plotWidth, int plotHeight, StringBuilder builder) {
+		int y = TOP + plotHeight + 12;
+		if (logScale) {
+			for (long tick = 1; tick <= maxLatency; tick *= 10)
+				appendTick(tick, x(tick, maxX, plotWidth), y, builder);
+		} else {
+			appendTick(0, x(0, maxX, plotWidth), y, builder);
+			appendTick(maxLatency / 2, x(maxLatency / 2, maxX, plotWidth), y, builder);
+		}
+		appendText(LEFT + plotWidth, y, "end", maxLatency + " " + unit, builder);
+	}
+
+	private static void appendTick(long value, double x, int y, StringBuilder builder) {
+		builder.append("<line x1='").append(format(x)).append("' y1='").append(y - 12)
+			.append("' x2='").append(format(x)).append("' y2='").append(y - 9).append("' stroke='#999999'/>\n");
+		appendText(x, y, "middle", String.valueOf(value), builder);
+	}
+
+	private double x(long latency, double maxX, int plotWidth) {
+		return LEFT + (maxX > 0 ? scaleX(latency) * plotWidth / maxX : 0);
+	}
+
+	private static double y(int count, double maxY, int plotHeight) {
+		return TOP + plotHeight - count * plotHeight / maxY;
+	}
+
+	private double scaleX(long latency) {
+		return (logScale ? Math.log10(1 + Math.max(latency, 0)) : latency);
+	}
+
+	private static void appendText(double x, double y, String anchor, String text, StringBuilder builder) {
+		builder.append("<text x='").append(format(x)).append("' y='").append(format(y)).append("' text-anchor='").append(anchor)
+			.append("'>").append(text).append("</text>\n");
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.US, "%.1f", value);
+	}
+
+}
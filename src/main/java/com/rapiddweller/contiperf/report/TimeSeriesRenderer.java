@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.stat.IntervalStatistics;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Renders the development of throughput and latency over the {@link IntervalStatistics} 
+ * of a test execution as inline SVG: Throughput is drawn as bars in the background, 
+ * median, 99% and max latency as lines in front, and intervals with errors are marked at the top.<br/><br/>
+ * Created: 18.10.2026 14:48:20
+ * @since 2.6.0
+ * @author agent
+ */
+public class TimeSeriesRenderer {
+	
+	private static final int LEFT = 50;
+	private static final int RIGHT = 50;
+	private static final int TOP = 20;
+	private static final int BOTTOM = 30;
+	
+	public String render(List<IntervalStatistics> intervals, String unit, int width, int height) {
+		int plotWidth = width - LEFT - RIGHT;
+		int plotHeight = height - TOP - BOTTOM;
+		long maxLatency = 1;
+		double maxThroughput = 1;
+		for (IntervalStatistics interval : intervals) {
+			maxLatency = Math.max(maxLatency, interval.getMax());
+			maxThroughput = Math.max(maxThroughput, interval.getThroughput());
+		}
+		IntervalStatistics last = intervals.get(intervals.size() - 1);
+		double duration = Math.max(last.getStartOffset() + last.getLength(), 1);
+		StringBuilder builder = new StringBuilder();
+		builder.append("<svg xmlns='http://www.w3.org/2000/svg' width='").append(width).append("' height='").append(height)
+			.append("' style='font-family:sans-serif;font-size:10px;'>\n");
+		builder.append("<rect x='").append(LEFT).append("' y='").append(TOP).append("' width='").append(plotWidth)
+			.append("' height='").append(plotHeight).append("' fill='#FFFFF0' stroke='#999999'/>\n");
+		// throughput bars
+		for (IntervalStatistics interval : intervals) {
+			double x = LEFT + interval.getStartOffset() * plotWidth / duration;
+			double w = interval.getLength() * plotWidth / duration;
+			double h = interval.getThroughput() * plotHeight / maxThroughput;
+			builder.append("<rect x='").append(format(x)).append("' y='").append(format(TOP + plotHeight - h))
+				.append("' width='").append(format(w)).append("' height='").append(format(h))
+				.append("' fill='#FFE69B' stroke='#FFFFF0'/>\n");
+		}
+		// latency lines
+		appendLine(intervals, 0, maxLatency, duration, plotWidth, plotHeight, "#00BB00", builder);
+		appendLine(intervals, 1, maxLatency, duration, plotWidth, plotHeight, "#EE6600", builder);
+		appendLine(intervals, 2, maxLatency, duration, plotWidth, plotHeight, "#CC0000", builder);
+		// error markers
+		for (IntervalStatistics interval : intervals) {
+			if (interval.getErrors() > 0) {
+				double x = LEFT + (interval.getStartOffset() + interval.getLength() / 2.) * plotWidth / duration;
+				builder.append("<circle cx='").append(format(x)).append("' cy='").append(TOP - 8)
+					.append("' r='4' fill='RED'><title>").append(interval.getErrors()).append(" errors</title></circle>\n");
+			}
+		}
+		// axes and legend
+		appendText(LEFT - 4, TOP + 4, "end", maxLatency + " " + unit, builder);
+		appendText(LEFT - 4, TOP + plotHeight, "end", "0", builder);
+		appendText(LEFT + plotWidth + 4, TOP + 4, "start", format(maxThroughput) + "/s", builder);
+		appendText(LEFT + plotWidth + 4, TOP + plotHeight, "start", "0/s", builder);
+		appendText(LEFT, TOP + plotHeight + 12, "start", "0 s", builder);
+		appendText(LEFT + plotWidth, TOP + plotHeight + 12, "end", format(duration / 1000) + " s", builder);
+		builder.append("<text x='").append(LEFT + plotWidth / 2).append("' y='").append(height - 4)
+			.append("' text-anchor='middle'><tspan fill='#00BB00'>median</tspan> <tspan fill='#EE6600'>99%</tspan> ")
+			.append("<tspan fill='#CC0000'>max</tspan> <tspan fill='#CC9900'>throughput</tspan></text>\n");
+		builder.append("</svg>");
+		return builder.toString();
+	}
+
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private static void appendLine(List<IntervalStatistics> intervals, int series, long maxLatency, double duration, 
+			int plotWidth, int plotHeight, String color, StringBuilder builder) {
+		builder.append("<polyline fill='none' stroke='").append(color).append("' points='");
+		for (IntervalStatistics interval : intervals) {
+			if (interval.getInvocations() == 0)
+				continue;
+			double x = LEFT + (interval.getStartOffset() + interval.getLength() / 2.) * plotWidth / duration;
+			double y = TOP + plotHeight - latency(interval, series) * plotHeight / (double) maxLatency;
+			builder.append(format(x)).append(',').append(format(y)).append(' ');
+		}
+		builder.append("'/>\n");
+	}
+
+	private static long latency(IntervalStatistics interval, int series) {
+		switch (series) {
+			case 0:  return interval.getMedian();
+			case 1:  return interval.getPercentile99();
+			default: return interval.getMax();
+		}
+	}
+
+	private static void appendText(int x, int y, String anchor, String text, StringBuilder builder) {
+		builder.append("<text x='").append(x).append("' y='").append(y).append("' text-anchor='").append(anchor)
+			.append("'>").append(text).append("</text>\n");
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.US, "%.1f", value);
+	}
+
+}
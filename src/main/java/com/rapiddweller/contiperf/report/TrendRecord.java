@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.stat.LatencyCounter;
+
+import java.io.BufferedReader;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summary of one execution of a test in one build, as stored in the {@link TrendStore}: 
+ * Metadata of the run (time, git commit, JVM, cores) and its key figures, 
+ * with latencies normalized to nanoseconds for comparability across builds.<br/><br/>
+ * Created: 18.10.2026 20:52:13
+ * @since 2.6.0
+ * @author agent
+ */
+public class TrendRecord {
+	
+	public static final String SYSPROP_COMMIT = "contiperf.commit";
+	
+	private static final String[] COMMIT_ENV_VARIABLES = { "GIT_COMMIT", "GITHUB_SHA", "CI_COMMIT_SHA" };
+	
+	private static String currentCommit;
+	
+	public final String id;
+	public final long timestamp;
+	public final String commit;
+	public final String jvm;
+	public final int cores;
+	public final long median;
+	public final long percentile90;
+	public final long percentile99;
+	public final long max;
+	public final double throughput;
+	
+	public TrendRecord(String id, long timestamp, String commit, String jvm, int cores, 
+			long median, long percentile90, long percentile99, long max, double throughput) {
+		this.id = id;
+		this.timestamp = timestamp;
+		this.commit = commit;
+		this.jvm = jvm;
+		this.cores = cores;
+		this.median = median;
+		this.percentile90 = percentile90;
+		this.percentile99 = percentile99;
+		this.max = max;
+		this.throughput = throughput;
+	}
+	
+	/** Creates the record of a finished test execution in the current build environment */
+	public static TrendRecord of(String id, LatencyCounter counter) {
+		TimeUnit unit = counter.getTimeUnit();
+		return new TrendRecord(id, counter.getStartTime(), currentCommit(), 
+				System.getProperty("java.vm.name") + ' ' + System.getProperty("java.version"), 
+				Runtime.getRuntime().availableProcessors(), 
+				unit.toNanos(counter.percentileLatency(50)), unit.toNanos(counter.percentileLatency(90)), 
+				unit.toNanos(counter.percentileLatency(99)), unit.toNanos(counter.maxLatency()), counter.throughput());
+	}
+	
+	public void write(DataOutput out) throws IOException {
+		out.writeLong(timestamp);
+		out.writeUTF(id);
+		out.writeUTF(commit);
+		out.writeUTF(jvm);
+		out.writeInt(cores);
+		out.writeLong(median);
+		out.writeLong(percentile90);
+		out.writeLong(percentile99);
+		out.writeLong(max);
+		out.writeDouble(throughput);
+	}
+	
+	public static TrendRecord read(DataInput in) throws IOException {
+		long timestamp = in.readLong();
+		String id = in.readUTF();
+		String commit = in.readUTF();
+		String jvm = in.readUTF();
+		int cores = in.readInt();
+		return new TrendRecord(id, timestamp, commit, jvm, cores, 
+				in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readDouble());
+	}
+	
+	/** @return the first characters of the commit hash as usually displayed by git */
+	public String shortCommit() {
+		return (commit.length() > 8 ? commit.substring(0, 8) : commit);
+	}
+	
+	@Override
+	public String toString() {
+		return id + " @ " + shortCommit() + ": median " + median + ", 90%: " + percentile90 + ", 99%: " + percentile99 + 
+				", max " + max + " ns, " + throughput + " / s";
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	/** Determines the git commit of the build from the system property {@value #SYSPROP_COMMIT}, 
+	 *  the environment variables set by common CI servers or the .git folder of the working directory */
+	static synchronized String currentCommit() {
+		if (currentCommit == null) {
+			String commit = System.getProperty(SYSPROP_COMMIT);
+			for (int i = 0; commit == null && i < COMMIT_ENV_VARIABLES.length; i++)
+				commit = System.getenv(COMMIT_ENV_VARIABLES[i]);
+			if (commit == null)
+				commit = readGitHead(new File(System.getProperty("user.dir"), ".git"));
+			currentCommit = (commit != null ? commit : "");
+		}
+		return currentCommit;
+	}
+	
+	static String readGitHead(File gitFolder) {
+		try {
+			String head = readLine(new File(gitFolder, "HEAD"));
+			if (head == null || !head.startsWith("ref: "))
+				return head;
+			String ref = head.substring(5);
+			File refFile = new File(gitFolder, ref);
+			if (refFile.exists())
+				return readLine(refFile);
+			File packedRefs = new File(gitFolder, "packed-refs");
+			if (packedRefs.exists()) {
+				try (BufferedReader in = new BufferedReader(new FileReader(packedRefs))) {
+					String line;
+					while ((line = in.readLine()) != null)
+						if (line.endsWith(' ' + ref))
+							return line.substring(0, line.indexOf(' '));
+				}
+			}
+			return null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+	
+	private static String readLine(File file) throws IOException {
+		if (!file.exists())
+			return null;
+		try (BufferedReader in = new BufferedReader(new FileReader(file))) {
+			String line = in.readLine();
+			return (line != null ? line.trim() : null);
+		}
+	}
+	
+}
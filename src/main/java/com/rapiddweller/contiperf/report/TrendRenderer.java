@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Renders the {@link TrendRecord}s of a test over the last builds as inline SVG sparklines, 
+ * one for throughput and one for 90% latency. Each point carries a tooltip with the commit and 
+ * the time of its build.<br/><br/>
+ * Created: 18.10.2026 21:18:02
+ * @since 2.6.0
+ * @author agent
+ */
+public class TrendRenderer {
+	
+	private static final int LABEL_WIDTH = 100;
+	private static final int VALUE_WIDTH = 90;
+	private static final int ROW_HEIGHT = 30;
+	private static final int MARGIN = 4;
+	
+	public String render(List<TrendRecord> records, int width) {
+		int height = 2 * ROW_HEIGHT;
+		StringBuilder builder = new StringBuilder();
+		builder.append("<svg xmlns='http://www.w3.org/2000/svg' width='").append(width).append("' height='").append(height)
+			.append("' style='font-family:sans-serif;font-size:10px;'>\n");
+		double[] throughput = new double[records.size()];
+		double[] latency = new double[records.size()];
+		for (int i = 0; i < records.size(); i++) {
+			throughput[i] = records.get(i).throughput;
+			latency[i] = records.get(i).percentile90 / 1000000.;
+		}
+		appendRow(0, "Throughput trend:", throughput, "/ s", "#CC9900", records, width, builder);
+		appendRow(ROW_HEIGHT, "90% latency trend:", latency, "ms", "#EE6600", records, width, builder);
+		builder.append("</svg>");
+		return builder.toString();
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private static void appendRow(int top, String label, double[] values, String unit, String color, 
+			List<TrendRecord> records, int width, StringBuilder builder) {
+		int plotWidth = width - LABEL_WIDTH - VALUE_WIDTH;
+		int plotHeight = ROW_HEIGHT - 2 * MARGIN;
+		double min = values[0];
+		double max = values[0];
+		for (double value : values) {
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		double range = (max > min ? max - min : 1);
+		double step = (values.length > 1 ? (double) plotWidth / (values.length - 1) : 0);
+		appendText(0, top + ROW_HEIGHT / 2 + 4, "start", label, builder);
+		StringBuilder points = new StringBuilder();
+		for (int i = 0; i < values.length; i++)
+			points.append(format(LABEL_WIDTH + i * step)).append(',')
+				.append(format(y(values[i], min, range, top, plotHeight))).append(' ');
+		builder.append("<polyline fill='none' stroke='").append(color).append("' stroke-width='1.5' points='")
+			.append(points.toString().trim()).append("'/>\n");
+		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm", Locale.US);
+		for (int i = 0; i < values.length; i++) {
+			TrendRecord record = records.get(i);
+			builder.append("<circle cx='").append(format(LABEL_WIDTH + i * step)).append("' cy='")
+				.append(format(y(values[i], min, range, top, plotHeight))).append("' r='")
+				.append(i == values.length - 1 ? 3 : 2).append("' fill='").append(color).append("'><title>")
+				.append(format(values[i])).append(' ').append(unit).append(" @ ").append(record.shortCommit()).append(' ')
+				.append(dateFormat.format(new Date(record.timestamp))).append("</title></circle>\n");
+		}
+		appendText(LABEL_WIDTH + plotWidth + 8, top + ROW_HEIGHT / 2 + 4, "start", 
+				format(values[values.length - 1]) + " " + unit, builder);
+	}
+	
+	private static double y(double value, double min, double range, int top, int plotHeight) {
+		return top + MARGIN + plotHeight - (value - min) * plotHeight / range;
+	}
+	
+	private static void appendText(int x, int y, String anchor, String text, StringBuilder builder) {
+		builder.append("<text x='").append(x).append("' y='").append(y).append("' text-anchor='").append(anchor)
+			.append("'>").append(text).append("</text>\n");
+	}
+	
+	private static String format(double value) {
+		return String.format(Locale.US, "%.1f", value);
+	}
+	
+}
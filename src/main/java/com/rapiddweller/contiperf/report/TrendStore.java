@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileLock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores {@link TrendRecord}s of the latest builds in one append-only file per test, 
+ * so that drifts become visible over time. Each record is prefixed with its length and a 
+ * format version, so that readers can skip records of other versions and a truncated last record, 
+ * which is cut off before the next record is appended. 
+ * When a file exceeds the retention limit, it is rewritten with the latest records only, so that 
+ * reading the history of a test does not get slower from build to build. 
+ * Appending is protected with a file lock, so that forked JVMs can share the store.<br/><br/>
+ * Created: 18.10.2026 21:04:38
+ * @since 2.6.0
+ * @author agent
+ */
+public class TrendStore {
+	
+	/** the default number of builds kept per test */
+	public static final int DEFAULT_RETENTION = 100;
+	
+	private static final int MAGIC = 0x43505452; // 'CPTR'
+	private static final byte VERSION = 1;
+	
+	private static final String FOLDER_NAME = "history";
+	
+	private final File folder;
+	private final int retention;
+	
+	public TrendStore(File folder, int retention) {
+		if (retention < 1)
+			throw new IllegalArgumentException("Retention must be positive: " + retention);
+		this.folder = folder;
+		this.retention = retention;
+	}
+	
+	/** creates a store in the 'history' sub folder of the report folder */
+	public static TrendStore inReportFolder(File reportFolder) {
+		return new TrendStore(new File(reportFolder, FOLDER_NAME), DEFAULT_RETENTION);
+	}
+	
+	public void append(TrendRecord record) throws IOException {
+		byte[] bytes = serialize(record);
+		folder.mkdirs();
+		try (RandomAccessFile file = new RandomAccessFile(file(record.id), "rw")) {
+			FileLock lock = file.getChannel().lock();
+			try {
+				List<byte[]> records = readRecords(file);
+				if (records.size() < retention) {
+					if (file.length() < 4) {
+						// a new file or one whose header was cut off
+						file.setLength(0);
+						file.writeInt(MAGIC);
+					}
+					// drop the remainder of a torn last record, so that it does not swallow the new one
+					long end = completeLength(records);
+					if (file.length() > end)
+						file.setLength(end);
+					file.seek(end);
+					file.write(bytes);
+				} else {
+					file.setLength(0);
+					file.writeInt(MAGIC);
+					for (byte[] old : records.subList(records.size() - retention + 1, records.size()))
+						file.write(old);
+					file.write(bytes);
+				}
+			} finally {
+				lock.release();
+			}
+		}
+	}
+	
+	/** @return the latest records of the test, in chronological order */
+	public List<TrendRecord> history(String id, int maxCount) throws IOException {
+		List<TrendRecord> result = new ArrayList<>();
+		File file = file(id);
+		if (!file.exists())
+			return result;
+		List<byte[]> records;
+		try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+			FileLock lock = in.getChannel().lock(0, Long.MAX_VALUE, true);
+			try {
+				records = readRecords(in);
+			} finally {
+				lock.release();
+			}
+		}
+		for (byte[] bytes : records.subList(Math.max(0, records.size() - maxCount), records.size())) {
+			TrendRecord record = deserialize(bytes);
+			if (record != null && record.id.equals(id))
+				result.add(record);
+		}
+		return result;
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private File file(String id) {
+		return new File(folder, id.replaceAll("[^A-Za-z0-9._-]", "_") + ".bin");
+	}
+	
+	/** @return the record with its length prefix */
+	private static byte[] serialize(TrendRecord record) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buffer);
+		out.writeInt(0); // placeholder for the record length
+		out.writeByte(VERSION);
+		record.write(out);
+		out.flush();
+		byte[] bytes = buffer.toByteArray();
+		ByteBuffer.wrap(bytes).putInt(0, bytes.length - 4);
+		return bytes;
+	}
+	
+	/** @return the record, or null if it has a different format version */
+	private static TrendRecord deserialize(byte[] bytes) throws IOException {
+		if (bytes.length <= 5 || bytes[4] != VERSION)
+			return null;
+		return TrendRecord.read(new DataInputStream(new ByteArrayInputStream(bytes, 5, bytes.length - 5)));
+	}
+	
+	/** @return the length of a file which consists of the header and the given records */
+	private static long completeLength(List<byte[]> records) {
+		long length = 4;
+		for (byte[] record : records)
+			length += record.length;
+		return length;
+	}
+	
+	/** Reads all complete records of a file, each including its length prefix, ignoring a truncated last record */
+	private static List<byte[]> readRecords(RandomAccessFile file) throws IOException {
+		List<byte[]> records = new ArrayList<>();
+		if (file.length() < 4)
+			return records;
+		byte[] content = new byte[(int) file.length()];
+		file.seek(0);
+		file.readFully(content);
+		ByteBuffer buffer = ByteBuffer.wrap(content);
+		if (buffer.remaining() < 4 || buffer.getInt() != MAGIC)
+			throw new IOException("Not a trend file");
+		while (buffer.remaining() >= 4) {
+			int length = buffer.getInt(buffer.position());
+			if (length < 0 || buffer.remaining() - 4 < length)
+				break;
+			byte[] record = new byte[length + 4];
+			buffer.get(record);
+			records.add(record);
+		}
+		return records;
+	}
+	
+}
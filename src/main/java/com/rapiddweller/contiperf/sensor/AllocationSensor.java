@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+import com.rapiddweller.stat.AllocationCounter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the bytes allocated by the invocations of a test in the invoking threads, 
+ * using the thread allocation counters of HotSpot's <code>com.sun.management.ThreadMXBean</code>. 
+ * For tests with an allocation requirement, the {@link com.rapiddweller.contiperf.PerformanceTracker} 
+ * reads {@link #threadAllocatedBytes()} before and after each invocation and passes the difference 
+ * to {@link #addSample(long)}, which records it in an {@link AllocationCounter}. 
+ * The measurement is not used for other tests, since reading the thread's counter is costly 
+ * on JVMs which look up the thread by its id.<br/><br/>
+ * Created: 18.10.2026 11:33:40
+ * @since 2.6.0
+ * @author agent
+ */
+public class AllocationSensor implements Sensor {
+	
+	private final com.sun.management.ThreadMXBean bean;
+	private final AllocationCounter counter;
+	
+	private AllocationSensor(com.sun.management.ThreadMXBean bean) {
+		this.bean = bean;
+		this.counter = new AllocationCounter();
+	}
+	
+	/** @return a new AllocationSensor, or null if the JVM does not support thread allocation measurement */
+	public static AllocationSensor createIfSupported() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean))
+			return null;
+		com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+		if (!sunBean.isThreadAllocatedMemorySupported() || !sunBean.isThreadAllocatedMemoryEnabled())
+			return null;
+		return new AllocationSensor(sunBean);
+	}
+	
+	/** @return the number of bytes allocated by the current thread so far */
+	public long threadAllocatedBytes() {
+		return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+	
+	public void addSample(long bytes) {
+		counter.addSample(bytes);
+	}
+
+	@Override
+	public void start() {
+		// the counter is created with the sensor, which is used for a single test execution
+	}
+
+	@Override
+	public void stop(ResourceUsage usage) {
+		usage.setAllocation(counter);
+	}
+	
+}
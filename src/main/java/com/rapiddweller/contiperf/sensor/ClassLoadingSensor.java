@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts the classes loaded while a test is executed.<br/><br/>
+ * Created: 18.10.2026 11:25:48
+ * @since 2.6.0
+ * @author agent
+ */
+public class ClassLoadingSensor implements Sensor {
+	
+	private final ClassLoadingMXBean bean = ManagementFactory.getClassLoadingMXBean();
+	private long startCount;
+
+	@Override
+	public void start() {
+		startCount = bean.getTotalLoadedClassCount();
+	}
+
+	@Override
+	public void stop(ResourceUsage usage) {
+		usage.setLoadedClasses(bean.getTotalLoadedClassCount() - startCount);
+	}
+	
+}
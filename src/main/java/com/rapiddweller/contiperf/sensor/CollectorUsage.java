@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+/**
+ * Number and accumulated duration of the collections performed by a garbage collector.<br/><br/>
+ * Created: 18.10.2026 11:05:40
+ * @since 2.6.0
+ * @author agent
+ */
+public class CollectorUsage {
+	
+	private final String name;
+	private final long count;
+	private final long time;
+	
+	public CollectorUsage(String name, long count, long time) {
+		this.name = name;
+		this.count = count;
+		this.time = time;
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public long getCount() {
+		return count;
+	}
+	
+	/** @return the accumulated collection time in milliseconds */
+	public long getTime() {
+		return time;
+	}
+	
+	@Override
+	public String toString() {
+		return name + ": " + count + " collections, " + time + " ms";
+	}
+	
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the time spent by the JIT compiler while a test is executed. 
+ * Compilation during the measurement indicates that the warm-up was too short.<br/><br/>
+ * Created: 18.10.2026 11:28:12
+ * @since 2.6.0
+ * @author agent
+ */
+public class CompilationSensor implements Sensor {
+	
+	private final CompilationMXBean bean;
+	private long startTime;
+	
+	public CompilationSensor() {
+		CompilationMXBean bean = ManagementFactory.getCompilationMXBean();
+		this.bean = (bean != null && bean.isCompilationTimeMonitoringSupported() ? bean : null);
+	}
+
+	@Override
+	public void start() {
+		if (bean != null)
+			startTime = bean.getTotalCompilationTime();
+	}
+
+	@Override
+	public void stop(ResourceUsage usage) {
+		if (bean != null)
+			usage.setCompilationTime(bean.getTotalCompilationTime() - startTime);
+	}
+	
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Measures number and duration of the garbage collections of each collector.<br/><br/>
+ * Created: 18.10.2026 11:16:31
+ * @since 2.6.0
+ * @author agent
+ */
+public class GarbageCollectionSensor implements Sensor {
+	
+	private final List<GarbageCollectorMXBean> beans;
+	private final long[] startCounts;
+	private final long[] startTimes;
+	
+	public GarbageCollectionSensor() {
+		this.beans = ManagementFactory.getGarbageCollectorMXBeans();
+		this.startCounts = new long[beans.size()];
+		this.startTimes = new long[beans.size()];
+	}
+
+	@Override
+	public void start() {
+		for (int i = 0; i < beans.size(); i++) {
+			startCounts[i] = beans.get(i).getCollectionCount();
+			startTimes[i] = beans.get(i).getCollectionTime();
+		}
+	}
+
+	@Override
+	public void stop(ResourceUsage usage) {
+		for (int i = 0; i < beans.size(); i++) {
+			GarbageCollectorMXBean bean = beans.get(i);
+			usage.addCollector(new CollectorUsage(bean.getName(), 
+					bean.getCollectionCount() - startCounts[i], bean.getCollectionTime() - startTimes[i]));
+		}
+	}
+	
+}
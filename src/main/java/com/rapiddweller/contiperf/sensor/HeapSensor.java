@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the heap high water mark by resetting the peak usage of the heap memory pools 
+ * at the start and summing them up at the end. In contrast to the polling {@link MemorySensor}, 
+ * this does not miss short peaks. The peak usage is process-wide: While another test is being measured, 
+ * the peak is not reset, so that concurrent tests do not reset each other's high water mark. 
+ * Their value then covers the time since the earliest of them started.<br/><br/>
+ * Created: 18.10.2026 11:21:07
+ * @since 2.6.0
+ * @author agent
+ */
+public class HeapSensor implements Sensor {
+	
+	/** The number of HeapSensors between start and stop */
+	private static final AtomicInteger active = new AtomicInteger();
+
+	@Override
+	public void start() {
+		if (active.getAndIncrement() > 0)
+			return;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+			if (pool.getType() == MemoryType.HEAP && pool.isValid())
+				pool.resetPeakUsage();
+	}
+
+	@Override
+	public void stop(ResourceUsage usage) {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+				MemoryUsage poolPeak = pool.getPeakUsage();
+				if (poolPeak != null)
+					peak += poolPeak.getUsed();
+			}
+		}
+		usage.setHeapHighWaterMark(peak);
+		active.decrementAndGet();
+	}
+	
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+import com.rapiddweller.stat.AllocationCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the resources consumed during a test execution as measured by the {@link Sensor}s. 
+ * Garbage collection, safepoint, heap, class loading and compilation figures are process-wide, 
+ * so they include the activity of concurrently running tests. 
+ * Values which could not be measured on the current JVM are -1.<br/><br/>
+ * Created: 18.10.2026 11:09:58
+ * @since 2.6.0
+ * @author agent
+ */
+public class ResourceUsage {
+	
+	private final List<CollectorUsage> collectors;
+	private long heapHighWaterMark;
+	private AllocationCounter allocation;
+	private long loadedClasses;
+	private long compilationTime;
+	private long safepointCount;
+	private long safepointTime;
+	
+	public ResourceUsage() {
+		this.collectors = new ArrayList<>();
+		this.heapHighWaterMark = -1;
+		this.allocation = null;
+		this.loadedClasses = -1;
+		this.compilationTime = -1;
+		this.safepointCount = -1;
+		this.safepointTime = -1;
+	}
+	
+	// garbage collection ----------------------------------------------------------------------------------------------
+	
+	public List<CollectorUsage> getCollectors() {
+		return collectors;
+	}
+	
+	public void addCollector(CollectorUsage collector) {
+		collectors.add(collector);
+	}
+	
+	/** @return the number of garbage collections of all collectors */
+	public long getGcCount() {
+		long result = 0;
+		for (CollectorUsage collector : collectors)
+			result += collector.getCount();
+		return result;
+	}
+	
+	/** @return the accumulated garbage collection time of all collectors in milliseconds */
+	public long getGcTime() {
+		long result = 0;
+		for (CollectorUsage collector : collectors)
+			result += collector.getTime();
+		return result;
+	}
+	
+	// safepoints ------------------------------------------------------------------------------------------------------
+	
+	/** @return the number of safepoints, or -1 if it was not measured */
+	public long getSafepointCount() {
+		return safepointCount;
+	}
+	
+	public void setSafepointCount(long safepointCount) {
+		this.safepointCount = safepointCount;
+	}
+	
+	/** @return the time the application threads were stopped at safepoints in milliseconds, or -1 if it was not measured */
+	public long getSafepointTime() {
+		return safepointTime;
+	}
+	
+	public void setSafepointTime(long safepointTime) {
+		this.safepointTime = safepointTime;
+	}
+	
+	// heap ------------------------------------------------------------------------------------------------------------
+	
+	/** @return the sum of the peak usages of the heap memory pools in bytes */
+	public long getHeapHighWaterMark() {
+		return heapHighWaterMark;
+	}
+	
+	public void setHeapHighWaterMark(long heapHighWaterMark) {
+		this.heapHighWaterMark = heapHighWaterMark;
+	}
+	
+	// allocation ------------------------------------------------------------------------------------------------------
+	
+	/** @return the distribution of the bytes allocated per invocation, or null if it was not measured */
+	public AllocationCounter getAllocation() {
+		return allocation;
+	}
+	
+	public void setAllocation(AllocationCounter allocation) {
+		this.allocation = allocation;
+	}
+	
+	/** @return the number of bytes allocated by the measured invocations, or -1 if it was not measured */
+	public long getAllocatedBytes() {
+		return (allocation != null ? allocation.totalBytes() : -1);
+	}
+	
+	/** @return the number of invocations for which allocation was measured */
+	public long getAllocationSamples() {
+		return (allocation != null ? allocation.sampleCount() : 0);
+	}
+	
+	/** @return the average number of bytes allocated by an invocation, or -1 if it was not measured */
+	public double getAllocatedBytesPerInvocation() {
+		return (allocation != null ? allocation.averageBytes() : -1);
+	}
+	
+	// class loading and compilation -----------------------------------------------------------------------------------
+	
+	public long getLoadedClasses() {
+		return loadedClasses;
+	}
+	
+	public void setLoadedClasses(long loadedClasses) {
+		this.loadedClasses = loadedClasses;
+	}
+	
+	/** @return the time spent by the JIT compiler in milliseconds */
+	public long getCompilationTime() {
+		return compilationTime;
+	}
+	
+	public void setCompilationTime(long compilationTime) {
+		this.compilationTime = compilationTime;
+	}
+	
+	// java.lang.Object overrides --------------------------------------------------------------------------------------
+	
+	@Override
+	public String toString() {
+		return "gc: " + getGcCount() + " collections, " + getGcTime() + " ms" + 
+				", heap high water mark: " + heapHighWaterMark + " bytes" + 
+				", allocated: " + getAllocatedBytes() + " bytes" + 
+				", loaded classes: " + loadedClasses + 
+				", compilation: " + compilationTime + " ms" + 
+				", safepoints: " + safepointCount + ", " + safepointTime + " ms";
+	}
+	
+}
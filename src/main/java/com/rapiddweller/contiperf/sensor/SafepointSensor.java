@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the number of safepoints and the time the application threads were stopped at them 
+ * while a test is executed. Safepoints stop all threads, not only for garbage collection, 
+ * but also for deoptimization, biased lock revocation or thread dumps, so they explain latency outliers 
+ * which the {@link GarbageCollectionSensor} does not show. The figures are taken from HotSpot's internal 
+ * runtime MBean, which is available on Java 8 and, from Java 9 on, if the JVM is started with 
+ * <code>--add-exports java.management/sun.management=ALL-UNNAMED</code>. 
+ * On other JVMs, the values are reported as -1.<br/><br/>
+ * Created: 18.10.2026 22:51:36
+ * @since 2.6.0
+ * @author agent
+ */
+public class SafepointSensor implements Sensor {
+	
+	private static final ObjectName RUNTIME_NAME = runtimeName();
+	
+	private long startCount;
+	private long startTime;
+	
+	/** @return true if the safepoint figures of the JVM are accessible */
+	public static boolean isSupported() {
+		return (RUNTIME_NAME != null);
+	}
+
+	@Override
+	public void start() {
+		if (RUNTIME_NAME != null) {
+			startCount = attribute("SafepointCount");
+			startTime = attribute("TotalSafepointTime");
+		}
+	}
+
+	@Override
+	public void stop(ResourceUsage usage) {
+		if (RUNTIME_NAME != null) {
+			usage.setSafepointCount(attribute("SafepointCount") - startCount);
+			usage.setSafepointTime(attribute("TotalSafepointTime") - startTime);
+		}
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private static long attribute(String name) {
+		try {
+			return ((Number) ManagementFactory.getPlatformMBeanServer().getAttribute(RUNTIME_NAME, name)).longValue();
+		} catch (Exception e) {
+			return -1;
+		}
+	}
+	
+	/** Registers HotSpot's internal MBeans if necessary and checks if their attributes can be read */
+	private static ObjectName runtimeName() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName internal = new ObjectName("sun.management:type=HotspotInternal");
+			if (!server.isRegistered(internal))
+				server.createMBean("sun.management.HotspotInternal", internal);
+			ObjectName runtime = new ObjectName("sun.management:type=HotspotRuntime");
+			server.getAttribute(runtime, "SafepointCount");
+			return runtime;
+		} catch (Exception | LinkageError e) {
+			return null;
+		}
+	}
+	
+}
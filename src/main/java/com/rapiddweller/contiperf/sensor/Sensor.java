@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+/**
+ * Measures the consumption of a JVM resource while a test is executed. 
+ * The {@link com.rapiddweller.contiperf.PerformanceTracker} calls {@link #start()} when the measurement 
+ * begins (after warm-up) and {@link #stop(ResourceUsage)} when it ends.<br/><br/>
+ * Created: 18.10.2026 11:02:15
+ * @since 2.6.0
+ * @author agent
+ */
+public interface Sensor {
+	
+	void start();
+	
+	/** Finishes the measurement and stores the result in the usage object. */
+	void stop(ResourceUsage usage);
+	
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.sensor;
+
+/**
+ * Starts and stops a group of {@link Sensor}s together and collects their results in a {@link ResourceUsage}.<br/><br/>
+ * Created: 18.10.2026 11:40:02
+ * @since 2.6.0
+ * @author agent
+ */
+public class SensorSet {
+	
+	private final Sensor[] sensors;
+	private final AllocationSensor allocationSensor;
+	
+	public SensorSet(AllocationSensor allocationSensor, Sensor... sensors) {
+		this.allocationSensor = allocationSensor;
+		this.sensors = sensors;
+	}
+	
+	/** @param measureAllocation if set, an {@link AllocationSensor} is added if the JVM supports it. 
+	 *      Since it is read twice per invocation, it should only be used when needed.
+	 *  @return a SensorSet with garbage collection, safepoint, heap, class loading and compilation sensors */
+	public static SensorSet createDefault(boolean measureAllocation) {
+		return new SensorSet((measureAllocation ? AllocationSensor.createIfSupported() : null), new GarbageCollectionSensor(), 
+				new SafepointSensor(), new HeapSensor(), new ClassLoadingSensor(), new CompilationSensor());
+	}
+	
+	/** @return the allocation sensor or null if allocation is not measured */
+	public AllocationSensor getAllocationSensor() {
+		return allocationSensor;
+	}
+	
+	public void start() {
+		for (Sensor sensor : sensors)
+			sensor.start();
+		if (allocationSensor != null)
+			allocationSensor.start();
+	}
+	
+	public ResourceUsage stop() {
+		ResourceUsage usage = new ResourceUsage();
+		for (Sensor sensor : sensors)
+			sensor.stop(usage);
+		if (allocationSensor != null)
+			allocationSensor.stop(usage);
+		return usage;
+	}
+	
+}
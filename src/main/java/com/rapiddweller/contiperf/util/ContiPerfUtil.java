@@ -22,6 +22,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Provides I/O utility methods.<br/><br/>
@@ -52,13 +53,51 @@ public static PerfTestException executionError(Throwable e) {
     }
 
 	public static ExecutionConfig mapPerfTestAnnotation(PerfTest annotation) {
-		if (annotation != null)
-			return new ExecutionConfig(annotation.invocations(), annotation.threads(), 
-					annotation.duration(), clocks(annotation), annotation.rampUp(), annotation.warmUp(), 
-					annotation.cancelOnViolation(), 
-					annotation.timer(), annotation.timerParams() /*, annotation.timeout()*/);
-		else
+		if (annotation == null)
 			return null;
+		ExecutionConfig config = new ExecutionConfig(annotation.invocations(), annotation.threads(), 
+				annotation.duration(), clocks(annotation), annotation.rampUp(), annotation.warmUp(), 
+				annotation.cancelOnViolation(), 
+				annotation.timer(), annotation.timerParams() /*, annotation.timeout()*/);
+		int significantDigits = annotation.significantDigits();
+		if (significantDigits < 0 || significantDigits > 5)
+			throw new PerfTestConfigurationError("significantDigits must be in the range 0..5, but was " + significantDigits);
+		config.setSignificantDigits(significantDigits);
+		config.setTimeUnit(annotation.timeUnit());
+		int reportBufferSize = annotation.reportBufferSize();
+		if (reportBufferSize <= 0)
+			throw new PerfTestConfigurationError("reportBufferSize must be positive, but was " + reportBufferSize);
+		config.setReportDispatch(annotation.reportDispatch());
+		config.setReportBufferSize(reportBufferSize);
+		config.setVirtualThreads(annotation.virtualThreads());
+		int rate = annotation.rate();
+		if (rate == 0 || rate < -1)
+			throw new PerfTestConfigurationError("rate must be positive, but was " + rate);
+		config.setRate(rate);
+		if (annotation.expectedInterval() < 0)
+			throw new PerfTestConfigurationError("expectedInterval must not be negative, but was " + annotation.expectedInterval());
+		config.setCorrectCoordinatedOmission(annotation.correctCoordinatedOmission());
+		config.setExpectedInterval(annotation.expectedInterval());
+		if (annotation.statisticsInterval() < 0)
+			throw new PerfTestConfigurationError("statisticsInterval must not be negative, but was " + annotation.statisticsInterval());
+		config.setStatisticsInterval(annotation.statisticsInterval());
+		WarmUpMode warmUpMode = annotation.warmUpMode();
+		int warmUpWindow = annotation.warmUpWindow();
+		if (warmUpWindow < WarmUpDetector.MIN_WINDOW_SIZE)
+			throw new PerfTestConfigurationError("warmUpWindow must be at least " + WarmUpDetector.MIN_WINDOW_SIZE + 
+					", but was " + warmUpWindow);
+		long minWarmUpInvocations = (long) warmUpWindow * WarmUpDetector.DEFAULT_WINDOW_COUNT;
+		if (warmUpMode != WarmUpMode.FIXED && annotation.duration() <= 0 
+				&& annotation.invocations() <= minWarmUpInvocations)
+			throw new PerfTestConfigurationError(warmUpMode + " requires more than " + 
+					minWarmUpInvocations + " invocations, but invocations was " + annotation.invocations());
+		config.setWarmUpMode(warmUpMode);
+		config.setWarmUpWindow(warmUpWindow);
+		if (annotation.evaluationInterval() <= 0)
+			throw new PerfTestConfigurationError("evaluationInterval must be positive, but was " + annotation.evaluationInterval());
+		config.setEarlyTermination(annotation.earlyTermination());
+		config.setEvaluationInterval(annotation.evaluationInterval());
+		return config;
     }
 
 	private static Clock[] clocks(PerfTest annotation) {
@@ -83,6 +122,7 @@ public static PerformanceRequirement mapRequired(Required annotation) {
 	    if (annotation == null)
 	    	return null;
 	    int throughput = annotation.throughput();
+	    TimeUnit timeUnit = annotation.timeUnit();
 
 		int average = annotation.average();
 		int max = annotation.max();
@@ -91,41 +131,63 @@ public static PerformanceRequirement mapRequired(Required annotation) {
 		List<PercentileRequirement> percTmp = new ArrayList<>();
 		int median = annotation.median();
 		if (median > 0)
-			percTmp.add(new PercentileRequirement(50, median));
+			percTmp.add(new PercentileRequirement(50, median, timeUnit));
 		int percentile90 = annotation.percentile90();
 		if (percentile90 > 0)
-			percTmp.add(new PercentileRequirement(90, percentile90));
+			percTmp.add(new PercentileRequirement(90, percentile90, timeUnit));
 		int percentile95 = annotation.percentile95();
 		if (percentile95 > 0)
-			percTmp.add(new PercentileRequirement(95, percentile95));
+			percTmp.add(new PercentileRequirement(95, percentile95, timeUnit));
 		int percentile99 = annotation.percentile99();
 		if (percentile99 > 0)
-			percTmp.add(new PercentileRequirement(99, percentile99));
+			percTmp.add(new PercentileRequirement(99, percentile99, timeUnit));
 
-		PercentileRequirement[] customPercs = parsePercentiles(annotation.percentiles());
+		PercentileRequirement[] customPercs = parsePercentiles(annotation.percentiles(), timeUnit);
 		percTmp.addAll(Arrays.asList(customPercs));
 		PercentileRequirement[] percs = new PercentileRequirement[percTmp.size()];
 		percTmp.toArray(percs);
-		return new PerformanceRequirement(average, max, totalTime, percs, throughput);
+		PerformanceRequirement requirement = new PerformanceRequirement(average, max, totalTime, percs, throughput);
+		requirement.setTimeUnit(timeUnit);
+		requirement.setMaxGcTime(annotation.maxGcTime());
+		requirement.setAllocationPerInvocation(annotation.allocationPerInvocation());
+		requirement.setMaxRegressionPercent(annotation.maxRegressionPercent());
+		return requirement;
     }
 
 	public static PercentileRequirement[] parsePercentiles(String percentilesSpec) {
+		return parsePercentiles(percentilesSpec, TimeUnit.MILLISECONDS);
+	}
+
+	public static PercentileRequirement[] parsePercentiles(String percentilesSpec, TimeUnit timeUnit) {
 		if (percentilesSpec == null || percentilesSpec.length() == 0)
 			return new PercentileRequirement[0];
 		String[] assignments = percentilesSpec.split(",");
 		PercentileRequirement[] reqs = new PercentileRequirement[assignments.length];
 		for (int i = 0; i < assignments.length; i++)
-			reqs[i] = parsePercentile(assignments[i]);
+			reqs[i] = parsePercentile(assignments[i], timeUnit);
 	    return reqs;
     }
 
-	private static PercentileRequirement parsePercentile(String assignment) {
+	/** @return the abbreviation of a time unit as used in reports, e.g. "ms" or "us" */
+	public static String unitSymbol(TimeUnit timeUnit) {
+		switch (timeUnit) {
+			case NANOSECONDS: return "ns";
+			case MICROSECONDS: return "us";
+			case MILLISECONDS: return "ms";
+			case SECONDS: return "s";
+			case MINUTES: return "min";
+			case HOURS: return "h";
+			default: return "d";
+		}
+	}
+
+	private static PercentileRequirement parsePercentile(String assignment, TimeUnit timeUnit) {
 	    String[] parts = assignment.split(":");
 	    if (parts.length != 2)
 	    	throw new PerfTestConfigurationError("Ilegal percentile syntax: " + assignment);
 	    int base  = Integer.parseInt(parts[0].trim());
 	    int limit = Integer.parseInt(parts[1].trim());
-		return new PercentileRequirement(base, limit);
+		return new PercentileRequirement(base, limit, timeUnit);
     }
 	
 }
@@ -37,5 +37,10 @@ public String getId() {
 	public Object invoke(Object[] args) throws Exception {
 	    return target.invoke(args);
     }
+
+	@Override
+	public Object invoke(Object[] args, long intendedStartNanos) throws Exception {
+	    return target.invoke(args, intendedStartNanos);
+    }
 	
 }
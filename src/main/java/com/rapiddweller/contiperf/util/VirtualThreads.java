@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Creates virtual threads if the Java runtime supports them (Java 21 or newer). 
+ * Since ContiPerf is compiled for Java 11, the Thread.Builder API is accessed by reflection.<br/><br/>
+ * Created: 17.10.2026 14:02:37
+ * @since 2.6.0
+ * @author agent
+ */
+public class VirtualThreads {
+	
+	private static final Method OF_VIRTUAL;
+	private static final Method NAME;
+	private static final Method UNCAUGHT_EXCEPTION_HANDLER;
+	private static final Method UNSTARTED;
+	
+	static {
+		Method ofVirtual = null;
+		Method name = null;
+		Method handler = null;
+		Method unstarted = null;
+		try {
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			ofVirtual = Thread.class.getMethod("ofVirtual");
+			name = builderClass.getMethod("name", String.class);
+			handler = builderClass.getMethod("uncaughtExceptionHandler", Thread.UncaughtExceptionHandler.class);
+			unstarted = builderClass.getMethod("unstarted", Runnable.class);
+			ofVirtual.invoke(null); // fails on runtimes which have virtual threads as disabled preview feature
+		} catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+			ofVirtual = null;
+		}
+		OF_VIRTUAL = ofVirtual;
+		NAME = name;
+		UNCAUGHT_EXCEPTION_HANDLER = handler;
+		UNSTARTED = unstarted;
+	}
+	
+	public static boolean isSupported() {
+		return (OF_VIRTUAL != null);
+	}
+	
+	/** Creates an unstarted virtual thread 
+	 *  @throws UnsupportedOperationException if the runtime does not support virtual threads */
+	public static Thread newThread(String name, Runnable task, Thread.UncaughtExceptionHandler handler) {
+		if (!isSupported())
+			throw new UnsupportedOperationException("Virtual threads are not supported by Java " 
+					+ System.getProperty("java.version"));
+		try {
+			Object builder = OF_VIRTUAL.invoke(null);
+			builder = NAME.invoke(builder, name);
+			if (handler != null)
+				builder = UNCAUGHT_EXCEPTION_HANDLER.invoke(builder, handler);
+			return (Thread) UNSTARTED.invoke(builder, task);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		} catch (InvocationTargetException e) {
+			throw new IllegalStateException("Error creating virtual thread " + name, e.getCause());
+		}
+	}
+	
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.profile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Exports a {@link Profile} tree in collapsed stack format (one line <code>root;a;b 42</code> per profile, 
+ * as processed by flamegraph.pl, speedscope and similar tools) or as a self-contained SVG flame graph, 
+ * which can be opened in any browser and shows the details of a frame as tool tip.
+ * The value of a profile is selected by a {@link ProfileWeight}. Tools which build flame graphs 
+ * from collapsed stacks add up the values along the stack, so they expect {@link ProfileWeight#SELF_LATENCY}.
+ * <br/><br/>
+ * Created: 18.10.2026 08:31:19
+ * @since 2.6.0
+ * @author agent
+ */
+public class FlameGraphExporter {
+	
+	private static final int WIDTH = 1200;
+	private static final int MARGIN = 10;
+	private static final int TITLE_HEIGHT = 24;
+	private static final int FRAME_HEIGHT = 16;
+	private static final double CHAR_WIDTH = 7;
+	private static final double MIN_FRAME_WIDTH = 0.1;
+	
+	private final ProfileWeight weight;
+	
+	public FlameGraphExporter(ProfileWeight weight) {
+		this.weight = weight;
+	}
+	
+	public ProfileWeight getWeight() {
+		return weight;
+	}
+	
+	// collapsed stacks ------------------------------------------------------------------------------------------------
+	
+	public void writeCollapsedStacks(Profile root, File file) throws IOException {
+		try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+			writeCollapsedStacks(root, out);
+		}
+	}
+	
+	public void writeCollapsedStacks(Profile root, Writer out) throws IOException {
+		writeCollapsedStacks(root, new StringBuilder(), out);
+	}
+	
+	// flame graph -----------------------------------------------------------------------------------------------------
+	
+	public void writeSVG(Profile root, File file) throws IOException {
+		try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+			writeSVG(root, out);
+		}
+	}
+	
+	public void writeSVG(Profile root, Writer out) throws IOException {
+		Frame rootFrame = createFrame(root, 0);
+		int height = 2 * MARGIN + TITLE_HEIGHT + (rootFrame.maxDepth() + 1) * FRAME_HEIGHT;
+		out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + WIDTH + "\" height=\"" + height + "\" " + 
+				"viewBox=\"0 0 " + WIDTH + " " + height + "\" font-family=\"Verdana, sans-serif\" font-size=\"12\">\n");
+		out.write("<rect x=\"0\" y=\"0\" width=\"" + WIDTH + "\" height=\"" + height + "\" fill=\"#fdfdf5\"/>\n");
+		out.write("<text x=\"" + (WIDTH / 2) + "\" y=\"" + (MARGIN + 14) + "\" text-anchor=\"middle\" font-size=\"16\">" + 
+				escape(root.getName()) + " (" + weight.name().toLowerCase(Locale.US).replace('_', ' ') + ")</text>\n");
+		if (rootFrame.value > 0) {
+			double scale = (WIDTH - 2 * MARGIN) / (double) rootFrame.value;
+			writeFrame(rootFrame, MARGIN, height - MARGIN, scale, rootFrame.value, out);
+		}
+		out.write("</svg>\n");
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private void writeCollapsedStacks(Profile profile, StringBuilder path, Writer out) throws IOException {
+		int pathLength = path.length();
+		if (pathLength > 0)
+			path.append(';');
+		path.append(frameName(profile));
+		long value = weight.of(profile);
+		if (value > 0)
+			out.write(path + " " + value + "\n");
+		for (Profile subProfile : sortedSubProfiles(profile))
+			writeCollapsedStacks(subProfile, path, out);
+		path.setLength(pathLength);
+	}
+	
+	/** Takes a snapshot of the profile tree and computes the width of each frame in units of the weight. */
+	private Frame createFrame(Profile profile, int depth) {
+		Frame frame = new Frame(profile, depth);
+		long childSum = 0;
+		for (Profile subProfile : sortedSubProfiles(profile)) {
+			Frame child = createFrame(subProfile, depth + 1);
+			frame.children.add(child);
+			childSum += child.value;
+		}
+		if (weight == ProfileWeight.SELF_LATENCY)
+			frame.value = profile.getSelfLatency() + childSum;
+		else
+			frame.value = Math.max(weight.of(profile), childSum);
+		return frame;
+	}
+	
+	private static void writeFrame(Frame frame, double x, int bottom, double scale, long rootValue, Writer out) 
+			throws IOException {
+		double width = frame.value * scale;
+		if (width < MIN_FRAME_WIDTH)
+			return;
+		int y = bottom - (frame.depth + 1) * FRAME_HEIGHT;
+		String name = frame.profile.getName();
+		String percentage = String.format(Locale.US, "%.2f", frame.value * 100. / rootValue);
+		out.write("<g><title>" + escape(name) + " (" + frame.value + ", " + percentage + "%)</title>");
+		out.write("<rect x=\"" + format(x) + "\" y=\"" + y + "\" width=\"" + format(width) + "\" " + 
+				"height=\"" + (FRAME_HEIGHT - 1) + "\" rx=\"2\" fill=\"" + color(name) + "\"/>");
+		String label = label(name, width);
+		if (label != null)
+			out.write("<text x=\"" + format(x + 3) + "\" y=\"" + (y + 12) + "\">" + escape(label) + "</text>");
+		out.write("</g>\n");
+		double childX = x;
+		for (Frame child : frame.children) {
+			writeFrame(child, childX, bottom, scale, rootValue, out);
+			childX += child.value * scale;
+		}
+	}
+	
+	private static List<Profile> sortedSubProfiles(Profile profile) {
+		List<Profile> result = new ArrayList<>(profile.getSubProfiles());
+		result.sort((p1, p2) -> p1.getName().compareTo(p2.getName()));
+		return result;
+	}
+	
+	private static String frameName(Profile profile) {
+		return profile.getName().replace(';', '_').replace('\n', ' ').replace('\r', ' ');
+	}
+	
+	private static String label(String name, double width) {
+		int chars = (int) ((width - 6) / CHAR_WIDTH);
+		if (chars < 3)
+			return null;
+		return (name.length() <= chars ? name : name.substring(0, chars - 2) + "..");
+	}
+	
+	/** Derives a stable color in the warm flame graph palette from the name. */
+	private static String color(String name) {
+		int hash = name.hashCode() & 0x7fffffff;
+		int red = 205 + hash % 50;
+		int green = 80 + (hash / 50) % 150;
+		int blue = (hash / 7500) % 55;
+		return "rgb(" + red + "," + green + "," + blue + ")";
+	}
+	
+	private static String format(double value) {
+		return String.format(Locale.US, "%.2f", value);
+	}
+	
+	private static String escape(String text) {
+		return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+	}
+	
+	private static final class Frame {
+		
+		final Profile profile;
+		final int depth;
+		final List<Frame> children;
+		long value;
+		
+		Frame(Profile profile, int depth) {
+			this.profile = profile;
+			this.depth = depth;
+			this.children = new ArrayList<>();
+		}
+		
+		int maxDepth() {
+			int result = depth;
+			for (Frame child : children)
+				result = Math.max(result, child.maxDepth());
+			return result;
+		}
+	}
+	
+}
@@ -14,15 +14,21 @@
  */
 package com.rapiddweller.profile;
 
+import com.rapiddweller.contiperf.clock.SystemClock;
+import com.rapiddweller.stat.ConcurrentLatencyHistogram;
 import com.rapiddweller.stat.LatencyCounter;
+import com.rapiddweller.stat.LogLinearLatencyHistogram;
 
 import java.text.DecimalFormat;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Uses a {@link LatencyCounter} to collect profile information and manages sub profiles.<br/><br/>
+ * Uses a {@link LatencyCounter} to collect profile information and manages sub profiles.
+ * A Profile can be used by several threads concurrently: Sub profiles are looked up 
+ * without locking and each thread records its samples in an own buffer, 
+ * the buffers are merged when the statistics are queried.<br/><br/>
  * Created: 19.05.2011 09:08:27
  * @since 2.0.0
  * @author Volker Bergmann
@@ -31,7 +37,7 @@ public class Profile {
 	
 	private final String name;
 	private final Profile parent;
-	private final Map<String, Profile> subProfiles;
+	private final ConcurrentMap<String, Profile> subProfiles;
 	private final LatencyCounter counter;
 	private final DecimalFormat nf = new DecimalFormat("0");
 	private final DecimalFormat df = new DecimalFormat("0.0");
@@ -39,8 +45,9 @@ public class Profile {
 	public Profile(String name, Profile parent) {
 		this.parent = parent;
 		this.name = name;
-		this.counter = new LatencyCounter(name);
-		this.subProfiles = new HashMap<>();
+		this.counter = new LatencyCounter(name, SystemClock.NAME, 
+				new ConcurrentLatencyHistogram(() -> new LogLinearLatencyHistogram(2)));
+		this.subProfiles = new ConcurrentHashMap<>();
 	}
 	
 	public String getName() {
@@ -58,20 +65,23 @@ public Collection<Profile> getSubProfiles() {
 	public Profile getOrCreateSubProfile(String name) {
 		Profile result = subProfiles.get(name);
 		if (result == null)
-			result = createSubProfile(name);
+			result = subProfiles.computeIfAbsent(name, this::createSubProfile);
 		return result;
 	}
 
 	private Profile createSubProfile(String name) {
-		Profile result = new Profile(name, this);
-		subProfiles.put(name, result);
-		return result;
+		return new Profile(name, this);
 	}
 
-	public void addSample(int duration) {
+	public void addSample(long duration) {
 		counter.addSample(duration);
 	}
 
+	/** Adds a sample which stands for several invocations, see {@link com.rapiddweller.stat.Sampler}. */
+	public void addSamples(long duration, long count) {
+		counter.addSamples(duration, count);
+	}
+
 	public long getInvocationCount() {
 		return counter.sampleCount();
 	}
@@ -80,6 +90,14 @@ public long getTotalLatency() {
 		return counter.totalLatency();
 	}
 
+	/** @return the total latency minus the total latency of the sub profiles, at least zero */
+	public long getSelfLatency() {
+		long childLatency = 0;
+		for (Profile subProfile : subProfiles.values())
+			childLatency += subProfile.getTotalLatency();
+		return Math.max(0, getTotalLatency() - childLatency);
+	}
+
 	public double getAverageLatency() {
 		return counter.averageLatency();
 	}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.profile;
+
+/**
+ * Selects the value by which a {@link Profile} is weighted in a flame graph 
+ * or collapsed stack export (see {@link FlameGraphExporter}).<br/><br/>
+ * Created: 18.10.2026 08:12:40
+ * @since 2.6.0
+ * @author agent
+ */
+public enum ProfileWeight {
+	
+	/** The total latency of the profile, including its sub profiles. */
+	TOTAL_LATENCY,
+	
+	/** The number of invocations of the profile. */
+	INVOCATION_COUNT,
+	
+	/** The latency spent in the profile itself, excluding its sub profiles. */
+	SELF_LATENCY;
+	
+	public long of(Profile profile) {
+		switch (this) {
+			case TOTAL_LATENCY : return profile.getTotalLatency();
+			case INVOCATION_COUNT : return profile.getInvocationCount();
+			case SELF_LATENCY : return profile.getSelfLatency();
+			default: throw new UnsupportedOperationException("Not a supported weight: " + this);
+		}
+	}
+	
+}
@@ -14,10 +14,29 @@
  */
 package com.rapiddweller.profile;
 
+import com.rapiddweller.stat.Sampler;
+
+import java.util.Arrays;
 import java.util.List;
 
 /**
- * Organizes {@link Profile}s in a tree structure.<br/><br/>
+ * Organizes {@link Profile}s in a tree structure. 
+ * A Profiler can be shared by any number of threads. The preferred way of recording 
+ * is the scoped {@link #enter(String)}/{@link #exit()} API, which keeps an implicit call stack 
+ * for each thread, so the caller does not need to build path lists:
+ * <pre>
+ *     profiler.enter("query");
+ *     try {
+ *         ...
+ *     } finally {
+ *         profiler.exit();
+ *     }
+ * </pre>
+ * Durations measured by enter/exit are nanoseconds divided by the granularity, 
+ * a granularity of 1000000 profiles in milliseconds. 
+ * With a {@link Sampler} (by default the one configured in {@link Profiling}), only a fraction of 
+ * the outermost enter() calls is measured, including all nested calls, and recorded with a weight 
+ * that scales invocation counts and total latencies back up.<br/><br/>
  * Created: 19.05.2011 09:01:32
  *
  * @author Volker Bergmann
@@ -28,11 +47,19 @@ public class Profiler {
     private static final Profiler DEFAULT_INSTANCE = new Profiler("default", 1);
 
     private final long granularity;
+    private final Sampler sampler;
     private final Profile rootProfile;
+    private final ThreadLocal<CallStack> callStack;
 
     public Profiler(String name, long granularity) {
+        this(name, granularity, Profiling.getSampler());
+    }
+
+    public Profiler(String name, long granularity, Sampler sampler) {
         this.granularity = granularity;
+        this.sampler = sampler;
         this.rootProfile = new Profile(name, null);
+        this.callStack = ThreadLocal.withInitial(() -> new CallStack(rootProfile));
     }
 
     public static Profiler defaultInstance() {
@@ -43,10 +70,48 @@ public Profile getRootProfile() {
         return rootProfile;
     }
 
+    public Sampler getSampler() {
+        return sampler;
+    }
+
     public void addSample(List<String> path, long duration) {
+        if (!sampler.sample())
+            return;
         Profile profile = rootProfile;
         for (String s : path) profile = profile.getOrCreateSubProfile(s);
-        profile.addSample((int) (duration / granularity));
+        profile.addSamples(duration / granularity, sampler.weight());
+    }
+
+    /**
+     * Starts measuring a sub profile of the profile which the current thread has entered last, 
+     * or of the root profile if the thread is not inside a profile.
+     * Each call must be matched by a call to {@link #exit()} in the same thread.
+     * @param name the name of the sub profile
+     */
+    public void enter(String name) {
+        CallStack stack = callStack.get();
+        if (stack.skipped > 0 || (stack.depth == 0 && !sampler.sample())) {
+            stack.skipped++;
+            return;
+        }
+        if (stack.depth == 0)
+            stack.weight = sampler.weight();
+        stack.push(name, System.nanoTime());
+    }
+
+    /**
+     * Stops measuring the profile which the current thread has entered last and records its duration.
+     * @return the recorded duration, or -1 if the call was not sampled
+     */
+    public long exit() {
+        CallStack stack = callStack.get();
+        if (stack.skipped > 0) {
+            stack.skipped--;
+            return -1;
+        }
+        long duration = (System.nanoTime() - stack.startTime()) / granularity;
+        stack.pop().addSamples(duration, stack.weight);
+        return duration;
     }
 
     public void printSummary() {
@@ -59,4 +124,52 @@ private void printRecursively(Profile profile, String indent) {
             printRecursively(subProfile, indent + "  ");
     }
 
+    /** 
+     * Per-thread stack of the entered profiles and their start times. Popped entries are kept, 
+     * so re-entering the same name (typically a string literal) at the same depth skips the child lookup.
+     * Calls which are not sampled are only counted, so that exit() knows when the unsampled call is left.
+     */
+    private static final class CallStack {
+
+        private Profile[] profiles;
+        private long[] startTimes;
+        private int depth;
+        private int skipped;
+        private long weight;
+
+        CallStack(Profile root) {
+            this.profiles = new Profile[16];
+            this.startTimes = new long[16];
+            this.profiles[0] = root;
+            this.depth = 0;
+        }
+
+        void push(String name, long startTime) {
+            Profile parent = profiles[depth];
+            if (++depth == profiles.length) {
+                profiles = Arrays.copyOf(profiles, depth * 2);
+                startTimes = Arrays.copyOf(startTimes, depth * 2);
+            }
+            Profile cached = profiles[depth];
+            if (cached == null || cached.getParent() != parent || !name.equals(cached.getName()))
+                profiles[depth] = parent.getOrCreateSubProfile(name);
+            startTimes[depth] = startTime;
+        }
+
+        long startTime() {
+            checkEntered();
+            return startTimes[depth];
+        }
+
+        Profile pop() {
+            checkEntered();
+            return profiles[depth--];
+        }
+
+        private void checkEntered() {
+            if (depth == 0)
+                throw new IllegalStateException("exit() called without matching enter()");
+        }
+    }
+
 }
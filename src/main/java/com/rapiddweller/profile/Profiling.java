@@ -14,17 +14,47 @@
  */
 package com.rapiddweller.profile;
 
+import com.rapiddweller.stat.Sampler;
+
 /**
- * Encapsulates access to Profiling configuration.<br/><br/>
+ * Encapsulates access to Profiling configuration. 
+ * Profiling is enabled by the system property <code>profile</code> (any value except 'false'), 
+ * <code>-Dprofile.sampleRate=0.01</code> makes {@link Profiler}s and {@link com.rapiddweller.contiperf.StopWatch}es 
+ * measure only a random 1% of the calls. The configuration is read once when the class is loaded, 
+ * so checking it does not cost more than reading a constant.<br/><br/>
  * Created: 21.07.2011 08:28:43
  * @since 2.0.0
  * @author Volker Bergmann
  */
 public class Profiling {
 
+	public static final String ENABLED_PROPERTY = "profile";
+	public static final String SAMPLE_RATE_PROPERTY = "profile.sampleRate";
+
+	private static final boolean ENABLED = isEnabled(System.getProperty(ENABLED_PROPERTY));
+	private static final Sampler SAMPLER = createSampler(System.getProperty(SAMPLE_RATE_PROPERTY));
+
 	public static boolean isEnabled() {
-		String config = System.getProperty("profile");
+		return ENABLED;
+	}
+	
+	public static Sampler getSampler() {
+		return SAMPLER;
+	}
+	
+	static boolean isEnabled(String config) {
 		return (config != null && !"false".equals(config));
 	}
 	
+	static Sampler createSampler(String config) {
+		if (config == null || config.trim().isEmpty())
+			return Sampler.ALL;
+		try {
+			double rate = Double.parseDouble(config.trim());
+			return (rate == 1 ? Sampler.ALL : new Sampler(rate));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Illegal value for " + SAMPLE_RATE_PROPERTY + ": " + config, e);
+		}
+	}
+	
 }
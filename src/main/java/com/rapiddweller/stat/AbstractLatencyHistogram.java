@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import java.util.Arrays;
+
+/**
+ * Abstract parent class for {@link LatencyHistogram}s which keep their sample counts 
+ * in a <code>long</code> array of buckets. Child classes define the bucket layout 
+ * by mapping latencies to bucket indices and back.<br/><br/>
+ * Samples added with {@link #addSample(long)} are recorded under the lock of the histogram,
+ * reading methods are not synchronized.<br/><br/>
+ * Created: 17.10.2026 09:20:15
+ * @since 2.6.0
+ * @author agent
+ */
+public abstract class AbstractLatencyHistogram implements LatencyHistogram {
+	
+	long[] counts;
+	
+	private long sampleCount;
+	private long totalLatency;
+	private long minLatency;
+	private long maxLatency;
+	
+	protected AbstractLatencyHistogram(int initialBucketCount) {
+		this.counts = new long[initialBucketCount];
+		this.sampleCount = 0;
+		this.totalLatency = 0;
+		this.minLatency = -1;
+		this.maxLatency = -1;
+	}
+	
+	// bucket layout ---------------------------------------------------------------------------------------------------
+	
+	/** @return the index of the bucket which takes samples of the given latency */
+	protected abstract int bucketIndex(long latency);
+	
+	/** @return the lowest latency that is counted in the bucket of the given index */
+	protected abstract long bucketStart(int index);
+	
+	/** @return the new length of the bucket array when it needs to be extended for the given index */
+	protected abstract int newBucketCount(int requiredIndex, int currentBucketCount);
+	
+	// LatencyHistogram interface implementation -----------------------------------------------------------------------
+	
+	public synchronized void addSample(long latency) {
+		record(latency);
+	}
+
+	@Override
+	public synchronized void addSamples(long latency, long count) {
+		record(latency, count);
+	}
+
+	public long getLatencyCount(long latency) {
+		int index = bucketIndex(latency);
+		long[] counts = this.counts;
+		if (index < counts.length && Math.max(bucketStart(index), minLatency) == latency)
+			return counts[index];
+		else
+			return 0;
+	}
+	
+	public long nextLatency(long latency) {
+		return bucketStart(bucketIndex(latency) + 1);
+	}
+	
+	public long sampleCount() {
+		return sampleCount;
+	}
+	
+	public long totalLatency() {
+		return totalLatency;
+	}
+	
+	public long minLatency() {
+		return minLatency;
+	}
+	
+	public long maxLatency() {
+		return maxLatency;
+	}
+	
+	public long latencyAtCount(long targetCount) {
+		if (minLatency == -1)
+			return maxLatency;
+		long[] counts = this.counts;
+		int maxIndex = Math.min(bucketIndex(maxLatency), counts.length - 1);
+		long count = 0;
+		for (int index = bucketIndex(minLatency); index <= maxIndex; index++) {
+			count += counts[index];
+			if (count >= targetCount)
+				return Math.min(bucketStart(index + 1) - 1, maxLatency);
+		}
+		return maxLatency;
+	}
+	
+	public long countAbove(long latency) {
+		long[] counts = this.counts;
+		long count = 0;
+		for (int index = bucketIndex(latency) + 1; index < counts.length; index++)
+			count += counts[index];
+		return count;
+	}
+	
+	// non-public helpers ----------------------------------------------------------------------------------------------
+	
+	/** Records a sample without synchronization, to be used by single-threaded writers. */
+	void record(long latency) {
+		record(latency, 1);
+	}
+	
+	void record(long latency, long count) {
+		if (latency < 0)
+			throw new IllegalArgumentException("Latency must not be negative, but was " + latency);
+		int index = bucketIndex(latency);
+		if (index >= counts.length)
+			counts = Arrays.copyOf(counts, newBucketCount(index, counts.length));
+		counts[index] += count;
+		sampleCount += count;
+		totalLatency += latency * count;
+		if (minLatency == -1 || latency < minLatency)
+			minLatency = latency;
+		if (latency > maxLatency)
+			maxLatency = latency;
+	}
+	
+	/** Removes all samples, keeping the bucket array for reuse. */
+	void clear() {
+		Arrays.fill(counts, 0);
+		sampleCount = 0;
+		totalLatency = 0;
+		minLatency = -1;
+		maxLatency = -1;
+	}
+	
+	/** Adds the samples of another histogram of the same bucket layout. */
+	void add(AbstractLatencyHistogram other) {
+		long[] otherCounts = other.counts;
+		if (otherCounts.length > counts.length)
+			counts = Arrays.copyOf(counts, otherCounts.length);
+		for (int i = 0; i < otherCounts.length; i++)
+			counts[i] += otherCounts[i];
+		sampleCount += other.sampleCount;
+		totalLatency += other.totalLatency;
+		if (other.minLatency != -1 && (minLatency == -1 || other.minLatency < minLatency))
+			minLatency = other.minLatency;
+		if (other.maxLatency > maxLatency)
+			maxLatency = other.maxLatency;
+	}
+	
+	// java.lang.Object overrides --------------------------------------------------------------------------------------
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + sampleCount + " samples]";
+	}
+	
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+/**
+ * Counts the bytes allocated by invocations and calculates statistics about them, 
+ * in parallel to the {@link LatencyCounter} of the invocations' latencies. 
+ * The sizes are recorded in a lock-free log-linear histogram with two significant digits, 
+ * so percentiles have a relative error of less than 1%.<br/><br/>
+ * Created: 18.10.2026 13:05:27
+ * @since 2.6.0
+ * @author agent
+ */
+public final class AllocationCounter {
+	
+	private final LatencyHistogram histogram;
+	
+	public AllocationCounter() {
+		this(new ConcurrentLatencyHistogram(() -> new LogLinearLatencyHistogram(2)));
+	}
+	
+	public AllocationCounter(LatencyHistogram histogram) {
+		this.histogram = histogram;
+	}
+	
+	// interface -------------------------------------------------------------------------------------------------------
+	
+	public void addSample(long bytes) {
+		histogram.addSample(bytes);
+	}
+	
+	public long sampleCount() {
+		return histogram.sampleCount();
+	}
+	
+	public long totalBytes() {
+		return histogram.totalLatency();
+	}
+	
+	/** @return the average number of bytes per invocation, or -1 if there are no samples */
+	public double averageBytes() {
+		long count = sampleCount();
+		return (count > 0 ? (double) totalBytes() / count : -1);
+	}
+	
+	public long minBytes() {
+		return Math.max(histogram.minLatency(), 0);
+	}
+	
+	public long maxBytes() {
+		return Math.max(histogram.maxLatency(), 0);
+	}
+	
+	public long percentileBytes(int percentile) {
+		return histogram.latencyAtCount(percentile * sampleCount() / 100);
+	}
+	
+	// java.lang.Object overrides --------------------------------------------------------------------------------------
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + sampleCount() + " samples, average " + averageBytes() + " bytes]";
+	}
+	
+}
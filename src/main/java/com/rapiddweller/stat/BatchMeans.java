@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Groups the latencies of a test execution into batches of consecutive invocations and
+ * records the average latency of each batch. Batch averages are much less correlated than
+ * single latencies, so significance tests on them are not misled by the bursts and drifts
+ * within a run. Each recording thread fills the batches of its stripe (see {@link Stripes}).
+ * A stripe starts with batches of a single invocation and merges adjacent batches and doubles
+ * the batch size when it has {@link #MAX_BATCHES} batches, so that it ends with at least half
+ * as many batches regardless of the length of the run.<br/><br/>
+ * Created: 18.10.2026 21:18:42
+ * @since 2.6.0
+ * @author agent
+ */
+public class BatchMeans {
+	
+	public static final int MAX_BATCHES = 64;
+	
+	private final AtomicReferenceArray<Batches> batches;
+	private final int mask;
+	
+	public BatchMeans() {
+		int stripes = Stripes.defaultCount();
+		this.batches = new AtomicReferenceArray<>(stripes);
+		this.mask = stripes - 1;
+	}
+	
+	// interface -------------------------------------------------------------------------------------------------------
+	
+	/** Records the latency of an invocation in nanoseconds. */
+	public void addSample(long latency) {
+		batches().addSample(latency);
+	}
+	
+	/**
+	 * Collects the completed batches of all stripes, or the incomplete batch of a stripe which has
+	 * not completed any. This must only be called when recording has finished.
+	 * @return the distribution of the batch averages in nanoseconds, each batch counting once
+	 */
+	public LatencyDistribution distribution() {
+		double[] means = new double[0];
+		for (int i = 0; i < batches.length(); i++) {
+			Batches stripe = batches.get(i);
+			if (stripe != null)
+				means = stripe.appendTo(means);
+		}
+		return LatencyDistribution.of(means);
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private Batches batches() {
+		int index = Stripes.index(mask);
+		Batches result = batches.get(index);
+		if (result == null) {
+			batches.compareAndSet(index, null, new Batches());
+			result = batches.get(index);
+		}
+		return result;
+	}
+	
+	/** The batches of a stripe of writer threads */
+	private static final class Batches {
+		
+		private final double[] means = new double[MAX_BATCHES];
+		private int count = 0;
+		private long batchSize = 1;
+		private long batchSamples = 0;
+		private long batchTotal = 0;
+		
+		synchronized void addSample(long latency) {
+			batchTotal += latency;
+			if (++batchSamples < batchSize)
+				return;
+			means[count++] = (double) batchTotal / batchSamples;
+			batchSamples = 0;
+			batchTotal = 0;
+			if (count == MAX_BATCHES) {
+				for (int i = 0; i < MAX_BATCHES / 2; i++)
+					means[i] = (means[2 * i] + means[2 * i + 1]) / 2;
+				count = MAX_BATCHES / 2;
+				batchSize *= 2;
+			}
+		}
+		
+		synchronized double[] appendTo(double[] target) {
+			if (count == 0 && batchSamples > 0) {
+				double[] result = Arrays.copyOf(target, target.length + 1);
+				result[target.length] = (double) batchTotal / batchSamples;
+				return result;
+			}
+			double[] result = Arrays.copyOf(target, target.length + count);
+			System.arraycopy(means, 0, result, target.length, count);
+			return result;
+		}
+	}
+	
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@link LatencyHistogram} for recording samples from many threads without a global lock.
+ * Each recording thread fills the histogram of its stripe (see {@link Stripes}), so that 
+ * memory does not grow with the number of threads, the minimum and maximum latency 
+ * are maintained by compare-and-set and the totals by {@link LongAdder}s. 
+ * The stripe histograms are created on first use and merged only when the distribution is queried.<br/><br/>
+ * {@link #snapshotAndReset()} moves the samples recorded so far to a new histogram. 
+ * Each stripe keeps its recorder, which swaps between two histograms, so that a writer 
+ * only waits for the swap of a reference and does not allocate after a reset.<br/><br/>
+ * Values queried while samples are being recorded are approximations, they are exact 
+ * once the recording threads have finished.<br/><br/>
+ * Created: 17.10.2026 09:44:37
+ * @since 2.6.0
+ * @author agent
+ */
+public class ConcurrentLatencyHistogram implements LatencyHistogram {
+	
+	private final Supplier<? extends AbstractLatencyHistogram> factory;
+	private final AtomicReferenceArray<Recorder> recorders;
+	private final int mask;
+	
+	private final LongAdder sampleCount;
+	private final LongAdder totalLatency;
+	private final AtomicLong minLatency;
+	private final AtomicLong maxLatency;
+	
+	private volatile Snapshot snapshot;
+
+	public ConcurrentLatencyHistogram(Supplier<? extends AbstractLatencyHistogram> factory) {
+		this(factory, Stripes.defaultCount());
+	}
+	
+	/** @param stripes the maximum number of recorders, a power of two */
+	public ConcurrentLatencyHistogram(Supplier<? extends AbstractLatencyHistogram> factory, int stripes) {
+		if (stripes <= 0 || Integer.bitCount(stripes) != 1)
+			throw new IllegalArgumentException("Stripe count must be a power of two, but was " + stripes);
+		this.factory = factory;
+		this.recorders = new AtomicReferenceArray<>(stripes);
+		this.mask = stripes - 1;
+		this.sampleCount = new LongAdder();
+		this.totalLatency = new LongAdder();
+		this.minLatency = new AtomicLong(Long.MAX_VALUE);
+		this.maxLatency = new AtomicLong(-1);
+		this.snapshot = null;
+	}
+	
+	// LatencyHistogram interface implementation -----------------------------------------------------------------------
+	
+	public void addSample(long latency) {
+		addSamples(latency, 1);
+	}
+
+	@Override
+	public void addSamples(long latency, long count) {
+		recorder().record(latency, count);
+		sampleCount.add(count);
+		totalLatency.add(latency * count);
+		long min = minLatency.get();
+		while (latency < min && !minLatency.compareAndSet(min, latency))
+			min = minLatency.get();
+		long max = maxLatency.get();
+		while (latency > max && !maxLatency.compareAndSet(max, latency))
+			max = maxLatency.get();
+	}
+
+	public long getLatencyCount(long latency) {
+		return merged().getLatencyCount(latency);
+	}
+
+	public long nextLatency(long latency) {
+		return merged().nextLatency(latency);
+	}
+
+	public long sampleCount() {
+		return sampleCount.sum();
+	}
+
+	public long totalLatency() {
+		return totalLatency.sum();
+	}
+
+	public long minLatency() {
+		long min = minLatency.get();
+		return (min == Long.MAX_VALUE ? -1 : min);
+	}
+
+	public long maxLatency() {
+		return maxLatency.get();
+	}
+
+	public long latencyAtCount(long targetCount) {
+		return merged().latencyAtCount(targetCount);
+	}
+
+	public long countAbove(long latency) {
+		return merged().countAbove(latency);
+	}
+	
+	/** 
+	 * Moves the samples recorded since the creation of the histogram or the previous call 
+	 * to a new histogram and continues with empty recorders. A sample which is added concurrently 
+	 * is contained either in the returned histogram or in the next one. The totals are reduced 
+	 * by exactly the drained samples, so they stay consistent with the recorders, while the 
+	 * minimum and maximum of this histogram may miss a sample which arrives during the reset.
+	 * @return a histogram with the samples of the interval
+	 */
+	public synchronized AbstractLatencyHistogram snapshotAndReset() {
+		AbstractLatencyHistogram result = factory.get();
+		for (int i = 0; i < recorders.length(); i++) {
+			Recorder recorder = recorders.get(i);
+			if (recorder != null)
+				recorder.drainTo(result);
+		}
+		// subtracting the drained samples keeps those which were recorded after the buffer swap
+		sampleCount.add(-result.sampleCount());
+		totalLatency.add(-result.totalLatency());
+		minLatency.set(Long.MAX_VALUE);
+		maxLatency.set(-1);
+		snapshot = null;
+		return result;
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+
+	private Recorder recorder() {
+		int index = Stripes.index(mask);
+		Recorder result = recorders.get(index);
+		if (result == null) {
+			recorders.compareAndSet(index, null, new Recorder(factory.get(), factory.get()));
+			result = recorders.get(index);
+		}
+		return result;
+	}
+	
+	int recorderCount() {
+		int count = 0;
+		for (int i = 0; i < recorders.length(); i++)
+			if (recorders.get(i) != null)
+				count++;
+		return count;
+	}
+	
+	private AbstractLatencyHistogram merged() {
+		long count = sampleCount.sum();
+		Snapshot snapshot = this.snapshot;
+		if (snapshot == null || snapshot.sampleCount != count) {
+			AbstractLatencyHistogram result = factory.get();
+			for (int i = 0; i < recorders.length(); i++) {
+				Recorder recorder = recorders.get(i);
+				if (recorder != null)
+					recorder.addTo(result);
+			}
+			snapshot = new Snapshot(count, result);
+			this.snapshot = snapshot;
+		}
+		return snapshot.histogram;
+	}
+	
+	/** Double-buffered histogram of a stripe of writer threads */
+	private static final class Recorder {
+		
+		private AbstractLatencyHistogram active;
+		private AbstractLatencyHistogram spare; // only used by snapshotAndReset()
+		
+		Recorder(AbstractLatencyHistogram active, AbstractLatencyHistogram spare) {
+			this.active = active;
+			this.spare = spare;
+		}
+		
+		synchronized void record(long latency, long count) {
+			active.record(latency, count);
+		}
+		
+		synchronized void addTo(AbstractLatencyHistogram target) {
+			target.add(active);
+		}
+		
+		/** swaps the buffers and adds the samples of the retired one to the target */
+		void drainTo(AbstractLatencyHistogram target) {
+			AbstractLatencyHistogram retired;
+			synchronized (this) {
+				retired = active;
+				active = spare;
+			}
+			target.add(retired);
+			retired.clear();
+			spare = retired;
+		}
+	}
+	
+	private static final class Snapshot {
+		
+		final long sampleCount;
+		final AbstractLatencyHistogram histogram;
+		
+		Snapshot(long sampleCount, AbstractLatencyHistogram histogram) {
+			this.sampleCount = sampleCount;
+			this.histogram = histogram;
+		}
+	}
+	
+	// java.lang.Object overrides --------------------------------------------------------------------------------------
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + recorderCount() + " recorders, " + sampleCount() + " samples]";
+	}
+	
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+/**
+ * Handle to a named {@link LatencyCounter} of the {@link CounterRepository} 
+ * for measurements without allocation, boxing or map lookup. 
+ * The handle is resolved once and can then be used by any number of threads:
+ * <pre>
+ *     private static final CounterHandle QUERY = CounterRepository.getInstance().handle("db.query");
+ *     ...
+ *     long token = QUERY.start();
+ *     query();
+ *     QUERY.stop(token);
+ * </pre>
+ * The token is a plain nano time stamp, so it can be kept in a local variable or handed over to another thread.
+ * A handle remains valid when {@link CounterRepository#snapshotAndReset()} is called, 
+ * but not after {@link CounterRepository#clear()}.<br/><br/>
+ * Created: 17.10.2026 18:20:47
+ * @since 2.6.0
+ * @author agent
+ */
+public final class CounterHandle {
+	
+	private final String name;
+	private final LatencyCounter counter;
+	
+	CounterHandle(String name, LatencyCounter counter) {
+		this.name = name;
+		this.counter = counter;
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public LatencyCounter getCounter() {
+		return counter;
+	}
+	
+	/** @return a token which needs to be passed to {@link #stop(long)} */
+	public long start() {
+		return System.nanoTime();
+	}
+	
+	/** 
+	 * Records the time elapsed since the call to {@link #start()} which returned the token. 
+	 * @param token the value returned by {@link #start()}
+	 * @return the latency in milliseconds
+	 */
+	public long stop(long token) {
+		long latency = (System.nanoTime() - token) / 1000000L;
+		counter.addSample(latency);
+		return latency;
+	}
+	
+	public void addSample(long latency) {
+		counter.addSample(latency);
+	}
+	
+	public void addSamples(long latency, long count) {
+		counter.addSamples(latency, count);
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + name + "]";
+	}
+	
+}
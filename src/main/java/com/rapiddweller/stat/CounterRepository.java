@@ -14,19 +14,29 @@
  */
 package com.rapiddweller.stat;
 
+import com.rapiddweller.contiperf.clock.SystemClock;
+
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Repository that binds {@link LatencyCounter}s to a name and makes them available to clients.<br/><br/>
+ * Repository that binds {@link LatencyCounter}s to a name and makes them available to clients.
+ * It can be used concurrently by any number of threads: The counters are kept in a concurrent map 
+ * and record samples in striped recorders (see {@link ConcurrentLatencyHistogram}), 
+ * which are aggregated when the counter is read. 
+ * Frequently used counters should be resolved once with {@link #handle(String)}, 
+ * which saves the map lookup on each sample.<br/><br/>
  * Created: 14.01.2011 11:26:09
  * @since 2.0.0
  * @author Volker Bergmann
  */
 public class CounterRepository {
 	
-	private final Map<String, LatencyCounter> counters;
+	private final ConcurrentMap<String, CounterHandle> counters;
 
 
 
@@ -35,7 +45,7 @@ public class CounterRepository {
 	private static final CounterRepository INSTANCE = new CounterRepository();
 	
 	private CounterRepository() {
-		counters = new HashMap<>();
+		counters = new ConcurrentHashMap<>();
 	}
 
 	public static CounterRepository getInstance() {
@@ -47,26 +57,58 @@ public static CounterRepository getInstance() {
 	// CounterRepository interface -------------------------------------------------------------------------------------
 	
 	public void addSample(String name, int latency) {
-		LatencyCounter counter = getOrCreateCounter(name);
-		counter.addSample(latency);
+		handle(name).addSample(latency);
+	}
+
+	/** 
+	 * Resolves the handle of a counter, creating the counter if it does not exist yet.
+	 * @param name the name of the counter
+	 * @return the handle of the counter
+	 */
+	public CounterHandle handle(String name) {
+		CounterHandle handle = counters.get(name);
+		if (handle == null)
+			handle = counters.computeIfAbsent(name, CounterRepository::newHandle);
+		return handle;
 	}
 
 	public LatencyCounter getCounter(String name) {
-		return counters.get(name);
+		CounterHandle handle = counters.get(name);
+		return (handle != null ? handle.getCounter() : null);
 	}
 	
 	public Set<Map.Entry<String, LatencyCounter>> getCounters() {
-		return counters.entrySet();
+		Map<String, LatencyCounter> result = new HashMap<>();
+		for (CounterHandle handle : counters.values())
+			result.put(handle.getName(), handle.getCounter());
+		return result.entrySet();
 	}
 	
 	public void clear() {
 		counters.clear();
 	}
 
+	/** 
+	 * Moves the samples of each counter to a new, stopped counter, which provides the statistics 
+	 * and throughput of the interval since the creation of the counter or the previous snapshot. 
+	 * The counters themselves are reset and keep their recorders, so writers 
+	 * neither allocate nor wait for more than the swap of a reference: 
+	 * A sample which is added during the snapshot may be counted in either interval.
+	 * @return the interval counters by name
+	 */
+	public Map<String, LatencyCounter> snapshotAndReset() {
+		Map<String, LatencyCounter> snapshot = new HashMap<>();
+		for (CounterHandle handle : counters.values())
+			snapshot.put(handle.getName(), handle.getCounter().snapshotAndReset());
+		return snapshot;
+	}
+
 	public void printSummary() {
 		DecimalFormat df = new DecimalFormat("0.0", DecimalFormatSymbols.getInstance(Locale.US));
 		List<String[]> list = new ArrayList<>(counters.size());
-		List<LatencyCounter> sortedCounters = new ArrayList<>(counters.values());
+		List<LatencyCounter> sortedCounters = new ArrayList<>(counters.size());
+		for (CounterHandle handle : counters.values())
+			sortedCounters.add(handle.getCounter());
 		sortedCounters.sort((c1, c2) -> -Long
 				.compare(c1.totalLatency(), c2.totalLatency()));
 		for (LatencyCounter counter : sortedCounters) {
@@ -83,19 +125,14 @@ public void printSummary() {
 
 	// helper methods --------------------------------------------------------------------------------------------------
 	
-	private LatencyCounter getOrCreateCounter(String name) {
-		LatencyCounter counter = getCounter(name);
-		if (counter == null)
-			counter = createCounter(name);
-		return counter;
+	private static CounterHandle newHandle(String name) {
+		return new CounterHandle(name, newCounter(name));
 	}
 
-	private synchronized LatencyCounter createCounter(String name) {
-		LatencyCounter counter = getCounter(name);
-		if (counter == null) {
-			counter = new LatencyCounter(name);
-			counters.put(name, counter);
-		}
+	private static LatencyCounter newCounter(String name) {
+		LatencyCounter counter = new LatencyCounter(name, SystemClock.NAME, 
+				new ConcurrentLatencyHistogram(() -> new LinearLatencyHistogram(1000)), TimeUnit.MILLISECONDS);
+		counter.start();
 		return counter;
 	}
 
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records latencies and errors in consecutive time intervals of a test execution, 
+ * so that the development of throughput and latency over time can be analyzed.
+ * Each recording thread fills the series of interval histograms of its stripe (see {@link Stripes}), 
+ * so that memory does not grow with the number of threads. The series are created on first use 
+ * and merged by {@link #getIntervals(long)} after recording has finished.
+ * Memory is bounded by a maximum number of intervals: When a test runs longer, 
+ * adjacent intervals are merged and the interval length is doubled.<br/><br/>
+ * Created: 18.10.2026 14:11:36
+ * @since 2.6.0
+ * @author agent
+ */
+public class IntervalRecorder {
+	
+	public static final int DEFAULT_MAX_INTERVALS = 120;
+	
+	private static final int SIGNIFICANT_DIGITS = 2;
+	
+	private final long startMillis;
+	private final long intervalLength;
+	private final int maxIntervals;
+	private final AtomicReferenceArray<Series> series;
+	private final int mask;
+	
+	public IntervalRecorder(long startMillis, long intervalLength) {
+		this(startMillis, intervalLength, DEFAULT_MAX_INTERVALS);
+	}
+	
+	/** 
+	 * @param startMillis the start of the first interval 
+	 * @param intervalLength the initial length of an interval in milliseconds
+	 * @param maxIntervals the maximum number of intervals, must be even
+	 */
+	public IntervalRecorder(long startMillis, long intervalLength, int maxIntervals) {
+		if (intervalLength <= 0)
+			throw new IllegalArgumentException("Interval length must be positive, but was " + intervalLength);
+		if (maxIntervals < 2 || maxIntervals % 2 != 0)
+			throw new IllegalArgumentException("Maximum interval count must be even and at least 2, but was " + maxIntervals);
+		this.startMillis = startMillis;
+		this.intervalLength = intervalLength;
+		this.maxIntervals = maxIntervals;
+		int stripes = Stripes.defaultCount();
+		this.series = new AtomicReferenceArray<>(stripes);
+		this.mask = stripes - 1;
+	}
+	
+	// interface -------------------------------------------------------------------------------------------------------
+	
+	/** Records the latency of a successful invocation which started at the given time. */
+	public void addSample(long latency, long timeMillis) {
+		series().addSample(latency, timeMillis);
+	}
+	
+	/** Records a failed invocation which started at the given time. */
+	public void addError(long timeMillis) {
+		series().addError(timeMillis);
+	}
+	
+	/** 
+	 * Merges the series of all threads. This must only be called when recording has finished.
+	 * @param endMillis the end of the measurement, which limits the length of the last interval
+	 * @return the statistics of each interval from the start to the end of the measurement 
+	 */
+	public List<IntervalStatistics> getIntervals(long endMillis) {
+		List<Series> series = new ArrayList<>();
+		for (int i = 0; i < this.series.length(); i++)
+			if (this.series.get(i) != null)
+				series.add(this.series.get(i));
+		int scale = 0;
+		for (Series stripeSeries : series)
+			scale = Math.max(scale, stripeSeries.scale);
+		long length = intervalLength << scale;
+		int count = (int) Math.min(Math.max(endMillis - startMillis - 1, 0) / length + 1, maxIntervals);
+		List<IntervalStatistics> result = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			AbstractLatencyHistogram histogram = new LogLinearLatencyHistogram(SIGNIFICANT_DIGITS);
+			long errors = 0;
+			for (Series stripeSeries : series) {
+				stripeSeries.coarsen(scale);
+				if (stripeSeries.histograms[i] != null)
+					histogram.add(stripeSeries.histograms[i]);
+				errors += stripeSeries.errors[i];
+			}
+			long start = i * length;
+			long end = (i == count - 1 ? Math.max(endMillis - startMillis, start + 1) : start + length);
+			long samples = histogram.sampleCount();
+			result.add(new IntervalStatistics(start, end - start, samples, errors, 
+					histogram.latencyAtCount(samples / 2), histogram.latencyAtCount(samples * 99 / 100), 
+					histogram.maxLatency()));
+		}
+		return result;
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private Series series() {
+		int index = Stripes.index(mask);
+		Series result = series.get(index);
+		if (result == null) {
+			series.compareAndSet(index, null, new Series());
+			result = series.get(index);
+		}
+		return result;
+	}
+	
+	/** package-private for testing */
+	int seriesCount() {
+		int count = 0;
+		for (int i = 0; i < series.length(); i++)
+			if (series.get(i) != null)
+				count++;
+		return count;
+	}
+	
+	/** The intervals recorded by a stripe of threads. */
+	private final class Series {
+		
+		final AbstractLatencyHistogram[] histograms;
+		final long[] errors;
+		int scale;
+		
+		Series() {
+			this.histograms = new AbstractLatencyHistogram[maxIntervals];
+			this.errors = new long[maxIntervals];
+			this.scale = 0;
+		}
+		
+		synchronized void addSample(long latency, long timeMillis) {
+			int index = index(timeMillis);
+			AbstractLatencyHistogram histogram = histograms[index];
+			if (histogram == null) {
+				histogram = new LogLinearLatencyHistogram(SIGNIFICANT_DIGITS);
+				histograms[index] = histogram;
+			}
+			histogram.record(latency);
+		}
+		
+		synchronized void addError(long timeMillis) {
+			errors[index(timeMillis)]++;
+		}
+		
+		private int index(long timeMillis) {
+			long offset = Math.max(timeMillis - startMillis, 0);
+			while (offset / (intervalLength << scale) >= maxIntervals)
+				coarsen(scale + 1);
+			return (int) (offset / (intervalLength << scale));
+		}
+		
+		/** Merges pairs of adjacent intervals until the given scale is reached. */
+		void coarsen(int targetScale) {
+			while (scale < targetScale) {
+				for (int i = 0; i < maxIntervals / 2; i++) {
+					histograms[i] = merge(histograms[2 * i], histograms[2 * i + 1]);
+					errors[i] = errors[2 * i] + errors[2 * i + 1];
+				}
+				for (int i = maxIntervals / 2; i < maxIntervals; i++) {
+					histograms[i] = null;
+					errors[i] = 0;
+				}
+				scale++;
+			}
+		}
+		
+		private AbstractLatencyHistogram merge(AbstractLatencyHistogram h1, AbstractLatencyHistogram h2) {
+			if (h1 == null)
+				return h2;
+			if (h2 != null)
+				h1.add(h2);
+			return h1;
+		}
+	}
+	
+}
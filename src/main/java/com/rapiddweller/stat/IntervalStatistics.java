@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+/**
+ * Latency statistics of one time interval of a test execution, see {@link IntervalRecorder}.<br/><br/>
+ * Created: 18.10.2026 14:02:51
+ * @since 2.6.0
+ * @author agent
+ */
+public final class IntervalStatistics {
+	
+	private final long startOffset;
+	private final long length;
+	private final long invocations;
+	private final long errors;
+	private final long median;
+	private final long percentile99;
+	private final long max;
+	
+	public IntervalStatistics(long startOffset, long length, long invocations, long errors, 
+			long median, long percentile99, long max) {
+		this.startOffset = startOffset;
+		this.length = length;
+		this.invocations = invocations;
+		this.errors = errors;
+		this.median = median;
+		this.percentile99 = percentile99;
+		this.max = max;
+	}
+	
+	/** @return the start of the interval in milliseconds after the start of the measurement */
+	public long getStartOffset() {
+		return startOffset;
+	}
+	
+	/** @return the length of the interval in milliseconds */
+	public long getLength() {
+		return length;
+	}
+	
+	/** @return the number of successful invocations started in the interval */
+	public long getInvocations() {
+		return invocations;
+	}
+	
+	/** @return the number of invocations started in the interval which threw an exception */
+	public long getErrors() {
+		return errors;
+	}
+	
+	/** @return the number of successful invocations per second */
+	public double getThroughput() {
+		return invocations * 1000. / length;
+	}
+	
+	public long getMedian() {
+		return median;
+	}
+	
+	public long getPercentile99() {
+		return percentile99;
+	}
+	
+	/** @return the maximum latency, or -1 if there were no successful invocations in the interval */
+	public long getMax() {
+		return max;
+	}
+	
+	@Override
+	public String toString() {
+		return startOffset + "+" + length + " ms: " + invocations + " inv., " + errors + " errors, " + 
+				"median " + median + ", 99% " + percentile99 + ", max " + max;
+	}
+	
+}
@@ -17,6 +17,7 @@
 import com.rapiddweller.contiperf.clock.SystemClock;
 
 import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Counts latencies and calculates performance-related statistics.<br/><br/>
@@ -28,29 +29,33 @@ public final class LatencyCounter {
 	
 	private final String name;
 	private final String clockName;
+	private final TimeUnit timeUnit;
 	
-    private int minLatency;
-    private int maxLatency;
-    private long[] latencyCounts;
+    private final LatencyHistogram histogram;
 
     private boolean running;
     private long startTime;
     private long endTime;
     private long sampleCount;
-    private long totalLatency;
 
     public LatencyCounter(String name) {
         this(name, SystemClock.NAME, 1000);
     }
 
     public LatencyCounter(String name, String clockName, int expectedMaxLatency) {
+        this(name, clockName, new LinearLatencyHistogram(expectedMaxLatency));
+    }
+
+    public LatencyCounter(String name, String clockName, LatencyHistogram histogram) {
+        this(name, clockName, histogram, TimeUnit.MILLISECONDS);
+    }
+
+    public LatencyCounter(String name, String clockName, LatencyHistogram histogram, TimeUnit timeUnit) {
     	this.name = name;
     	this.clockName = clockName;
-        this.latencyCounts = new long[1 + expectedMaxLatency];
-        this.sampleCount = 0;
-        this.totalLatency = 0;
-        this.minLatency = -1;
-        this.maxLatency = -1;
+    	this.timeUnit = timeUnit;
+        this.histogram = histogram;
+        this.sampleCount = -1;
         this.startTime = -1;
         this.endTime = -1;
     }
@@ -63,6 +68,11 @@ public String getClockName() {
 		return clockName;
 	}
 	
+	/** @return the time unit of the latencies, which defaults to milliseconds */
+	public TimeUnit getTimeUnit() {
+		return timeUnit;
+	}
+	
     // interface -------------------------------------------------------------------------------------------------------
 
     public void start() {
@@ -72,16 +82,13 @@ public void start() {
     	this.running = true;
     }
     
-    public synchronized void addSample(int latency) {
-        if (latency >= latencyCounts.length)
-            resize(latency);
-        latencyCounts[latency]++;
-        sampleCount++;
-        totalLatency += latency;
-        if (minLatency == -1 || latency < minLatency)
-            minLatency = latency;
-        if (latency > maxLatency)
-            maxLatency = latency;
+    public void addSample(long latency) {
+        histogram.addSample(latency);
+    }
+
+    /** Adds a sample which stands for several invocations of the same latency, e.g. in sampling mode. */
+    public void addSamples(long latency, long count) {
+        histogram.addSamples(latency, count);
     }
 
     public void stop() {
@@ -100,30 +107,32 @@ public long getStartTime() {
     }
 
     public long getLatencyCount(long latency) {
-        if (latency < latencyCounts.length)
-            return latencyCounts[(int) latency];
-        else
-            return 0;
+        return histogram.getLatencyCount(latency);
+    }
+
+    /** @return the lowest latency of the histogram bucket which follows the bucket of the given latency */
+    public long nextLatency(long latency) {
+        return histogram.nextLatency(latency);
     }
 
     public long totalLatency() {
-        return totalLatency;
+        return histogram.totalLatency();
     }
 
     public double averageLatency() {
-        return (double) totalLatency / sampleCount;
+        return (double) totalLatency() / sampleCount();
     }
 
     public long minLatency() {
-        return Math.max(minLatency, 0);
+        return Math.max(histogram.minLatency(), 0);
     }
 
     public long maxLatency() {
-        return Math.max(maxLatency, 0);
+        return Math.max(histogram.maxLatency(), 0);
     }
 
     public long sampleCount() {
-        return sampleCount;
+        return (sampleCount >= 0 ? sampleCount : histogram.sampleCount());
     }
 
     public void setSampleCount(long sampleCount) {
@@ -131,45 +140,71 @@ public void setSampleCount(long sampleCount) {
     }
 
     public long percentileLatency(int percentile) {
-        long targetCount = percentile * sampleCount / 100;
-        long count = 0;
-        for (long value = minLatency(); value <= maxLatency; value++) {
-            count += getLatencyCount(value);
-            if (count >= targetCount)
-                return value;
-        }
-        return maxLatency;
+        long targetCount = percentile * sampleCount() / 100;
+        return histogram.latencyAtCount(targetCount);
+    }
+    
+    public double percentileAboveLatency(long latency) {
+        return (histogram.countAbove(latency) * 100.) / sampleCount();
     }
     
-    public double percentileAboveLatency(int latency) {
-        long count = 0;
-        for (long value = (long) latency + 1; value <= maxLatency; value++)
-            count += getLatencyCount(value);
-        return (count * 100.) / sampleCount;
+    /** 
+     * Moves the samples recorded so far to a new, stopped counter and restarts this one 
+     * without samples. This requires a {@link ConcurrentLatencyHistogram}.
+     * @return a counter with the samples and duration of the interval since the start or the previous call
+     */
+    LatencyCounter snapshotAndReset() {
+    	long now = System.currentTimeMillis();
+    	LatencyCounter result = new LatencyCounter(name, clockName, 
+    			((ConcurrentLatencyHistogram) histogram).snapshotAndReset(), timeUnit);
+    	result.startTime = startTime;
+    	result.endTime = now;
+    	this.startTime = now;
+    	return result;
     }
     
     public double throughput() {
     	if (startTime == -1 || endTime == -1)
     		throw new IllegalArgumentException("Invalid setup: Use start() and stop() to indicate test start and end!");
-    	return 1000. * sampleCount / duration();
+    	return 1000. * sampleCount() / duration();
     }
 
 	public long duration() {
 	    return endTime - startTime;
     }
     
-    // private helpers -------------------------------------------------------------------------------------------------
-
-    private void resize(int requestedIndex) {
-        int sizingFactor = (requestedIndex + latencyCounts.length) / latencyCounts.length;
-        int newLength = sizingFactor * latencyCounts.length;
-        long[] newLatencyCounts = new long[newLength];
-        System.arraycopy(latencyCounts, 0, newLatencyCounts, 0, latencyCounts.length);
-        latencyCounts = newLatencyCounts;
-    }
-
+	/**
+	 * Creates a counter with the samples of this one plus the samples which were presumably omitted 
+	 * because the test was waiting for slow invocations (coordinated omission). 
+	 * Like HdrHistogram's <code>recordValueWithExpectedInterval()</code>, each latency L 
+	 * which exceeds the expected interval I between invocations is accompanied by 
+	 * synthetic samples of L - I, L - 2I, ... down to I. 
+	 * The samples are taken from the histogram buckets, represented by the bucket's lower bound.
+	 * @param expectedInterval the expected time between two invocations of a thread, in the time unit of this counter
+	 * @param histogram an empty histogram to store the corrected samples
+	 */
+	public LatencyCounter correctedForCoordinatedOmission(long expectedInterval, LatencyHistogram histogram) {
+		LatencyCounter result = new LatencyCounter(name, clockName, histogram, timeUnit);
+		result.startTime = startTime;
+		result.endTime = endTime;
+		if (sampleCount() == 0)
+			return result;
+		long max = maxLatency();
+		for (long latency = minLatency(); latency <= max; latency = nextLatency(latency)) {
+			long count = getLatencyCount(latency);
+			if (count == 0)
+				continue;
+			long value = (nextLatency(latency) > max ? max : latency);
+			histogram.addSamples(value, count);
+			if (expectedInterval > 0)
+				for (long missing = value - expectedInterval; missing >= expectedInterval; missing -= expectedInterval)
+					histogram.addSamples(missing, count);
+		}
+		return result;
+	}
+	
 	public void printSummary(PrintWriter out, int... percentiles) {
-    	out.println("samples: " + sampleCount);
+    	out.println("samples: " + sampleCount());
     	out.println("max:     " + maxLatency());
     	out.println("average: " + averageLatency());
     	out.println("median:  " + percentileLatency(50));
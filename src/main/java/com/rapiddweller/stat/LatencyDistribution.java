@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Immutable, compact latency distribution, consisting of the distinct latencies in ascending order 
+ * and the number of their occurrences. Latencies are stored in nanoseconds, so that distributions 
+ * measured in different time units can be compared. A baseline run is stored as distribution 
+ * of its {@link BatchMeans}.<br/><br/>
+ * Created: 18.10.2026 19:31:50
+ * @since 2.6.0
+ * @author agent
+ */
+public final class LatencyDistribution {
+	
+	private static final int MAGIC = 0x4350424C; // 'CPBL'
+	private static final int VERSION = 2; // 1 held histogram buckets instead of batch averages
+	
+	private final double[] latencies;
+	private final long[] counts;
+	private final long sampleCount;
+	
+	public LatencyDistribution(double[] latencies, long[] counts) {
+		if (latencies.length != counts.length)
+			throw new IllegalArgumentException("Latency and count arrays differ in length");
+		this.latencies = latencies;
+		this.counts = counts;
+		long sampleCount = 0;
+		for (long count : counts)
+			sampleCount += count;
+		this.sampleCount = sampleCount;
+	}
+	
+	/** Creates a distribution of the given latencies in nanoseconds, each occurring once. */
+	public static LatencyDistribution of(double[] latencies) {
+		double[] sorted = latencies.clone();
+		Arrays.sort(sorted);
+		int size = 0;
+		double[] values = new double[sorted.length];
+		long[] counts = new long[sorted.length];
+		for (double latency : sorted) {
+			if (size > 0 && values[size - 1] == latency)
+				counts[size - 1]++;
+			else {
+				values[size] = latency;
+				counts[size] = 1;
+				size++;
+			}
+		}
+		return new LatencyDistribution(Arrays.copyOf(values, size), Arrays.copyOf(counts, size));
+	}
+	
+	// properties ------------------------------------------------------------------------------------------------------
+	
+	public int size() {
+		return latencies.length;
+	}
+	
+	/** @return the latency of the bucket with the given index in nanoseconds */
+	public double getLatency(int index) {
+		return latencies[index];
+	}
+	
+	public long getCount(int index) {
+		return counts[index];
+	}
+	
+	public long sampleCount() {
+		return sampleCount;
+	}
+	
+	/** @return the latency in nanoseconds below or at which the given percentage of the samples lie */
+	public double percentile(int percentage) {
+		long target = Math.max(percentage * sampleCount / 100, 1);
+		long count = 0;
+		for (int i = 0; i < counts.length; i++) {
+			count += counts[i];
+			if (count >= target)
+				return latencies[i];
+		}
+		return (latencies.length > 0 ? latencies[latencies.length - 1] : -1);
+	}
+	
+	/** @return a distribution with all latencies multiplied by the given factor */
+	public LatencyDistribution scaled(double factor) {
+		double[] scaled = new double[latencies.length];
+		for (int i = 0; i < latencies.length; i++)
+			scaled[i] = latencies[i] * factor;
+		return new LatencyDistribution(scaled, counts);
+	}
+	
+	// persistence -----------------------------------------------------------------------------------------------------
+	
+	public void write(DataOutput out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(latencies.length);
+		for (int i = 0; i < latencies.length; i++) {
+			out.writeDouble(latencies[i]);
+			out.writeLong(counts[i]);
+		}
+	}
+	
+	public static LatencyDistribution read(DataInput in) throws IOException {
+		if (in.readInt() != MAGIC)
+			throw new IOException("Not a latency distribution");
+		int version = in.readInt();
+		if (version != VERSION)
+			throw new IOException("Unsupported latency distribution version: " + version);
+		int size = in.readInt();
+		double[] latencies = new double[size];
+		long[] counts = new long[size];
+		for (int i = 0; i < size; i++) {
+			latencies[i] = in.readDouble();
+			counts[i] = in.readLong();
+		}
+		return new LatencyDistribution(latencies, counts);
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + sampleCount + " samples in " + latencies.length + " buckets)";
+	}
+	
+}
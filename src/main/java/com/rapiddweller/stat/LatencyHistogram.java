@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+/**
+ * Stores the latency distribution of a {@link LatencyCounter}.
+ * Implementations differ in their bucket layout and in the way they
+ * deal with concurrent access.<br/><br/>
+ * Created: 17.10.2026 09:12:40
+ * @since 2.6.0
+ * @author agent
+ * @see LinearLatencyHistogram
+ * @see ConcurrentLatencyHistogram
+ */
+public interface LatencyHistogram {
+	
+	void addSample(long latency);
+	
+	/** Adds the given number of samples of the same latency. */
+	default void addSamples(long latency, long count) {
+		for (long i = 0; i < count; i++)
+			addSample(latency);
+	}
+	
+	/** @return the number of samples in the bucket which starts at the given latency 
+	 *  (or the bucket of the minimum latency, if that is the given one), 
+	 *  0 if the latency is not the lower bound of a bucket */
+	long getLatencyCount(long latency);
+	
+	/** @return the lower bound of the bucket that follows the one containing the given latency */
+	long nextLatency(long latency);
+	
+	long sampleCount();
+	long totalLatency();
+	
+	/** @return the smallest latency recorded or -1 if there was no sample */
+	long minLatency();
+	
+	/** @return the largest latency recorded or -1 if there was no sample */
+	long maxLatency();
+	
+	/** @return the smallest latency for which the cumulated sample count reaches the given count */
+	long latencyAtCount(long targetCount);
+	
+	/** @return the number of samples with a latency higher than the given one */
+	long countAbove(long latency);
+	
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+/**
+ * {@link LatencyHistogram} with one bucket per latency value. 
+ * The bucket array grows with the largest latency encountered.<br/><br/>
+ * Created: 17.10.2026 09:31:02
+ * @since 2.6.0
+ * @author agent
+ */
+public class LinearLatencyHistogram extends AbstractLatencyHistogram {
+	
+	public LinearLatencyHistogram(int expectedMaxLatency) {
+		super(1 + expectedMaxLatency);
+	}
+
+	@Override
+	protected int bucketIndex(long latency) {
+		return (int) latency;
+	}
+
+	@Override
+	protected long bucketStart(int index) {
+		return index;
+	}
+
+	@Override
+	protected int newBucketCount(int requiredIndex, int currentBucketCount) {
+		int sizingFactor = (requiredIndex + currentBucketCount) / currentBucketCount;
+		return sizingFactor * currentBucketCount;
+	}
+	
+}
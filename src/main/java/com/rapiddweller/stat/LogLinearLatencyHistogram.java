@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+/**
+ * {@link LatencyHistogram} with a log-linear bucket layout in the style of HdrHistogram: 
+ * Latencies are grouped into power-of-two ranges which are subdivided linearly, 
+ * so that each latency is stored with the configured number of significant decimal digits. 
+ * Small latencies (up to 2 * 10^significantDigits) get one bucket per value. 
+ * The number of buckets grows logarithmically with the largest latency, 
+ * which bounds memory consumption and the cost of percentile queries.<br/><br/>
+ * Created: 17.10.2026 11:02:26
+ * @since 2.6.0
+ * @author agent
+ */
+public class LogLinearLatencyHistogram extends AbstractLatencyHistogram {
+	
+	private final int significantDigits;
+	private final int subBucketHalfCountMagnitude;
+	private final int subBucketHalfCount;
+	private final long subBucketMask;
+	private final int leadingZeroCountBase;
+	
+	public LogLinearLatencyHistogram(int significantDigits) {
+		super(subBucketCount(significantDigits));
+		this.significantDigits = significantDigits;
+		int subBucketCount = counts.length;
+		this.subBucketHalfCountMagnitude = Integer.numberOfTrailingZeros(subBucketCount) - 1;
+		this.subBucketHalfCount = subBucketCount / 2;
+		this.subBucketMask = subBucketCount - 1;
+		this.leadingZeroCountBase = 64 - subBucketHalfCountMagnitude - 1;
+	}
+	
+	public int getSignificantDigits() {
+		return significantDigits;
+	}
+	
+	// bucket layout ---------------------------------------------------------------------------------------------------
+	
+	@Override
+	protected int bucketIndex(long latency) {
+		int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(latency | subBucketMask);
+		int subBucketIndex = (int) (latency >>> bucketIndex);
+		return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+	}
+
+	@Override
+	protected long bucketStart(int index) {
+		int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+		int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+		if (bucketIndex < 0) {
+			subBucketIndex -= subBucketHalfCount;
+			bucketIndex = 0;
+		}
+		return ((long) subBucketIndex) << bucketIndex;
+	}
+
+	@Override
+	protected int newBucketCount(int requiredIndex, int currentBucketCount) {
+		// grow by whole power-of-two ranges
+		return (requiredIndex / subBucketHalfCount + 1) * subBucketHalfCount;
+	}
+	
+	// private helpers -------------------------------------------------------------------------------------------------
+	
+	private static int subBucketCount(int significantDigits) {
+		if (significantDigits < 1 || significantDigits > 5)
+			throw new IllegalArgumentException("Significant digits must be in the range 1..5, but was " + significantDigits);
+		long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+		int magnitude = 64 - Long.numberOfLeadingZeros(largestValueWithSingleUnitResolution - 1);
+		return 1 << magnitude;
+	}
+	
+}
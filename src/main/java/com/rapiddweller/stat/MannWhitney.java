@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+/**
+ * Mann-Whitney U test (Wilcoxon rank-sum test) on {@link LatencyDistribution}s. 
+ * It does not assume a particular shape of the distributions, which suits the skewed 
+ * and multi-modal distributions of latencies. The large sample counts of performance tests 
+ * permit the normal approximation, which is corrected for the ties of bucketed samples.<br/><br/>
+ * Created: 18.10.2026 19:42:13
+ * @since 2.6.0
+ * @author agent
+ */
+public final class MannWhitney {
+	
+	private MannWhitney() {
+	}
+	
+	/** 
+	 * Performs a one-sided test of the hypothesis that latencies of x are not greater than those of y.
+	 * @return the p-value: a small value indicates that x tends to be greater than y 
+	 */
+	public static double pValueGreater(LatencyDistribution x, LatencyDistribution y) {
+		double n1 = x.sampleCount();
+		double n2 = y.sampleCount();
+		if (n1 == 0 || n2 == 0)
+			return 1;
+		// rank sum of x, merging the sorted buckets of both samples
+		double rankSum = 0;
+		double tieTerm = 0;
+		double rank = 0;
+		int i = 0;
+		int j = 0;
+		while (i < x.size() || j < y.size()) {
+			double value = Math.min(i < x.size() ? x.getLatency(i) : Double.MAX_VALUE, 
+					j < y.size() ? y.getLatency(j) : Double.MAX_VALUE);
+			double countX = (i < x.size() && x.getLatency(i) == value ? x.getCount(i++) : 0);
+			double countY = (j < y.size() && y.getLatency(j) == value ? y.getCount(j++) : 0);
+			double ties = countX + countY;
+			rankSum += countX * (rank + (ties + 1) / 2);
+			tieTerm += ties * ties * ties - ties;
+			rank += ties;
+		}
+		double n = n1 + n2;
+		double u = rankSum - n1 * (n1 + 1) / 2;
+		double mean = n1 * n2 / 2;
+		double variance = n1 * n2 / 12 * ((n + 1) - tieTerm / (n * (n - 1)));
+		if (variance <= 0)
+			return (u > mean ? 0 : 1);
+		double z = (u - mean - 0.5) / Math.sqrt(variance);
+		return 1 - normalCdf(z);
+	}
+	
+	/** Standard normal cumulative distribution function with an absolute error below 1e-7 */
+	static double normalCdf(double z) {
+		double x = Math.abs(z) / Math.sqrt(2);
+		// Abramowitz and Stegun, formula 7.1.26
+		double t = 1 / (1 + 0.3275911 * x);
+		double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 
+				+ t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x);
+		return (z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2);
+	}
+	
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides randomly which calls are measured when only a fraction of them shall be recorded. 
+ * A measured call stands for 1/rate calls, so it is recorded with a {@link #weight()} 
+ * which is randomly rounded to an integral number: 
+ * This way invocation counts and total latencies scale back to the full number of calls on average, 
+ * while averages and percentiles are not affected.
+ * The random numbers are taken from the {@link ThreadLocalRandom}, which does not need synchronization.<br/><br/>
+ * Created: 18.10.2026 09:40:26
+ * @since 2.6.0
+ * @author agent
+ */
+public final class Sampler {
+	
+	/** Sampler which measures every call with the weight 1. */
+	public static final Sampler ALL = new Sampler(1);
+	
+	private static final double RANGE = 1L << 32;
+	
+	private final double rate;
+	private final boolean all;
+	private final long sampleThreshold;
+	private final long baseWeight;
+	private final long fractionThreshold;
+	
+	public Sampler(double rate) {
+		if (!(rate > 0 && rate <= 1))
+			throw new IllegalArgumentException("Sample rate must be greater than 0 and at most 1, but was " + rate);
+		this.rate = rate;
+		this.all = (rate == 1);
+		this.sampleThreshold = (long) (rate * RANGE);
+		double weight = 1 / rate;
+		this.baseWeight = (long) weight;
+		this.fractionThreshold = (long) ((weight - baseWeight) * RANGE);
+	}
+	
+	public double getRate() {
+		return rate;
+	}
+	
+	/** @return true if the current call shall be measured */
+	public boolean sample() {
+		return (all || random() < sampleThreshold);
+	}
+	
+	/** @return the number of calls which a measured call represents */
+	public long weight() {
+		return (fractionThreshold == 0 ? baseWeight : baseWeight + (random() < fractionThreshold ? 1 : 0));
+	}
+	
+	private static long random() {
+		return ThreadLocalRandom.current().nextInt() & 0xFFFFFFFFL;
+	}
+	
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + rate + "]";
+	}
+	
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+/**
+ * Maps threads to a bounded number of stripes for data structures which would otherwise 
+ * keep an instance per thread. With virtual threads, a test may run thousands of threads, 
+ * but only as many execute at the same time as there are carrier threads, so a small multiple 
+ * of the processor count keeps contention low while memory stays independent of the thread count.<br/><br/>
+ * Created: 18.10.2026 22:14:51
+ * @since 2.6.0
+ * @author agent
+ */
+public final class Stripes {
+	
+	private static final int MAX_COUNT = 64;
+	
+	private Stripes() {
+		// utility class
+	}
+	
+	/** @return the default number of stripes, a power of two */
+	public static int defaultCount() {
+		int count = 1;
+		while (count < 2 * Runtime.getRuntime().availableProcessors() && count < MAX_COUNT)
+			count <<= 1;
+		return count;
+	}
+	
+	/** @return the stripe of the current thread 
+	 *  @param mask the stripe count minus 1, the stripe count being a power of two */
+	public static int index(int mask) {
+		long id = Thread.currentThread().getId();
+		return (int) (id ^ (id >>> 16)) & mask;
+	}
+	
+}
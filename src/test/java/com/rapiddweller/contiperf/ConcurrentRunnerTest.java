@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import com.rapiddweller.contiperf.util.VirtualThreads;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the {@link ConcurrentRunner}.<br/><br/>
+ * Created: 17.10.2026 14:25:10
+ * @since 2.6.0
+ * @author agent
+ */
+public class ConcurrentRunnerTest {
+	
+	@Test
+	public void testPlatformThreads() {
+		checkExecution(false);
+	}
+	
+	@Test
+	public void testVirtualThreads() {
+		checkExecution(true);
+	}
+	
+	@Test
+	public void testPlatformThreadFailure() {
+		checkFailure(false);
+	}
+	
+	@Test
+	public void testVirtualThreadFailure() {
+		checkFailure(true);
+	}
+	
+	@Test
+	public void testVirtualThreadCreation() throws Exception {
+		Assume.assumeTrue(VirtualThreads.isSupported());
+		AtomicInteger counter = new AtomicInteger();
+		Thread thread = VirtualThreads.newThread("vt", counter::incrementAndGet, null);
+		thread.start();
+		thread.join();
+		assertEquals(1, counter.get());
+		assertEquals("vt", thread.getName());
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private static void checkExecution(boolean virtualThreads) {
+		AtomicInteger counter = new AtomicInteger();
+		InvocationRunner[] runners = new InvocationRunner[200];
+		for (int i = 0; i < runners.length; i++)
+			runners[i] = new TestRunner(() -> {
+				sleep(10);
+				counter.incrementAndGet();
+			});
+		new ConcurrentRunner("test", runners, 0, virtualThreads).run();
+		assertEquals(200, counter.get());
+	}
+	
+	private static void checkFailure(boolean virtualThreads) {
+		AtomicInteger interrupted = new AtomicInteger();
+		InvocationRunner[] runners = new InvocationRunner[10];
+		runners[0] = new TestRunner(() -> {
+			sleep(50);
+			throw new IllegalStateException("failed");
+		});
+		for (int i = 1; i < runners.length; i++)
+			runners[i] = new TestRunner(() -> {
+				try {
+					Thread.sleep(60000);
+				} catch (InterruptedException e) {
+					interrupted.incrementAndGet();
+				}
+			});
+		long startTime = System.currentTimeMillis();
+		try {
+			new ConcurrentRunner("test", runners, 0, virtualThreads).run();
+			fail("failure expected");
+		} catch (PerfTestExecutionError e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		assertEquals(9, interrupted.get());
+		assertTrue(System.currentTimeMillis() - startTime < 30000);
+	}
+	
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	static class TestRunner implements InvocationRunner {
+		
+		private final Runnable task;
+
+		TestRunner(Runnable task) {
+			this.task = task;
+		}
+
+		@Override
+		public void run() {
+			task.run();
+		}
+
+		@Override
+		public void close() {
+			// nothing to do
+		}
+	}
+	
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import com.rapiddweller.contiperf.clock.SystemClock;
+import com.rapiddweller.contiperf.report.AbstractReportModule;
+import com.rapiddweller.contiperf.report.InvocationCountingReportModule;
+import com.rapiddweller.contiperf.report.ReportContext;
+import com.rapiddweller.contiperf.sensor.AllocationSensor;
+import com.rapiddweller.contiperf.timer.None;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link PerformanceTracker}.<br/><br/>
+ * Created: 17.10.2026 10:12:40
+ * @since 2.6.0
+ * @author agent
+ */
+public class PerformanceTrackerTest {
+
+	private static final int WARM_UP_INVOCATIONS = 200000;
+	private static final int MEASURED_INVOCATIONS = 200000;
+	
+	/** Tolerates a few stray allocations (e.g. class loading, JIT deoptimization), but not one per call */
+	private static final long ALLOCATION_TOLERANCE = 16 * 1024;
+
+	@Test
+	public void testAllocationFreeInvocation() throws Exception {
+		ThreadMXBean mxBean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(mxBean instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) mxBean;
+		Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+		
+		ReportContext context = new ReportContext(new File("target/contiperf-test"), PerfTestFailure.class);
+		InvocationCountingReportModule countingModule = new InvocationCountingReportModule();
+		context.addReportModule(countingModule);
+		PerformanceTracker tracker = new PerformanceTracker(new NoOpInvoker(), new ExecutionConfig(0), 
+				new PerformanceRequirement(), context, new Clock[] { new SystemClock() });
+		ArgumentsProvider provider = new EmptyArgumentsProvider();
+		for (int i = 0; i < WARM_UP_INVOCATIONS; i++)
+			tracker.invoke(provider.next());
+		assertTrue(tracker.isTrackingStarted());
+		
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < MEASURED_INVOCATIONS; i++)
+			tracker.invoke(provider.next());
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		
+		assertTrue("Invocations allocated " + allocated + " bytes", allocated < ALLOCATION_TOLERANCE);
+		assertEquals(WARM_UP_INVOCATIONS + MEASURED_INVOCATIONS, countingModule.getInvocationCount());
+		assertEquals(WARM_UP_INVOCATIONS + MEASURED_INVOCATIONS, tracker.getCounters()[0].sampleCount());
+	}
+
+	@Test
+	public void testOptionalMeasurements() throws Exception {
+		// without requirement or configuration, invocations are not measured by the allocation sensor or time series
+		PerformanceTracker tracker = measure(new ExecutionConfig(0), new PerformanceRequirement());
+		assertNull(tracker.getStatistics().getResourceUsage().getAllocation());
+		assertTrue(tracker.getStatistics().getIntervals().isEmpty());
+		tracker.clear();
+		// they are measured on demand
+		PerformanceRequirement requirement = new PerformanceRequirement();
+		requirement.setAllocationPerInvocation(1000000);
+		ExecutionConfig config = new ExecutionConfig(0);
+		config.setStatisticsInterval(1000);
+		tracker = measure(config, requirement);
+		if (AllocationSensor.createIfSupported() != null)
+			assertEquals(100, tracker.getStatistics().getResourceUsage().getAllocationSamples());
+		assertEquals(1, tracker.getStatistics().getIntervals().size());
+		tracker.clear();
+	}
+
+	@Test
+	public void testSharedEmptyArguments() {
+		ArgumentsProvider provider = new EmptyArgumentsProvider();
+		assertTrue(provider.next() == provider.next());
+	}
+	
+	@Test
+	public void testConcurrentTrackingStart() throws Exception {
+		int threadCount = 8;
+		int invocations = 10000;
+		Clock[] clocks = new Clock[] { new SystemClock() };
+		ExecutionConfig config = new ExecutionConfig(0, threadCount, -1, clocks, 0, 0, false, None.class, new double[0]);
+		ReportContext context = new ReportContext(new File("target/contiperf-test"), PerfTestFailure.class);
+		PerformanceTracker tracker = new PerformanceTracker(new NoOpInvoker(), config, null, context, clocks);
+		ArgumentsProvider provider = new EmptyArgumentsProvider();
+		Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					for (int j = 0; j < invocations; j++)
+						tracker.invoke(provider.next());
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertTrue(tracker.isTrackingStarted());
+		assertEquals(threadCount * invocations, tracker.getCounters()[0].sampleCount());
+		assertEquals(0, tracker.getStatistics().getWarmUpInvocations());
+		tracker.clear();
+	}
+	
+	@Test
+	public void testThreadIndexes() throws Exception {
+		int threadCount = 4;
+		Clock[] clocks = new Clock[] { new SystemClock() };
+		ExecutionConfig config = new ExecutionConfig(0, threadCount, -1, clocks, 0, 0, false, None.class, new double[0]);
+		ReportContext context = new ReportContext(new File("target/contiperf-test"), PerfTestFailure.class);
+		Map<Integer, Set<String>> threadsByIndex = new ConcurrentHashMap<>();
+		context.addReportModule(new AbstractReportModule() {
+			@Override
+			public void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime, int threadIndex) {
+				threadsByIndex.computeIfAbsent(threadIndex, k -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+			}
+		});
+		PerformanceTracker tracker = new PerformanceTracker(new NoOpInvoker(), config, null, context, clocks);
+		tracker.startTracking();
+		ArgumentsProvider provider = new EmptyArgumentsProvider();
+		Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					for (int j = 0; j < 100; j++)
+						tracker.invoke(provider.next());
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}, "invoker" + i);
+			threads[i].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		tracker.stopTracking();
+		tracker.clear();
+		// each thread gets an index of its own
+		assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3)), threadsByIndex.keySet());
+		for (Set<String> threadNames : threadsByIndex.values())
+			assertEquals(1, threadNames.size());
+	}
+	
+	@Test
+	public void testFailingTrackingStart() throws Exception {
+		Clock[] clocks = new Clock[] { new SystemClock() };
+		ExecutionConfig config = new ExecutionConfig(0, 2, -1, clocks, 0, 0, false, None.class, new double[0]);
+		ReportContext context = new ReportContext(new File("target/contiperf-test"), PerfTestFailure.class);
+		CountDownLatch starting = new CountDownLatch(1);
+		context.addReportModule(new AbstractReportModule() {
+			@Override
+			public void starting(String serviceId) {
+				starting.countDown();
+				try {
+					Thread.sleep(200);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				throw new RuntimeException("Error creating report");
+			}
+		});
+		PerformanceTracker tracker = new PerformanceTracker(new NoOpInvoker(), config, null, context, clocks);
+		AtomicReferenceArray<Throwable> failures = new AtomicReferenceArray<>(2);
+		Thread[] threads = new Thread[2];
+		for (int i = 0; i < threads.length; i++) {
+			int index = i;
+			threads[i] = new Thread(() -> {
+				try {
+					tracker.startTracking();
+				} catch (Throwable t) {
+					failures.set(index, t);
+				}
+			});
+		}
+		threads[0].start();
+		starting.await();
+		// the second thread waits for the transition which is still in progress
+		threads[1].start();
+		for (Thread thread : threads) {
+			thread.join(10000);
+			assertFalse("Thread is stuck waiting for a failed start", thread.isAlive());
+		}
+		assertEquals("Error creating report", failures.get(0).getMessage());
+		// usually a PerfTestExecutionError, or the module's exception if the thread started late and retried
+		assertNotNull("The waiting thread should fail as well", failures.get(1));
+		assertFalse(tracker.isTrackingStarted());
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private static PerformanceTracker measure(ExecutionConfig config, PerformanceRequirement requirement) throws Exception {
+		ReportContext context = new ReportContext(new File("target/contiperf-test"), PerfTestFailure.class);
+		PerformanceTracker tracker = new PerformanceTracker(new NoOpInvoker(), config, requirement, context, 
+				new Clock[] { new SystemClock() });
+		ArgumentsProvider provider = new EmptyArgumentsProvider();
+		tracker.startTracking();
+		for (int i = 0; i < 100; i++)
+			tracker.invoke(provider.next());
+		tracker.stopTracking();
+		return tracker;
+	}
+	
+	// helper classes --------------------------------------------------------------------------------------------------
+	
+	private static class NoOpInvoker implements Invoker {
+
+		@Override
+		public String getId() {
+			return "noop";
+		}
+
+		@Override
+		public Object invoke(Object[] args) {
+			return null;
+		}
+		
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import com.rapiddweller.contiperf.report.Verdict;
+import com.rapiddweller.stat.LatencyCounter;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link RequirementMonitor}.<br/><br/>
+ * Created: 18.10.2026 18:44:27
+ * @since 2.6.0
+ * @author agent
+ */
+public class RequirementMonitorTest {
+	
+	@Test
+	public void testAverageSuccess() {
+		PerformanceRequirement requirement = new PerformanceRequirement(50, -1, -1, new PercentileRequirement[0], -1);
+		assertEquals(Verdict.SUCCESS, run(requirement, true, 10, 12));
+		assertEquals(Verdict.IGNORED, run(requirement, false, 10, 12));
+	}
+	
+	@Test
+	public void testAverageFailure() {
+		PerformanceRequirement requirement = new PerformanceRequirement(50, -1, -1, new PercentileRequirement[0], -1);
+		assertEquals(Verdict.FAILURE, run(requirement, false, 100, 120));
+	}
+	
+	@Test
+	public void testAverageUndecided() {
+		PerformanceRequirement requirement = new PerformanceRequirement(50, -1, -1, new PercentileRequirement[0], -1);
+		assertEquals(Verdict.IGNORED, run(requirement, true, 10, 90, 50));
+	}
+	
+	@Test
+	public void testMaxFailure() {
+		PerformanceRequirement requirement = new PerformanceRequirement(-1, 50, -1, new PercentileRequirement[0], -1);
+		RequirementMonitor monitor = new RequirementMonitor(requirement, TimeUnit.MILLISECONDS, true);
+		LatencyCounter counter = new LatencyCounter("test");
+		counter.addSample(51);
+		assertEquals(Verdict.FAILURE, monitor.evaluate(counter, 0));
+	}
+	
+	@Test
+	public void testMaxNotDecidable() {
+		PerformanceRequirement requirement = new PerformanceRequirement(50, 1000, -1, new PercentileRequirement[0], -1);
+		assertEquals(Verdict.IGNORED, run(requirement, true, 10, 12));
+	}
+	
+	@Test
+	public void testRegressionNotDecidable() {
+		PerformanceRequirement requirement = new PerformanceRequirement(50, -1, -1, new PercentileRequirement[0], -1);
+		requirement.setMaxRegressionPercent(10);
+		assertEquals(Verdict.IGNORED, run(requirement, true, 10, 12));
+	}
+	
+	@Test
+	public void testPercentiles() {
+		PercentileRequirement[] percentiles = { new PercentileRequirement(90, 20) };
+		PerformanceRequirement requirement = new PerformanceRequirement(-1, -1, -1, percentiles, -1);
+		// 2% above the limit
+		assertEquals(Verdict.SUCCESS, run(requirement, true, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 100));
+		// 50% above the limit
+		assertEquals(Verdict.FAILURE, run(requirement, true, 10, 100));
+	}
+	
+	@Test
+	public void testThroughput() {
+		PerformanceRequirement requirement = new PerformanceRequirement(-1, -1, -1, new PercentileRequirement[0], 500);
+		// run() adds 100 samples per 100 ms batch, which is 1000 calls per second
+		assertEquals(Verdict.SUCCESS, run(requirement, true, 10));
+		requirement = new PerformanceRequirement(-1, -1, -1, new PercentileRequirement[0], 2000);
+		assertEquals(Verdict.FAILURE, run(requirement, true, 10));
+	}
+	
+	@Test
+	public void testRepeatedLooksAtTheLimit() {
+		// long soak tests whose true average equals the limit must not be decided by chance
+		PerformanceRequirement requirement = new PerformanceRequirement(50, -1, -1, new PercentileRequirement[0], -1);
+		for (int seed = 0; seed < 20; seed++) {
+			RequirementMonitor monitor = new RequirementMonitor(requirement, TimeUnit.MILLISECONDS, true);
+			LatencyCounter counter = new LatencyCounter("test");
+			Random random = new Random(seed);
+			monitor.evaluate(counter, 0);
+			for (int batch = 1; batch <= 2000; batch++) {
+				for (int i = 0; i < 100; i++)
+					counter.addSample(random.nextInt(101));
+				assertEquals("Decided by chance with seed " + seed + " after " + batch + " batches", 
+						Verdict.IGNORED, monitor.evaluate(counter, batch * 100));
+			}
+		}
+	}
+	
+	/** Evaluates batches of 100 samples taken alternately from the latencies, with 100 ms per batch */
+	private static Verdict run(PerformanceRequirement requirement, boolean decidesSuccess, int... latencies) {
+		RequirementMonitor monitor = new RequirementMonitor(requirement, TimeUnit.MILLISECONDS, decidesSuccess);
+		LatencyCounter counter = new LatencyCounter("test");
+		monitor.evaluate(counter, 0);
+		Verdict verdict = Verdict.IGNORED;
+		int sample = 0;
+		for (int batch = 1; batch <= 20 && verdict == Verdict.IGNORED; batch++) {
+			for (int i = 0; i < 100; i++)
+				counter.addSample(latencies[sample++ % latencies.length]);
+			verdict = monitor.evaluate(counter, batch * 100);
+		}
+		return verdict;
+	}
+	
+}
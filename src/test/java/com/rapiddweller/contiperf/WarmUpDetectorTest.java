@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link WarmUpDetector}.<br/><br/>
+ * Created: 18.10.2026 16:08:35
+ * @since 2.6.0
+ * @author agent
+ */
+public class WarmUpDetectorTest {
+	
+	@Test
+	public void testSteady() {
+		WarmUpDetector detector = new WarmUpDetector(10, 3, 0.1, false);
+		for (int i = 0; i < 29; i++)
+			assertFalse(detector.addSample(100 + i % 3));
+		assertTrue(detector.addSample(100));
+		assertTrue(detector.isSteady());
+	}
+	
+	@Test
+	public void testDecreasingLatency() {
+		WarmUpDetector detector = new WarmUpDetector(10, 3, 0.1, false);
+		// latencies drop to a third during the first three windows
+		for (int i = 0; i < 30; i++)
+			assertFalse(detector.addSample(300 - i * 7));
+		// ...and are stable afterwards
+		for (int i = 0; i < 29; i++)
+			assertFalse(detector.addSample(100));
+		assertTrue(detector.addSample(100));
+	}
+	
+	@Test
+	public void testVariation() {
+		assertEquals(0., WarmUpDetector.variation(new double[] { 5, 5, 5 }), 0.);
+		assertEquals(0., WarmUpDetector.variation(new double[] { 0, 0 }), 0.);
+		assertEquals(0.5, WarmUpDetector.variation(new double[] { 1, 3 }), 1e-9);
+	}
+	
+}
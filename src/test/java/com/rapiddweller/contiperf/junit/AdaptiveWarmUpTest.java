@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.WarmUpDetector;
+import com.rapiddweller.contiperf.WarmUpMode;
+import com.rapiddweller.contiperf.junit.SensorTest.StatisticsModule;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the adaptive {@link WarmUpMode}s.<br/><br/>
+ * Created: 18.10.2026 16:15:52
+ * @since 2.6.0
+ * @author agent
+ */
+public class AdaptiveWarmUpTest {
+	
+	private static final StatisticsModule module = new StatisticsModule();
+	
+	@Rule public ContiPerfRule rule = new ContiPerfRule(module);
+	
+	private final int[] values = new Random(42).ints(1000).toArray();
+	private int checksum;
+	
+	/** a loop which runs much faster once the JIT compiler has optimized it */
+	@Test
+	@PerfTest(invocations = 500000, warmUpMode = WarmUpMode.STEADY_LATENCY_AND_JIT, warmUp = 30000)
+	public void test() {
+		int hash = checksum;
+		for (int value : values)
+			hash = 31 * hash + (value ^ (value >>> 7));
+		checksum = hash;
+	}
+	
+	@After
+	public void verify() {
+		long discarded = module.statistics.getWarmUpInvocations();
+		assertTrue("Discarded " + discarded + " invocations", 
+				discarded >= WarmUpDetector.MIN_WARM_UP_INVOCATIONS && discarded < 500000);
+		assertTrue("The warm-up should end before its limit", module.statistics.getWarmUpTime() < 30000);
+	}
+	
+}
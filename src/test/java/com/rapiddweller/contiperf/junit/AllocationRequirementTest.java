@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.Required;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link Required#allocationPerInvocation()} requirement.<br/><br/>
+ * Created: 18.10.2026 13:31:50
+ * @since 2.6.0
+ * @author agent
+ */
+public class AllocationRequirementTest extends AbstractContiPerfTest {
+	
+	@Test
+	public void testSatisfied() throws Exception {
+		runTest(FrugalTest.class);
+		assertTrue(finished);
+		assertFalse(failed);
+	}
+	
+	@Test
+	public void testViolated() throws Exception {
+		runTest(WastefulTest.class);
+		assertTrue(failed);
+	}
+	
+	// test classes ----------------------------------------------------------------------------------------------------
+	
+	public static class FrugalTest {
+		
+		@Rule public ContiPerfRule rule = new ContiPerfRule();
+		
+		byte[] buffer;
+		
+		@Test
+		@PerfTest(invocations = 20)
+		@Required(allocationPerInvocation = 100000)
+		public void test() {
+			buffer = new byte[1000];
+		}
+	}
+	
+	public static class WastefulTest {
+		
+		@Rule public ContiPerfRule rule = new ContiPerfRule();
+		
+		byte[] buffer;
+		
+		@Test
+		@PerfTest(invocations = 20)
+		@Required(allocationPerInvocation = 1000)
+		public void test() {
+			buffer = new byte[100000];
+		}
+	}
+	
+}
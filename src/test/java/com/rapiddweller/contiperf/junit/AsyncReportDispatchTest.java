@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.contiperf.ReportDispatch;
+import com.rapiddweller.contiperf.report.AbstractReportModule;
+import com.rapiddweller.stat.LatencyCounter;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests asynchronous reporting of invocations.<br/><br/>
+ * Created: 17.10.2026 11:48:31
+ * @since 2.6.0
+ * @author agent
+ */
+public class AsyncReportDispatchTest {
+	
+	private static final DispatchModule module = new DispatchModule();
+	
+	@Rule public ContiPerfRule rule = new ContiPerfRule(module);
+	
+	@Test
+	@PerfTest(invocations = 1000, threads = 4, reportDispatch = ReportDispatch.ASYNC_BLOCK, reportBufferSize = 16)
+	public void testBlocking() {
+		// nothing to do
+	}
+	
+	@Test
+	@PerfTest(invocations = 1000, threads = 4, reportDispatch = ReportDispatch.ASYNC_BLOCK, timeUnit = TimeUnit.MICROSECONDS)
+	public void testMicroseconds() {
+		// nothing to do
+	}
+	
+	@After
+	public void verify() {
+		assertEquals(1000, module.invocationCountAtCompletion);
+		assertFalse(module.invokingThreads.isEmpty());
+		for (String thread : module.invokingThreads)
+			assertEquals("ContiPerf report dispatcher " + module.serviceId, thread);
+		module.reset();
+	}
+	
+	public static class DispatchModule extends AbstractReportModule {
+		
+		final AtomicLong invocationCount = new AtomicLong();
+		final Set<String> invokingThreads = ConcurrentHashMap.newKeySet();
+		volatile long invocationCountAtCompletion;
+		volatile String serviceId;
+		
+		@Override
+		public void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime) {
+			invocationCount.incrementAndGet();
+			invokingThreads.add(Thread.currentThread().getName());
+		}
+		
+		@Override
+		public void completed(String serviceId, LatencyCounter[] counters, 
+				ExecutionConfig executionConfig, PerformanceRequirement requirement) {
+			this.serviceId = serviceId;
+			this.invocationCountAtCompletion = invocationCount.get();
+		}
+		
+		void reset() {
+			invocationCount.set(0);
+			invokingThreads.clear();
+		}
+	}
+	
+}
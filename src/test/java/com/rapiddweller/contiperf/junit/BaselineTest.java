@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.BaselineStore;
+import com.rapiddweller.contiperf.Config;
+import com.rapiddweller.contiperf.EarlyTermination;
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.Required;
+import com.rapiddweller.stat.LatencyDistribution;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link Required#maxRegressionPercent()} requirement.<br/><br/>
+ * Created: 18.10.2026 20:31:44
+ * @since 2.6.0
+ * @author agent
+ */
+public class BaselineTest extends AbstractContiPerfTest {
+	
+	@Test
+	public void testFirstRunCreatesBaseline() throws Exception {
+		String id = FirstTest.class.getName() + ".test";
+		new File(Config.instance().getReportFolder(), "baseline/" + id.replace('$', '_') + ".bin").delete();
+		runTest(FirstTest.class);
+		assertTrue(finished);
+		assertFalse(failed);
+		assertNotNull(BaselineStore.createDefault().load(id));
+	}
+	
+	@Test
+	public void testRegression() throws Exception {
+		double[] latencies = { 100000 };
+		long[] counts = { 20 };
+		BaselineStore.createDefault().save(SlowTest.class.getName() + ".test", new LatencyDistribution(latencies, counts));
+		runTest(SlowTest.class);
+		assertTrue(failed);
+	}
+	
+	@Test
+	public void testSubMillisecondRegression() throws Exception {
+		double[] latencies = { 1000 };
+		long[] counts = { 64 };
+		BaselineStore.createDefault().save(FastTest.class.getName() + ".test", new LatencyDistribution(latencies, counts));
+		runTest(FastTest.class);
+		assertTrue("A regression below the time unit should be detected", failed);
+	}
+	
+	@Test
+	public void testNoBaselineFromEarlyTermination() throws Exception {
+		String id = TerminatedTest.class.getName() + ".test";
+		new File(Config.instance().getReportFolder(), "baseline/" + id.replace('$', '_') + ".bin").delete();
+		runTest(TerminatedTest.class);
+		assertTrue(failed);
+		assertNull(BaselineStore.createDefault().load(id));
+	}
+	
+	// test classes ----------------------------------------------------------------------------------------------------
+	
+	public static class FirstTest {
+		
+		@Rule public ContiPerfRule rule = new ContiPerfRule();
+		
+		@Test
+		@PerfTest(invocations = 10)
+		@Required(maxRegressionPercent = 10)
+		public void test() {
+		}
+	}
+	
+	public static class SlowTest {
+		
+		@Rule public ContiPerfRule rule = new ContiPerfRule();
+		
+		@Test
+		@PerfTest(invocations = 20)
+		@Required(maxRegressionPercent = 10)
+		public void test() throws InterruptedException {
+			Thread.sleep(5);
+		}
+	}
+	
+	public static class FastTest {
+		
+		@Rule public ContiPerfRule rule = new ContiPerfRule();
+		
+		/** takes about 50 microseconds, which is 0 in the default time unit of milliseconds */
+		@Test
+		@PerfTest(invocations = 200)
+		@Required(maxRegressionPercent = 10)
+		public void test() {
+			long end = System.nanoTime() + 50000;
+			while (System.nanoTime() < end)
+				Thread.onSpinWait();
+		}
+	}
+	
+	public static class TerminatedTest {
+		
+		@Rule public ContiPerfRule rule = new ContiPerfRule();
+		
+		@Test
+		@PerfTest(duration = 60000, earlyTermination = EarlyTermination.ON_FAILURE, evaluationInterval = 50)
+		@Required(max = 1, maxRegressionPercent = 10)
+		public void test() throws InterruptedException {
+			Thread.sleep(5);
+		}
+	}
+	
+}
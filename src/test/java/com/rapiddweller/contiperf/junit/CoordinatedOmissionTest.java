@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.ExecutionStatistics;
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.contiperf.report.AbstractReportModule;
+import com.rapiddweller.stat.LatencyCounter;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the correction of coordinated omission.<br/><br/>
+ * Created: 17.10.2026 16:34:05
+ * @since 2.6.0
+ * @author agent
+ */
+public class CoordinatedOmissionTest {
+	
+	private static final StatisticsModule module = new StatisticsModule();
+	
+	@Rule public ContiPerfRule rule = new ContiPerfRule(module);
+	
+	private final AtomicInteger invocationCount = new AtomicInteger();
+	
+	@Test
+	@PerfTest(invocations = 40, correctCoordinatedOmission = true, expectedInterval = 2)
+	public void testConfiguredInterval() throws Exception {
+		stallOnce();
+	}
+	
+	@Test
+	@PerfTest(invocations = 40, correctCoordinatedOmission = true)
+	public void testDerivedInterval() throws Exception {
+		stallOnce();
+	}
+	
+	@After
+	public void verify() {
+		LatencyCounter raw = module.counter;
+		LatencyCounter corrected = module.statistics.getCorrectedLatency();
+		assertNotNull(corrected);
+		assertTrue(module.statistics.getExpectedInterval() > 0);
+		assertEquals(40, raw.sampleCount());
+		// the stall of 200 ms hides dozens of invocations
+		assertTrue("Only " + corrected.sampleCount() + " samples", corrected.sampleCount() >= 60);
+		assertTrue(corrected.percentileLatency(90) > raw.percentileLatency(90));
+		assertEquals(raw.maxLatency(), corrected.maxLatency());
+	}
+	
+	private void stallOnce() throws InterruptedException {
+		Thread.sleep(invocationCount.incrementAndGet() == 20 ? 200 : 2);
+	}
+	
+	public static class StatisticsModule extends AbstractReportModule {
+		
+		LatencyCounter counter;
+		ExecutionStatistics statistics;
+		
+		@Override
+		public void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, 
+				PerformanceRequirement requirement, ExecutionStatistics statistics) {
+			this.counter = counters[0];
+			this.statistics = statistics;
+		}
+	}
+	
+}
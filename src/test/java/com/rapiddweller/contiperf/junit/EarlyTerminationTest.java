@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.EarlyTermination;
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.Required;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link PerfTest#earlyTermination()} of long-running tests.<br/><br/>
+ * Created: 18.10.2026 19:02:15
+ * @since 2.6.0
+ * @author agent
+ */
+public class EarlyTerminationTest extends AbstractContiPerfTest {
+	
+	@Test
+	public void testEarlySuccess() throws Exception {
+		long start = System.currentTimeMillis();
+		runTest(FastTest.class);
+		assertTrue(finished);
+		assertFalse(failed);
+		assertTrue(System.currentTimeMillis() - start < 30000);
+	}
+	
+	@Test
+	public void testEarlyFailure() throws Exception {
+		long start = System.currentTimeMillis();
+		runTest(SlowTest.class);
+		assertTrue(failed);
+		assertTrue(System.currentTimeMillis() - start < 30000);
+	}
+	
+	// test classes ----------------------------------------------------------------------------------------------------
+	
+	public static class FastTest {
+		
+		@Rule public ContiPerfRule rule = new ContiPerfRule();
+		
+		@Test
+		@PerfTest(duration = 60000, threads = 2, earlyTermination = EarlyTermination.ON_DECISION, evaluationInterval = 50)
+		@Required(average = 1000)
+		public void test() throws Exception {
+			Thread.sleep(1);
+		}
+	}
+	
+	public static class SlowTest {
+		
+		@Rule public ContiPerfRule rule = new ContiPerfRule();
+		
+		@Test
+		@PerfTest(duration = 60000, earlyTermination = EarlyTermination.ON_FAILURE, evaluationInterval = 50)
+		@Required(percentile95 = 1)
+		public void test() throws Exception {
+			Thread.sleep(5);
+		}
+	}
+	
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.ExecutionStatistics;
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.contiperf.report.AbstractReportModule;
+import com.rapiddweller.stat.LatencyCounter;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the open workload model of {@link PerfTest#rate()}.<br/><br/>
+ * Created: 17.10.2026 15:48:12
+ * @since 2.6.0
+ * @author agent
+ */
+public class RateTest {
+	
+	private static final StatisticsModule module = new StatisticsModule();
+	
+	@Rule public ContiPerfRule rule = new ContiPerfRule(module);
+	
+	@Test
+	@PerfTest(rate = 200, invocations = 100, threads = 2)
+	public void testOnSchedule() throws Exception {
+		Thread.sleep(1);
+	}
+	
+	@Test
+	@PerfTest(rate = 1000, invocations = 50)
+	public void testBehindSchedule() throws Exception {
+		Thread.sleep(5);
+	}
+	
+	public static class StatisticsModule extends AbstractReportModule {
+		
+		@Override
+		public void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, 
+				PerformanceRequirement requirement, ExecutionStatistics statistics) {
+			LatencyCounter counter = counters[0];
+			assertEquals(executionConfig.getInvocations(), counter.sampleCount());
+			LatencyCounter lag = statistics.getScheduleLag();
+			assertNotNull(lag);
+			assertEquals(counter.sampleCount(), lag.sampleCount());
+			if (executionConfig.getThreads() == 2) {
+				// 100 invocations at 200 per second take about half a second, regardless of the latency
+				assertTrue("Test took only " + counter.duration() + " ms", counter.duration() >= 450);
+				assertTrue("Max. schedule lag was " + lag.maxLatency() + " ms", lag.maxLatency() < 250);
+			} else {
+				// 50 invocations of 5 ms take 250 ms instead of 50 ms, so the last one starts about 200 ms late
+				assertTrue("Max. schedule lag was " + lag.maxLatency() + " ms", lag.maxLatency() >= 100);
+				assertTrue("Max. latency was " + counter.maxLatency() + " ms", counter.maxLatency() >= lag.maxLatency());
+			}
+		}
+	}
+	
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.ExecutionStatistics;
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.contiperf.Required;
+import com.rapiddweller.contiperf.report.AbstractReportModule;
+import com.rapiddweller.contiperf.report.ReportUtil;
+import com.rapiddweller.contiperf.report.Verdict;
+import com.rapiddweller.contiperf.sensor.CollectorUsage;
+import com.rapiddweller.contiperf.sensor.ResourceUsage;
+import com.rapiddweller.contiperf.sensor.SafepointSensor;
+import com.rapiddweller.stat.LatencyCounter;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the resource sensors which are attached to each test execution.<br/><br/>
+ * Created: 18.10.2026 12:10:44
+ * @since 2.6.0
+ * @author agent
+ */
+public class SensorTest {
+	
+	private static final StatisticsModule module = new StatisticsModule();
+	
+	@Rule public ContiPerfRule rule = new ContiPerfRule(module);
+	
+	private byte[] buffer;
+	
+	@Test
+	@PerfTest(invocations = 100)
+	@Required(maxGcTime = 60000, allocationPerInvocation = 1000000)
+	public void testAllocation() {
+		buffer = new byte[10000];
+	}
+	
+	@After
+	public void verify() {
+		ResourceUsage usage = module.statistics.getResourceUsage();
+		assertNotNull(usage);
+		assertNotNull(buffer);
+		assertFalse(usage.getCollectors().isEmpty());
+		assertTrue(usage.getHeapHighWaterMark() > 0);
+		assertTrue(usage.getLoadedClasses() >= 0);
+		if (SafepointSensor.isSupported())
+			assertTrue(usage.getSafepointCount() >= 0 && usage.getSafepointTime() >= 0);
+		else
+			assertEquals(-1, usage.getSafepointCount());
+		assertEquals(100, usage.getAllocationSamples());
+		assertTrue("Allocated only " + usage.getAllocatedBytesPerInvocation() + " bytes per invocation", 
+				usage.getAllocatedBytesPerInvocation() >= 10000);
+		assertEquals(Verdict.SUCCESS, ReportUtil.gcTimeVerdict(module.statistics, module.requirement));
+		ResourceUsage slowUsage = new ResourceUsage();
+		slowUsage.addCollector(new CollectorUsage("test", 2, 50));
+		ExecutionStatistics slowStatistics = new ExecutionStatistics();
+		slowStatistics.setResourceUsage(slowUsage);
+		PerformanceRequirement strict = new PerformanceRequirement();
+		strict.setMaxGcTime(49);
+		assertEquals(Verdict.FAILURE, ReportUtil.gcTimeVerdict(slowStatistics, strict));
+	}
+	
+	public static class StatisticsModule extends AbstractReportModule {
+		
+		PerformanceRequirement requirement;
+		ExecutionStatistics statistics;
+		
+		@Override
+		public void completed(String serviceId, LatencyCounter[] counters, ExecutionConfig executionConfig, 
+				PerformanceRequirement requirement, ExecutionStatistics statistics) {
+			this.requirement = requirement;
+			this.statistics = statistics;
+		}
+	}
+	
+}
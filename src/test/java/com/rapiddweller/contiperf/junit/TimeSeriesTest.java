@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.junit.SensorTest.StatisticsModule;
+import com.rapiddweller.stat.IntervalStatistics;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the time series statistics of {@link PerfTest#statisticsInterval()}.<br/><br/>
+ * Created: 18.10.2026 15:21:09
+ * @since 2.6.0
+ * @author agent
+ */
+public class TimeSeriesTest {
+	
+	private static final StatisticsModule module = new StatisticsModule();
+	
+	@Rule public ContiPerfRule rule = new ContiPerfRule(module);
+	
+	@Test
+	@PerfTest(duration = 500, statisticsInterval = 100)
+	public void test() throws Exception {
+		Thread.sleep(10);
+	}
+	
+	@After
+	public void verify() {
+		List<IntervalStatistics> intervals = module.statistics.getIntervals();
+		assertTrue("Expected 5 or 6 intervals, found " + intervals.size(), 
+				intervals.size() >= 5 && intervals.size() <= 6);
+		long invocations = 0;
+		for (int i = 0; i < intervals.size(); i++) {
+			IntervalStatistics interval = intervals.get(i);
+			assertEquals(i * 100, interval.getStartOffset());
+			assertEquals(0, interval.getErrors());
+			invocations += interval.getInvocations();
+		}
+		assertTrue(intervals.get(0).getMedian() >= 10);
+		assertTrue("Unexpected invocation count " + invocations, invocations > 10 && invocations <= 50);
+	}
+	
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.junit;
+
+import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.contiperf.Required;
+import com.rapiddweller.contiperf.report.AbstractReportModule;
+import com.rapiddweller.contiperf.report.ReportUtil;
+import com.rapiddweller.stat.LatencyCounter;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests latency measurement in time units finer than milliseconds.<br/><br/>
+ * Created: 17.10.2026 14:21:08
+ * @since 2.6.0
+ * @author agent
+ */
+public class TimeUnitTest {
+	
+	private static final CounterModule module = new CounterModule();
+	
+	@Rule public ContiPerfRule rule = new ContiPerfRule(module);
+	
+	@Test
+	@PerfTest(invocations = 20, timeUnit = TimeUnit.MICROSECONDS)
+	@Required(max = 50, percentile90 = 40000, timeUnit = TimeUnit.MILLISECONDS)
+	public void testMicroseconds() {
+		busyWait(200000);
+	}
+	
+	@Test
+	@PerfTest(invocations = 20, threads = 2, timeUnit = TimeUnit.NANOSECONDS)
+	@Required(max = 50000, timeUnit = TimeUnit.MICROSECONDS)
+	public void testNanoseconds() {
+		busyWait(50000);
+	}
+	
+	@After
+	public void verify() {
+		LatencyCounter counter = module.counter;
+		assertEquals(20, counter.sampleCount());
+		long minNanos = counter.getTimeUnit().toNanos(counter.minLatency());
+		assertTrue("Latency of " + minNanos + " ns is too short", minNanos >= 40000);
+		assertTrue("Latency of " + minNanos + " ns is too long", minNanos < 40000000);
+		assertTrue(ReportUtil.success(counter, module.requirement));
+	}
+	
+	private static void busyWait(long nanos) {
+		long end = System.nanoTime() + nanos;
+		while (System.nanoTime() < end) {
+			// wait
+		}
+	}
+	
+	public static class CounterModule extends AbstractReportModule {
+		
+		LatencyCounter counter;
+		PerformanceRequirement requirement;
+		
+		@Override
+		public void completed(String serviceId, LatencyCounter[] counters, 
+				ExecutionConfig executionConfig, PerformanceRequirement requirement) {
+			this.counter = counters[0];
+			this.requirement = requirement;
+		}
+	}
+	
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.stat.Stripes;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link AsyncReportDispatcher}.<br/><br/>
+ * Created: 17.10.2026 12:05:17
+ * @since 2.6.0
+ * @author agent
+ */
+public class AsyncReportDispatcherTest {
+
+	@Test
+	public void testBlocking() throws Exception {
+		CountingModule module = new CountingModule(null);
+		AsyncReportDispatcher dispatcher = new AsyncReportDispatcher("test", new ReportModule[] { module }, 
+				TimeUnit.MILLISECONDS, 8, false);
+		for (int i = 0; i < 10000; i++)
+			dispatcher.invoked(i, i, 0);
+		dispatcher.close();
+		assertEquals(10000, module.count.get());
+		assertEquals(9999, module.lastLatency);
+		assertEquals(0, dispatcher.getDroppedCount());
+	}
+
+	@Test
+	public void testDropping() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CountingModule module = new CountingModule(release);
+		AsyncReportDispatcher dispatcher = new AsyncReportDispatcher("test", new ReportModule[] { module }, 
+				TimeUnit.MILLISECONDS, 8, true);
+		for (int i = 0; i < 100; i++)
+			dispatcher.invoked(i, i, 0);
+		release.countDown();
+		dispatcher.close();
+		assertEquals(100, module.count.get() + dispatcher.getDroppedCount());
+		assertTrue(dispatcher.getDroppedCount() >= 100 - 8 - 1);
+	}
+	
+	@Test
+	public void testManyThreads() throws Exception {
+		CountingModule module = new CountingModule(null);
+		AsyncReportDispatcher dispatcher = new AsyncReportDispatcher("test", new ReportModule[] { module }, 
+				TimeUnit.MILLISECONDS, 64, false);
+		for (int started = 0; started < 5000; started += 500) {
+			Thread[] threads = new Thread[500];
+			for (int i = 0; i < threads.length; i++) {
+				int threadIndex = started + i;
+				threads[i] = new Thread(() -> dispatcher.invoked(1, 2, threadIndex));
+				threads[i].start();
+			}
+			for (Thread thread : threads)
+				thread.join();
+		}
+		assertTrue("Buffers should be bounded by the stripe count", dispatcher.bufferCount() <= Stripes.defaultCount());
+		dispatcher.close();
+		assertEquals(5000, module.count.get());
+		// threads share stripes, but each invocation arrives with the index of its own thread
+		assertEquals(5000, module.threadIndexes.size());
+	}
+	
+	static class CountingModule extends AbstractReportModule {
+		
+		final CountDownLatch release;
+		final AtomicLong count = new AtomicLong();
+		final Set<Integer> threadIndexes = ConcurrentHashMap.newKeySet();
+		volatile long lastLatency = -1;
+
+		CountingModule(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime, int threadIndex) {
+			threadIndexes.add(threadIndex);
+			invoked(serviceId, latency, timeUnit, startTime);
+		}
+
+		@Override
+		public void invoked(String serviceId, long latency, TimeUnit timeUnit, long startTime) {
+			try {
+				if (release != null)
+					release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			count.incrementAndGet();
+			lastLatency = latency;
+		}
+		
+	}
+
+}
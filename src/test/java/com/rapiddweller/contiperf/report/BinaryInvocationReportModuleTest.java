@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.contiperf.PerfTestFailure;
+import com.rapiddweller.stat.LatencyCounter;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link BinaryInvocationReportModule} and the {@link BinaryInvocationReader}.<br/><br/>
+ * Created: 17.10.2026 13:37:02
+ * @since 2.6.0
+ * @author agent
+ */
+public class BinaryInvocationReportModuleTest {
+	
+	private static final String SERVICE_ID = "BinaryInvocationReportModuleTest";
+	
+	private final File reportFolder = new File("target/contiperf-binary");
+
+	@Test
+	public void testSegmentsAndConversion() throws Exception {
+		ReportContext context = new ReportContext(reportFolder, PerfTestFailure.class);
+		BinaryInvocationReportModule module = new BinaryInvocationReportModule(100);
+		context.addReportModule(module);
+		module.starting(SERVICE_ID);
+		for (int i = 0; i < 250; i++)
+			module.invoked(SERVICE_ID, i, TimeUnit.MICROSECONDS, 1000 + i, i % 3);
+		module.completed(SERVICE_ID, null, null, null);
+		assertTrue(BinaryInvocationReportModule.segmentFile(reportFolder, SERVICE_ID, 2).exists());
+		assertFalse(BinaryInvocationReportModule.segmentFile(reportFolder, SERVICE_ID, 3).exists());
+		assertEquals(BinaryInvocationReportModule.HEADER_SIZE + 50 * BinaryInvocationReportModule.RECORD_SIZE, 
+				BinaryInvocationReportModule.segmentFile(reportFolder, SERVICE_ID, 2).length());
+		
+		BinaryInvocationReader reader = new BinaryInvocationReader(reportFolder, SERVICE_ID);
+		assertEquals(TimeUnit.MICROSECONDS, reader.getTimeUnit());
+		long[] expected = new long[1];
+		long count = reader.read((startTime, latency, threadIndex, outcome) -> {
+			assertEquals(expected[0], latency);
+			assertEquals(1000 + expected[0], startTime);
+			assertEquals(expected[0] % 3, threadIndex);
+			assertEquals(BinaryInvocationReportModule.SUCCESS, outcome);
+			expected[0]++;
+		});
+		assertEquals(250, count);
+		
+		LatencyCounter counter = reader.toLatencyCounter();
+		assertEquals(250, counter.sampleCount());
+		assertEquals(0, counter.minLatency());
+		assertEquals(249, counter.maxLatency());
+		assertEquals(TimeUnit.MICROSECONDS, counter.getTimeUnit());
+		
+		File csvFile = new File(reportFolder, SERVICE_ID + ".inv.csv");
+		reader.writeCSV(csvFile);
+		List<String> lines = Files.readAllLines(csvFile.toPath());
+		assertEquals(251, lines.size());
+		assertEquals("latency[us],startTimeNanos", lines.get(0));
+		assertEquals("7,1007", lines.get(8));
+	}
+
+	@Test
+	public void testRestart() {
+		ReportContext context = new ReportContext(reportFolder, PerfTestFailure.class);
+		BinaryInvocationReportModule module = new BinaryInvocationReportModule(10);
+		context.addReportModule(module);
+		module.starting(SERVICE_ID + "2");
+		for (int i = 0; i < 25; i++)
+			module.invoked(SERVICE_ID + "2", i, 0);
+		module.completed(SERVICE_ID + "2", null, null, null);
+		module.starting(SERVICE_ID + "2");
+		for (int i = 0; i < 5; i++)
+			module.invoked(SERVICE_ID + "2", i, 0);
+		module.completed(SERVICE_ID + "2", null, null, null);
+		BinaryInvocationReader reader = new BinaryInvocationReader(reportFolder, SERVICE_ID + "2");
+		assertEquals(TimeUnit.MILLISECONDS, reader.getTimeUnit());
+		assertEquals(5, reader.read((startTime, latency, threadIndex, outcome) -> { }));
+	}
+
+	@Test
+	public void testSmallLog() {
+		ReportContext context = new ReportContext(reportFolder, PerfTestFailure.class);
+		BinaryInvocationReportModule module = new BinaryInvocationReportModule();
+		context.addReportModule(module);
+		module.starting(SERVICE_ID + "3");
+		for (int i = 0; i < 3; i++)
+			module.invoked(SERVICE_ID + "3", i, 0);
+		module.completed(SERVICE_ID + "3", null, null, null);
+		assertEquals(BinaryInvocationReportModule.HEADER_SIZE + 3 * BinaryInvocationReportModule.RECORD_SIZE, 
+				BinaryInvocationReportModule.segmentFile(reportFolder, SERVICE_ID + "3", 0).length());
+		assertEquals(3, new BinaryInvocationReader(reportFolder, SERVICE_ID + "3").toLatencyCounter().sampleCount());
+	}
+
+	@Test
+	public void testEmptyLog() throws Exception {
+		ReportContext context = new ReportContext(reportFolder, PerfTestFailure.class);
+		BinaryInvocationReportModule module = new BinaryInvocationReportModule();
+		context.addReportModule(module);
+		module.starting(SERVICE_ID + "4");
+		module.completed(SERVICE_ID + "4", null, null, null);
+		BinaryInvocationReader reader = new BinaryInvocationReader(reportFolder, SERVICE_ID + "4");
+		assertEquals(0, reader.read((startTime, latency, threadIndex, outcome) -> { }));
+		assertEquals(0, reader.toLatencyCounter().sampleCount());
+		File csvFile = new File(reportFolder, SERVICE_ID + "4.inv.csv");
+		reader.writeCSV(csvFile);
+		assertEquals(1, Files.readAllLines(csvFile.toPath()).size());
+	}
+
+}
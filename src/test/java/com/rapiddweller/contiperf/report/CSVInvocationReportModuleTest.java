@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.contiperf.PerfTestFailure;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link CSVInvocationReportModule}.<br/><br/>
+ * Created: 18.10.2026 19:41:08
+ * @since 2.6.0
+ * @author agent
+ */
+public class CSVInvocationReportModuleTest {
+	
+	private static final String SERVICE_ID = "CSVInvocationReportModuleTest";
+	
+	private final File reportFolder = new File("target/contiperf-csv");
+	
+	@Test
+	public void testInvocations() throws Exception {
+		CSVInvocationReportModule module = createModule();
+		module.starting(SERVICE_ID, TimeUnit.MICROSECONDS);
+		module.invoked(SERVICE_ID, 7, TimeUnit.MICROSECONDS, 1007);
+		module.invoked(SERVICE_ID, 8, TimeUnit.MICROSECONDS, 1008);
+		module.completed(SERVICE_ID, null, null, null);
+		assertEquals(Arrays.asList("latency[us],startTimeNanos", "7,1007", "8,1008"), 
+				Files.readAllLines(CSVInvocationReportModule.file(reportFolder, SERVICE_ID).toPath()));
+	}
+	
+	@Test
+	public void testNoInvocations() throws Exception {
+		CSVInvocationReportModule module = createModule();
+		module.starting(SERVICE_ID, TimeUnit.MICROSECONDS);
+		module.completed(SERVICE_ID, null, null, null);
+		assertEquals(Collections.singletonList("latency[us],startTimeNanos"), 
+				Files.readAllLines(CSVInvocationReportModule.file(reportFolder, SERVICE_ID).toPath()));
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private CSVInvocationReportModule createModule() {
+		reportFolder.mkdirs();
+		ReportContext context = new ReportContext(reportFolder, PerfTestFailure.class);
+		CSVInvocationReportModule module = new CSVInvocationReportModule();
+		context.addReportModule(module);
+		return module;
+	}
+	
+}
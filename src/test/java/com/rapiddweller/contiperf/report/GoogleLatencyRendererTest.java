@@ -26,6 +26,7 @@
  * @since 2.0.0
  * @author Volker Bergmann
  */
+@SuppressWarnings("deprecation") // tests the deprecated renderer as long as it is shipped
 public class GoogleLatencyRendererTest {
 
 	@Test
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.contiperf.Config;
+import com.rapiddweller.contiperf.ExecutionConfig;
+import com.rapiddweller.contiperf.PerfTestFailure;
+import com.rapiddweller.contiperf.PerformanceRequirement;
+import com.rapiddweller.stat.LatencyCounter;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link HtmlReportModule}.<br/><br/>
+ * Created: 18.10.2026 17:02:44
+ * @since 2.6.0
+ * @author agent
+ */
+public class HtmlReportModuleTest {
+	
+	@Test
+	public void testFragmentsAndAssembly() throws Exception {
+		ReportContext context = new ReportContext(Config.instance().getReportFolder(), PerfTestFailure.class);
+		HtmlReportModule module = new HtmlReportModule();
+		context.addReportModule(module);
+		module.completed("HtmlReportModuleTest.first", counters(), new ExecutionConfig(3), new PerformanceRequirement(), null);
+		module.completed("HtmlReportModuleTest.second[0]", counters(), new ExecutionConfig(3), new PerformanceRequirement(), null);
+		HtmlReportModule.writeReport();
+		String report = new String(Files.readAllBytes(new File(Config.instance().getReportFolder(), "index.html").toPath()));
+		int firstRow = report.indexOf("<a href='#HtmlReportModuleTest.first'>");
+		int secondRow = report.indexOf("<a href='#HtmlReportModuleTest.second[0]'>");
+		int firstEntry = report.indexOf("<a name='HtmlReportModuleTest.first'>");
+		int secondEntry = report.indexOf("<a name='HtmlReportModuleTest.second[0]'>");
+		assertTrue(firstRow >= 0 && firstRow < secondRow);
+		assertTrue(secondRow < firstEntry && firstEntry < secondEntry);
+		assertTrue(report.trim().endsWith("</html>"));
+	}
+	
+	@Test
+	public void testFragmentsOfOtherJvms() throws Exception {
+		ReportContext context = new ReportContext(Config.instance().getReportFolder(), PerfTestFailure.class);
+		HtmlReportModule module = new HtmlReportModule();
+		context.addReportModule(module);
+		module.completed("HtmlReportModuleTest.own", counters(), new ExecutionConfig(3), new PerformanceRequirement(), null);
+		// a fragment of a forked JVM which was started earlier
+		File fragmentFolder = new File(Config.instance().getReportFolder(), "html-fragments");
+		File forked = new File(fragmentFolder, "0000000000001-0000000001-000000001-HtmlReportModuleTest.forked.html");
+		Files.write(forked.toPath(), "<tr><td>forked-row</td></tr>\n<!-- cpf-fragment-separator -->\n<p>forked-entry</p>\n".getBytes());
+		HtmlReportModule.writeReport();
+		File reportFile = new File(Config.instance().getReportFolder(), "index.html");
+		String report = new String(Files.readAllBytes(reportFile.toPath()));
+		int forkedRow = report.indexOf("forked-row");
+		int ownRow = report.indexOf("<a href='#HtmlReportModuleTest.own'>");
+		assertTrue(forkedRow >= 0 && forkedRow < ownRow);
+		assertTrue(report.indexOf("forked-entry") > ownRow);
+		// a new run starts without the fragments of previous runs
+		HtmlReportModule.clearFragments();
+		assertFalse(forked.exists());
+		HtmlReportModule.writeReport();
+		report = new String(Files.readAllBytes(reportFile.toPath()));
+		assertFalse(report.contains("forked-row"));
+		assertFalse(report.contains("HtmlReportModuleTest.own"));
+	}
+	
+	@Test
+	public void testRepeatedRuns() throws Exception {
+		ReportContext context = new ReportContext(Config.instance().getReportFolder(), PerfTestFailure.class);
+		HtmlReportModule module = new HtmlReportModule();
+		context.addReportModule(module);
+		File fragmentFolder = new File(Config.instance().getReportFolder(), "html-fragments");
+		// a fragment of the same test from a previous build
+		File previous = new File(fragmentFolder, "0000000000001-0000000001-000000001-HtmlReportModuleTest.repeated.html");
+		fragmentFolder.mkdirs();
+		Files.write(previous.toPath(), "<tr><td>previous-row</td></tr>\n<!-- cpf-fragment-separator -->\n<p>previous-entry</p>\n".getBytes());
+		for (int i = 0; i < 3; i++)
+			module.completed("HtmlReportModuleTest.repeated", counters(), new ExecutionConfig(3), new PerformanceRequirement(), null);
+		assertFalse(previous.exists());
+		File[] fragments = fragmentFolder.listFiles((dir, name) -> name.endsWith("HtmlReportModuleTest.repeated.html"));
+		assertEquals(1, fragments.length);
+		HtmlReportModule.writeReport();
+		String report = new String(Files.readAllBytes(new File(Config.instance().getReportFolder(), "index.html").toPath()));
+		String entry = "<a name='HtmlReportModuleTest.repeated'>";
+		assertTrue(report.contains(entry));
+		assertEquals(report.indexOf(entry), report.lastIndexOf(entry));
+		assertFalse(report.contains("previous-row"));
+	}
+	
+	private static LatencyCounter[] counters() {
+		LatencyCounter counter = new LatencyCounter("test");
+		counter.start();
+		counter.addSample(10);
+		counter.addSample(20);
+		counter.addSample(30);
+		counter.stop();
+		return new LatencyCounter[] { counter };
+	}
+	
+}
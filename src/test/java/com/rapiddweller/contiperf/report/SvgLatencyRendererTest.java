@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import com.rapiddweller.stat.LatencyCounter;
+import com.rapiddweller.stat.LogLinearLatencyHistogram;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link SvgLatencyRenderer}.<br/><br/>
+ * Created: 18.10.2026 17:52:06
+ * @since 2.6.0
+ * @author agent
+ */
+public class SvgLatencyRendererTest {
+	
+	private final Random random = new Random();
+	
+	@Test
+	public void testDataset() {
+		LatencyDataSet dataset = new LatencyDataSet(15);
+		int[] counts = { 0, 1, 10, 134, 156, 142, 126, 60, 40, 30, 10, 1, 0 };
+		for (int i = 0; i < counts.length; i++)
+			dataset.addPoint(4 + i, counts[i]);
+		dataset.addLabel("med", 10);
+		dataset.addLabel("avg", 11);
+		dataset.addLabel("90%", 13);
+		String svg = new SvgLatencyRenderer().renderDataset(dataset, getClass().getSimpleName(), "ms", 400, 300);
+		assertTrue(svg.startsWith("<svg"));
+		assertTrue(svg.endsWith("</svg>"));
+		assertTrue(svg.contains("<polygon"));
+		assertTrue(svg.contains(">med</text>"));
+		assertTrue(svg.contains(">avg</text>"));
+		assertTrue(svg.contains(">90%</text>"));
+		assertTrue(svg.contains(">16 ms</text>"));
+		assertFalse(svg.contains("http://chart"));
+	}
+	
+	@Test
+	public void testLogScale() {
+		LatencyCounter counter = new LatencyCounter("test");
+		for (int i = 0; i < 50000; i++)
+			counter.addSample(random.nextInt(20));
+		counter.addSample(999);
+		String svg = new SvgLatencyRenderer(true).render(counter, null, 400, 300);
+		assertTrue(svg.contains(">1</text>"));
+		assertTrue(svg.contains(">10</text>"));
+		assertTrue(svg.contains(">100</text>"));
+		assertTrue(svg.contains(" ms</text>"));
+	}
+	
+	@Test
+	public void testEmptyCounter() {
+		String svg = new SvgLatencyRenderer().render(new LatencyCounter("test"), null, 400, 300);
+		assertTrue(svg.endsWith("</svg>"));
+		assertFalse(svg.contains("<polygon"));
+	}
+	
+	@Test
+	public void testLatenciesBeyondIntRange() {
+		LatencyCounter counter = new LatencyCounter("test", "system", new LogLinearLatencyHistogram(2), TimeUnit.NANOSECONDS);
+		for (long latency = 3000000000L; latency <= 5000000000L; latency += 100000000L)
+			counter.addSample(latency);
+		String svg = new SvgLatencyRenderer().render(counter, null, 400, 300);
+		assertFalse("Negative coordinates in " + svg, svg.contains("='-") || svg.contains(" -"));
+		Matcher axisLabel = Pattern.compile(">(\\d+) ns</text>").matcher(svg);
+		assertTrue(axisLabel.find());
+		assertTrue(Long.parseLong(axisLabel.group(1)) > Integer.MAX_VALUE);
+	}
+	
+	@Test
+	public void testNoElementIds() {
+		// several charts are embedded in one HTML page, so they must not define ids
+		String svg = new SvgLatencyRenderer().render(new LatencyCounter("test"), null, 400, 300);
+		assertFalse(svg.contains(" id="));
+	}
+	
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.report;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link TrendStore} and the {@link TrendRenderer}.<br/><br/>
+ * Created: 18.10.2026 21:33:26
+ * @since 2.6.0
+ * @author agent
+ */
+public class TrendStoreTest {
+	
+	@Test
+	public void testHistory() throws IOException {
+		TrendStore store = new TrendStore(tempFolder(), 10);
+		for (int i = 0; i < 5; i++) {
+			store.append(record("a", i));
+			store.append(record("b", i));
+		}
+		List<TrendRecord> history = store.history("a", 3);
+		assertEquals(3, history.size());
+		for (int i = 0; i < 3; i++) {
+			assertEquals("a", history.get(i).id);
+			assertEquals(2 + i, history.get(i).timestamp);
+			assertEquals("commit" + (2 + i), history.get(i).commit);
+			assertEquals(1000 * (2 + i), history.get(i).percentile90);
+		}
+		assertEquals(0, store.history("c", 3).size());
+	}
+	
+	@Test
+	public void testTruncatedRecord() throws IOException {
+		File folder = tempFolder();
+		TrendStore store = new TrendStore(folder, 10);
+		store.append(record("a", 1));
+		File file = folder.listFiles()[0];
+		try (FileOutputStream out = new FileOutputStream(file, true)) {
+			out.write(new byte[] { 0, 0, 0, 100, 1, 0 });
+		}
+		assertEquals(1, store.history("a", 10).size());
+	}
+	
+	@Test
+	public void testAppendAfterTruncatedRecord() throws IOException {
+		File folder = tempFolder();
+		TrendStore store = new TrendStore(folder, 10);
+		for (int i = 0; i < 3; i++)
+			store.append(record("a", i));
+		// simulate a JVM which died while appending the third record
+		File file = folder.listFiles()[0];
+		try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+			access.setLength(access.length() - 5);
+		}
+		for (int i = 3; i < 6; i++)
+			store.append(record("a", i));
+		List<TrendRecord> history = store.history("a", 10);
+		assertEquals(5, history.size());
+		long[] expectedBuilds = { 0, 1, 3, 4, 5 };
+		for (int i = 0; i < expectedBuilds.length; i++) {
+			assertEquals(expectedBuilds[i], history.get(i).timestamp);
+			assertEquals(2000 * expectedBuilds[i], history.get(i).percentile99);
+		}
+	}
+	
+	@Test
+	public void testRetention() throws IOException {
+		TrendStore store = new TrendStore(tempFolder(), 3);
+		for (int i = 0; i < 10; i++)
+			store.append(record("a", i));
+		List<TrendRecord> history = store.history("a", 100);
+		assertEquals(3, history.size());
+		assertEquals(7, history.get(0).timestamp);
+		assertEquals(9, history.get(2).timestamp);
+	}
+	
+	@Test
+	public void testRenderer() {
+		List<TrendRecord> records = Arrays.asList(record("a", 1), record("a", 2), record("a", 3));
+		String svg = new TrendRenderer().render(records, 640);
+		assertTrue(svg.startsWith("<svg"));
+		assertEquals(2, svg.split("<polyline").length - 1);
+		assertTrue(svg.contains("commit3"));
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private static File tempFolder() throws IOException {
+		return Files.createTempDirectory("trends").toFile();
+	}
+	
+	private static TrendRecord record(String id, int build) {
+		return new TrendRecord(id, build, "commit" + build, "JVM", 4, 500 * build, 1000 * build, 2000 * build, 
+				5000 * build, 100. / (build + 1));
+	}
+	
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.contiperf.util;
+
+import com.rapiddweller.contiperf.PerfTest;
+import com.rapiddweller.contiperf.PerfTestConfigurationError;
+import com.rapiddweller.contiperf.WarmUpDetector;
+import com.rapiddweller.contiperf.WarmUpMode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link ContiPerfUtil} class.<br/><br/>
+ * Created: 18.10.2026 19:12:37
+ * @since 2.6.0
+ * @author agent
+ */
+public class ContiPerfUtilTest {
+	
+	@Test(expected = PerfTestConfigurationError.class)
+	public void testSteadyLatencyWithTooFewInvocations() throws Exception {
+		ContiPerfUtil.mapPerfTestAnnotation(annotation("tooFewInvocations"));
+	}
+	
+	@Test
+	public void testSteadyLatencyWithEnoughInvocations() throws Exception {
+		assertEquals(WarmUpMode.STEADY_LATENCY, ContiPerfUtil.mapPerfTestAnnotation(annotation("enoughInvocations")).getWarmUpMode());
+	}
+	
+	@Test
+	public void testSteadyLatencyWithDuration() throws Exception {
+		assertEquals(WarmUpMode.STEADY_LATENCY_AND_JIT, ContiPerfUtil.mapPerfTestAnnotation(annotation("duration")).getWarmUpMode());
+	}
+	
+	@Test(expected = PerfTestConfigurationError.class)
+	public void testTooSmallWarmUpWindow() throws Exception {
+		ContiPerfUtil.mapPerfTestAnnotation(annotation("tooSmallWindow"));
+	}
+	
+	@Test(expected = PerfTestConfigurationError.class)
+	public void testTooFewInvocationsForWarmUpWindow() throws Exception {
+		ContiPerfUtil.mapPerfTestAnnotation(annotation("tooFewInvocationsForWindow"));
+	}
+	
+	@Test
+	public void testWarmUpWindow() throws Exception {
+		assertEquals(WarmUpDetector.MIN_WINDOW_SIZE, ContiPerfUtil.mapPerfTestAnnotation(annotation("enoughInvocations")).getWarmUpWindow());
+		assertEquals(10000, ContiPerfUtil.mapPerfTestAnnotation(annotation("largeWindow")).getWarmUpWindow());
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private static PerfTest annotation(String methodName) throws Exception {
+		return ContiPerfUtilTest.class.getDeclaredMethod(methodName).getAnnotation(PerfTest.class);
+	}
+	
+	@PerfTest(invocations = 20000, warmUpMode = WarmUpMode.STEADY_LATENCY)
+	void tooFewInvocations() {
+	}
+	
+	@PerfTest(invocations = 20001, warmUpMode = WarmUpMode.STEADY_LATENCY)
+	void enoughInvocations() {
+	}
+	
+	@PerfTest(duration = 1000, warmUpMode = WarmUpMode.STEADY_LATENCY_AND_JIT)
+	void duration() {
+	}
+	
+	@PerfTest(duration = 1000, warmUpMode = WarmUpMode.STEADY_LATENCY, warmUpWindow = 100)
+	void tooSmallWindow() {
+	}
+	
+	@PerfTest(invocations = 30000, warmUpMode = WarmUpMode.STEADY_LATENCY, warmUpWindow = 10000)
+	void tooFewInvocationsForWindow() {
+	}
+	
+	@PerfTest(invocations = 50001, warmUpMode = WarmUpMode.STEADY_LATENCY, warmUpWindow = 10000)
+	void largeWindow() {
+	}
+	
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.profile;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link FlameGraphExporter}.<br/><br/>
+ * Created: 18.10.2026 08:58:02
+ * @since 2.6.0
+ * @author agent
+ */
+public class FlameGraphExporterTest {
+	
+	private Profiler profiler;
+	
+	@Before
+	public void setUp() {
+		profiler = new Profiler("root", 1);
+		profiler.addSample(Collections.emptyList(), 100);
+		profiler.addSample(Collections.singletonList("a"), 60);
+		profiler.addSample(Arrays.asList("a", "b"), 40);
+		profiler.addSample(Collections.singletonList("c;d"), 30);
+	}
+	
+	@Test
+	public void testSelfLatency() {
+		Profile root = profiler.getRootProfile();
+		assertEquals(10, root.getSelfLatency());
+		assertEquals(20, root.getOrCreateSubProfile("a").getSelfLatency());
+		assertEquals(40, root.getOrCreateSubProfile("a").getOrCreateSubProfile("b").getSelfLatency());
+	}
+
+	@Test
+	public void testCollapsedStacks() throws IOException {
+		assertEquals("root 100\nroot;a 60\nroot;a;b 40\nroot;c_d 30\n", collapsed(ProfileWeight.TOTAL_LATENCY));
+		assertEquals("root 10\nroot;a 20\nroot;a;b 40\nroot;c_d 30\n", collapsed(ProfileWeight.SELF_LATENCY));
+		assertEquals("root 1\nroot;a 1\nroot;a;b 1\nroot;c_d 1\n", collapsed(ProfileWeight.INVOCATION_COUNT));
+	}
+	
+	@Test
+	public void testSVG() throws IOException {
+		StringWriter out = new StringWriter();
+		new FlameGraphExporter(ProfileWeight.TOTAL_LATENCY).writeSVG(profiler.getRootProfile(), out);
+		String svg = out.toString();
+		assertTrue(svg.startsWith("<?xml"));
+		assertTrue(svg.trim().endsWith("</svg>"));
+		assertTrue(svg.contains("<title>root (100, 100.00%)</title>"));
+		assertTrue(svg.contains("<title>b (40, 40.00%)</title>"));
+		assertTrue(svg.contains("<title>c;d (30, 30.00%)</title>"));
+		assertEquals(5, svg.split("<rect ").length - 1); // background and 4 frames
+	}
+	
+	@Test
+	public void testSVGWithoutSamples() throws IOException {
+		StringWriter out = new StringWriter();
+		new FlameGraphExporter(ProfileWeight.SELF_LATENCY).writeSVG(new Profiler("empty", 1).getRootProfile(), out);
+		assertTrue(out.toString().contains("empty (self latency)"));
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	private String collapsed(ProfileWeight weight) throws IOException {
+		StringWriter out = new StringWriter();
+		new FlameGraphExporter(weight).writeCollapsedStacks(profiler.getRootProfile(), out);
+		return out.toString();
+	}
+	
+}
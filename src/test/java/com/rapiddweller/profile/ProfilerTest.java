@@ -14,6 +14,7 @@
  */
 package com.rapiddweller.profile;
 
+import com.rapiddweller.stat.Sampler;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -24,6 +25,7 @@
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Tests the {@link Profiler}.<br/><br/>
@@ -103,7 +105,7 @@ public void testAddSample2() {
         profiler.addSample(new ArrayList<>(), 1L);
     }
 
-    @Test(expected=ArrayIndexOutOfBoundsException.class)
+    @Test(expected=IllegalArgumentException.class)
     public void testAddSample3() {
         Profiler profiler = new Profiler("Name", -1L);
         profiler.addSample(new ArrayList<>(), 1L);
@@ -124,4 +126,71 @@ public void testPrintSummary() {
         profiler.printSummary();
     }
 
+    @Test
+    public void testEnterExit() {
+        Profiler profiler = new Profiler("Name", 1L);
+        for (int i = 0; i < 3; i++) {
+            profiler.enter("outer");
+            profiler.enter("inner");
+            long innerDuration = profiler.exit();
+            long outerDuration = profiler.exit();
+            assertTrue(innerDuration <= outerDuration);
+        }
+        profiler.enter("other");
+        profiler.exit();
+        Profile outer = profiler.getRootProfile().getOrCreateSubProfile("outer");
+        assertEquals(3, outer.getInvocationCount());
+        assertEquals(3, outer.getOrCreateSubProfile("inner").getInvocationCount());
+        assertEquals(1, profiler.getRootProfile().getOrCreateSubProfile("other").getInvocationCount());
+        assertEquals(0, profiler.getRootProfile().getInvocationCount());
+        assertEquals(2, profiler.getRootProfile().getSubProfiles().size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testExitWithoutEnter() {
+        new Profiler("Name", 1L).exit();
+    }
+
+    @Test
+    public void testConcurrentEnterExit() throws Exception {
+        Profiler profiler = new Profiler("Name", 1L);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            String leaf = "leaf" + (i % 2);
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    profiler.enter("service");
+                    profiler.enter(leaf);
+                    profiler.exit();
+                    profiler.exit();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        Profile service = profiler.getRootProfile().getOrCreateSubProfile("service");
+        assertEquals(80000, service.getInvocationCount());
+        assertEquals(2, service.getSubProfiles().size());
+        assertEquals(40000, service.getOrCreateSubProfile("leaf0").getInvocationCount());
+        assertEquals(40000, service.getOrCreateSubProfile("leaf1").getInvocationCount());
+    }
+
+    @Test
+    public void testSampling() {
+        Profiler profiler = new Profiler("Name", 1L, new Sampler(0.1));
+        int unsampled = 0;
+        for (int i = 0; i < 100000; i++) {
+            profiler.enter("outer");
+            profiler.enter("inner");
+            profiler.exit();
+            if (profiler.exit() == -1)
+                unsampled++;
+        }
+        assertEquals(90000, unsampled, 2000);
+        Profile outer = profiler.getRootProfile().getOrCreateSubProfile("outer");
+        assertEquals(100000, outer.getInvocationCount(), 6000);
+        assertEquals(outer.getInvocationCount(), outer.getOrCreateSubProfile("inner").getInvocationCount());
+    }
+
 }
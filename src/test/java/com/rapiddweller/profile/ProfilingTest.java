@@ -14,11 +14,12 @@
  */
 package com.rapiddweller.profile;
 
-import org.junit.AfterClass;
-import org.junit.BeforeClass;
+import com.rapiddweller.stat.Sampler;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -29,28 +30,31 @@
  */
 public class ProfilingTest {
 	
-	private static String originalSetting;
-
-	@BeforeClass
-	public static void saveOriginalSetting() {
-		originalSetting = System.getProperty("profile");
-	}
-
-	@AfterClass
-	public static void restoreOriginalSetting() {
-		System.setProperty("profile", (originalSetting != null ? originalSetting : "false"));
-	}
-
 	@Test
 	public void testFalse() {
-		System.setProperty("profile", "false");
-		assertFalse(Profiling.isEnabled());
+		assertFalse(Profiling.isEnabled("false"));
 	}
 	
 	@Test
 	public void testEmpty() {
-		System.setProperty("profile", "");
-		assertTrue(Profiling.isEnabled());
+		assertTrue(Profiling.isEnabled(""));
+	}
+	
+	@Test
+	public void testUndefined() {
+		assertFalse(Profiling.isEnabled(null));
+	}
+	
+	@Test
+	public void testSampleRate() {
+		assertSame(Sampler.ALL, Profiling.createSampler(null));
+		assertSame(Sampler.ALL, Profiling.createSampler("1"));
+		assertEquals(0.01, Profiling.createSampler("0.01").getRate(), 0.);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalSampleRate() {
+		Profiling.createSampler("2");
 	}
 	
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link AllocationCounter}.<br/><br/>
+ * Created: 18.10.2026 13:40:12
+ * @since 2.6.0
+ * @author agent
+ */
+public class AllocationCounterTest {
+
+	@Test
+	public void testEmpty() {
+		AllocationCounter counter = new AllocationCounter();
+		assertEquals(0, counter.sampleCount());
+		assertEquals(-1., counter.averageBytes(), 0.);
+		assertEquals(0, counter.maxBytes());
+	}
+	
+	@Test
+	public void testStatistics() {
+		AllocationCounter counter = new AllocationCounter();
+		for (int i = 1; i <= 100; i++)
+			counter.addSample(i * 100);
+		assertEquals(100, counter.sampleCount());
+		assertEquals(505000, counter.totalBytes());
+		assertEquals(5050., counter.averageBytes(), 0.);
+		assertEquals(100, counter.minBytes());
+		assertEquals(10000, counter.maxBytes());
+		assertEquals(5000, counter.percentileBytes(50), 50);
+	}
+	
+}
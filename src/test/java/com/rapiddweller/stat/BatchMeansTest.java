@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link BatchMeans}.<br/><br/>
+ * Created: 18.10.2026 21:36:05
+ * @since 2.6.0
+ * @author agent
+ */
+public class BatchMeansTest {
+	
+	@Test
+	public void testEmpty() {
+		assertEquals(0, new BatchMeans().distribution().sampleCount());
+	}
+	
+	@Test
+	public void testIncompleteBatch() {
+		BatchMeans batchMeans = new BatchMeans();
+		batchMeans.addSample(500);
+		LatencyDistribution distribution = batchMeans.distribution();
+		assertEquals(1, distribution.sampleCount());
+		assertEquals(500., distribution.getLatency(0), 0.);
+	}
+	
+	@Test
+	public void testBatchSizeDoubling() {
+		BatchMeans batchMeans = new BatchMeans();
+		for (int i = 0; i < 1000; i++)
+			batchMeans.addSample(i);
+		// 512 samples fill 32 batches of 16, the remaining 488 samples 30 more and an incomplete one
+		LatencyDistribution distribution = batchMeans.distribution();
+		assertEquals(62, distribution.sampleCount());
+		assertEquals(7.5, distribution.getLatency(0), 0.);
+		assertEquals(983.5, distribution.getLatency(61), 0.);
+	}
+	
+	@Test
+	public void testMultiThreaded() throws InterruptedException {
+		BatchMeans batchMeans = new BatchMeans();
+		ConcurrentLatencyHistogramTest.runThreads(8, () -> {
+			for (int i = 0; i < 1000; i++)
+				batchMeans.addSample(1000 + i % 2);
+		});
+		LatencyDistribution distribution = batchMeans.distribution();
+		assertTrue(distribution.sampleCount() >= BatchMeans.MAX_BATCHES / 2);
+		assertEquals(1000.5, distribution.percentile(50), 0.);
+	}
+	
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ConcurrentLatencyHistogram}.<br/><br/>
+ * Created: 17.10.2026 10:05:51
+ * @since 2.6.0
+ * @author agent
+ */
+public class ConcurrentLatencyHistogramTest {
+	
+	@Test
+	public void testEmpty() {
+		LatencyCounter counter = createCounter();
+		assertEquals(0, counter.sampleCount());
+		assertEquals(0, counter.minLatency());
+		assertEquals(0, counter.maxLatency());
+	}
+	
+	@Test
+	public void testSingleThreaded() {
+		LatencyCounter counter = createCounter();
+		for (int i = 25; i <= 125; i += 25)
+			counter.addSample(i);
+		assertEquals(5, counter.sampleCount());
+		assertEquals(25, counter.minLatency());
+		assertEquals(125, counter.maxLatency());
+		assertEquals(375, counter.totalLatency());
+		assertEquals(50, counter.percentileLatency(50));
+		assertEquals(40., counter.percentileAboveLatency(99), 0.);
+	}
+	
+	@Test
+	public void testMultiThreaded() throws InterruptedException {
+		final LatencyCounter counter = createCounter();
+		Thread[] threads = new Thread[8];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for (int i = 0; i < 100000; i++)
+					counter.addSample(i % 2000);
+			});
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(800000, counter.sampleCount());
+		assertEquals(0, counter.minLatency());
+		assertEquals(1999, counter.maxLatency());
+		assertEquals(8 * 50 * 1999000L, counter.totalLatency());
+		assertEquals(400, counter.getLatencyCount(1500));
+		assertEquals(999, counter.percentileLatency(50));
+	}
+	
+	@Test
+	public void testSnapshotAndReset() {
+		ConcurrentLatencyHistogram histogram = new ConcurrentLatencyHistogram(() -> new LinearLatencyHistogram(100));
+		for (int round = 1; round <= 3; round++) {
+			for (int i = 0; i < round; i++)
+				histogram.addSample(10 * round);
+			AbstractLatencyHistogram snapshot = histogram.snapshotAndReset();
+			assertEquals(round, snapshot.sampleCount());
+			assertEquals(10 * round, snapshot.minLatency());
+			assertEquals(10 * round, snapshot.maxLatency());
+			assertEquals(0, histogram.sampleCount());
+			assertEquals(-1, histogram.maxLatency());
+		}
+		assertEquals("The writer thread should keep its recorder", 
+				"ConcurrentLatencyHistogram[1 recorders, 0 samples]", histogram.toString());
+	}
+	
+	@Test
+	public void testSampleDuringSnapshotAndReset() throws Exception {
+		CountDownLatch draining = new CountDownLatch(1);
+		CountDownLatch recorded = new CountDownLatch(1);
+		ConcurrentLatencyHistogram histogram = new ConcurrentLatencyHistogram(() -> new LinearLatencyHistogram(100) {
+			@Override
+			void add(AbstractLatencyHistogram other) {
+				// holds the snapshot after the buffer swap until the test has recorded a sample
+				draining.countDown();
+				try {
+					recorded.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				super.add(other);
+			}
+		}, 1);
+		histogram.addSample(10);
+		CompletableFuture<AbstractLatencyHistogram> snapshot = CompletableFuture.supplyAsync(histogram::snapshotAndReset);
+		draining.await();
+		histogram.addSample(20);
+		recorded.countDown();
+		assertEquals(1, snapshot.get().sampleCount());
+		assertEquals(10, snapshot.get().totalLatency());
+		assertEquals("The sample recorded during the reset should be counted", 1, histogram.sampleCount());
+		assertEquals(20, histogram.totalLatency());
+		assertEquals(20, histogram.snapshotAndReset().totalLatency());
+		assertEquals(0, histogram.sampleCount());
+	}
+	
+	@Test
+	public void testManyThreads() throws InterruptedException {
+		ConcurrentLatencyHistogram histogram = new ConcurrentLatencyHistogram(() -> new LinearLatencyHistogram(100));
+		runThreads(5000, () -> histogram.addSample(7));
+		assertEquals(5000, histogram.sampleCount());
+		assertEquals(7, histogram.latencyAtCount(2500));
+		assertTrue("Recorders should be bounded by the stripe count: " + histogram, 
+				histogram.recorderCount() <= Stripes.defaultCount());
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	/** runs the task in the given number of threads, of which at most 500 exist at the same time */
+	static void runThreads(int count, Runnable task) throws InterruptedException {
+		for (int started = 0; started < count; started += 500) {
+			Thread[] threads = new Thread[Math.min(500, count - started)];
+			for (int i = 0; i < threads.length; i++) {
+				threads[i] = new Thread(task);
+				threads[i].start();
+			}
+			for (Thread thread : threads)
+				thread.join();
+		}
+	}
+	
+	private static LatencyCounter createCounter() {
+		LatencyHistogram histogram = new ConcurrentLatencyHistogram(() -> new LinearLatencyHistogram(100));
+		return new LatencyCounter("test", "system", histogram);
+	}
+	
+}
@@ -15,8 +15,16 @@
 package com.rapiddweller.stat;
 
 import org.junit.After;
+import org.junit.Assume;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.Assert.*;
 
 /**
@@ -49,4 +57,86 @@ public void testLifeCyle() {
 		assertNull("After calling clear(), the repository should have no counters", repository.getCounter(NAME));
 	}
 	
+	@Test
+	public void testConcurrentAddSample() throws Exception {
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 10000; j++)
+					repository.addSample(NAME, j % 100);
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		LatencyCounter counter = repository.getCounter(NAME);
+		assertEquals(80000, counter.sampleCount());
+		assertEquals(0, counter.minLatency());
+		assertEquals(99, counter.maxLatency());
+		assertEquals(8 * 100 * (99 * 100 / 2), counter.totalLatency());
+	}
+	
+	@Test
+	public void testSnapshotAndReset() throws Exception {
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong added = new AtomicLong();
+		Thread writer = new Thread(() -> {
+			while (running.get()) {
+				repository.addSample(NAME, 1);
+				added.incrementAndGet();
+			}
+		});
+		writer.start();
+		List<LatencyCounter> snapshots = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			Thread.sleep(5);
+			LatencyCounter snapshot = repository.snapshotAndReset().get(NAME);
+			if (snapshot != null) {
+				assertFalse(snapshot.isRunning());
+				snapshots.add(snapshot);
+			}
+		}
+		running.set(false);
+		writer.join();
+		snapshots.add(repository.snapshotAndReset().get(NAME));
+		// a sample added during a swap lands in one of the intervals, but never gets lost
+		long snapshotCount = 0;
+		for (LatencyCounter snapshot : snapshots)
+			snapshotCount += snapshot.sampleCount();
+		assertEquals(added.get(), snapshotCount);
+		assertEquals(0, repository.getCounter(NAME).sampleCount());
+	}
+	
+	@Test
+	public void testHandle() {
+		CounterHandle handle = repository.handle(NAME);
+		assertSame(handle, repository.handle(NAME));
+		long latency = handle.stop(handle.start());
+		assertEquals(1, repository.getCounter(NAME).sampleCount());
+		assertEquals(latency, repository.getCounter(NAME).maxLatency());
+		LatencyCounter snapshot = repository.snapshotAndReset().get(NAME);
+		assertEquals(1, snapshot.sampleCount());
+		handle.stop(handle.start());
+		assertEquals("The handle should record into the new counter after a reset", 
+				1, repository.getCounter(NAME).sampleCount());
+	}
+	
+	@Test
+	public void testHandleWithoutAllocation() {
+		ThreadMXBean mxBean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(mxBean instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) mxBean;
+		Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		CounterHandle handle = repository.handle(NAME);
+		for (int i = 0; i < 100000; i++)
+			handle.stop(handle.start());
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 200000; i++)
+			handle.stop(handle.start());
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		assertTrue("Measurements allocated " + allocated + " bytes", allocated < 16 * 1024);
+		assertEquals(300000, repository.getCounter(NAME).sampleCount());
+	}
+	
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link IntervalRecorder}.<br/><br/>
+ * Created: 18.10.2026 15:05:17
+ * @since 2.6.0
+ * @author agent
+ */
+public class IntervalRecorderTest {
+
+	@Test
+	public void testIntervals() {
+		IntervalRecorder recorder = new IntervalRecorder(1000, 100);
+		for (int i = 0; i < 10; i++)
+			recorder.addSample(5, 1000 + i);
+		recorder.addSample(50, 1150);
+		recorder.addError(1160);
+		recorder.addError(1170);
+		List<IntervalStatistics> intervals = recorder.getIntervals(1250);
+		assertEquals(3, intervals.size());
+		IntervalStatistics first = intervals.get(0);
+		assertEquals(0, first.getStartOffset());
+		assertEquals(100, first.getLength());
+		assertEquals(10, first.getInvocations());
+		assertEquals(100., first.getThroughput(), 0.);
+		assertEquals(5, first.getMedian());
+		assertEquals(5, first.getMax());
+		IntervalStatistics second = intervals.get(1);
+		assertEquals(1, second.getInvocations());
+		assertEquals(2, second.getErrors());
+		assertEquals(50, second.getMax());
+		IntervalStatistics last = intervals.get(2);
+		assertEquals(200, last.getStartOffset());
+		assertEquals(50, last.getLength());
+		assertEquals(0, last.getInvocations());
+		assertEquals(-1, last.getMax());
+	}
+	
+	@Test
+	public void testCoarsening() {
+		IntervalRecorder recorder = new IntervalRecorder(0, 10, 4);
+		for (int t = 0; t < 100; t++)
+			recorder.addSample(t, t);
+		recorder.addError(95);
+		List<IntervalStatistics> intervals = recorder.getIntervals(100);
+		assertEquals(3, intervals.size());
+		for (int i = 0; i < 3; i++) {
+			IntervalStatistics interval = intervals.get(i);
+			assertEquals(i * 40, interval.getStartOffset());
+			assertEquals(i < 2 ? 40 : 20, interval.getInvocations());
+		}
+		assertEquals(20, intervals.get(2).getLength());
+		assertEquals(39, intervals.get(0).getMax());
+		assertEquals(1, intervals.get(2).getErrors());
+		assertEquals(99, intervals.get(2).getMax());
+	}
+	
+	@Test
+	public void testMultipleThreads() throws Exception {
+		IntervalRecorder recorder = new IntervalRecorder(0, 10, 4);
+		recorder.addSample(1, 0);
+		Thread thread = new Thread(() -> {
+			for (int t = 0; t < 50; t++)
+				recorder.addSample(2, t);
+		});
+		thread.start();
+		thread.join();
+		List<IntervalStatistics> intervals = recorder.getIntervals(50);
+		assertEquals(3, intervals.size());
+		assertEquals(20, intervals.get(0).getLength());
+		assertEquals(21, intervals.get(0).getInvocations());
+		assertEquals(2, intervals.get(0).getMedian());
+		assertEquals(2, intervals.get(0).getMax());
+		assertEquals(20, intervals.get(1).getInvocations());
+		assertEquals(10, intervals.get(2).getInvocations());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testOddMaxIntervals() {
+		new IntervalRecorder(0, 10, 3);
+	}
+	
+	@Test
+	public void testManyThreads() throws InterruptedException {
+		IntervalRecorder recorder = new IntervalRecorder(1000, 100);
+		ConcurrentLatencyHistogramTest.runThreads(5000, () -> recorder.addSample(5, 1050));
+		assertTrue(recorder.seriesCount() <= Stripes.defaultCount());
+		List<IntervalStatistics> intervals = recorder.getIntervals(1100);
+		assertEquals(1, intervals.size());
+		assertEquals(5000, intervals.get(0).getInvocations());
+	}
+	
+}
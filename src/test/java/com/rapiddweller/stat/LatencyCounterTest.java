@@ -57,4 +57,34 @@ public void testPercentileAboveLatency() {
 		assertEquals(0., counter.percentileAboveLatency(126), 0.);
 	}
 	
+	@Test
+	public void testCorrectedForCoordinatedOmission() {
+		LatencyCounter counter = new LatencyCounter("test");
+		counter.start();
+		for (int i = 0; i < 10; i++)
+			counter.addSample(10);
+		counter.addSample(100);
+		counter.stop();
+		LatencyCounter corrected = counter.correctedForCoordinatedOmission(20, new LinearLatencyHistogram(100));
+		// 100 is accompanied by 80, 60, 40 and 20
+		assertEquals(15, corrected.sampleCount());
+		assertEquals(10, corrected.minLatency());
+		assertEquals(100, corrected.maxLatency());
+		assertEquals(10 * 10 + 100 + 80 + 60 + 40 + 20, corrected.totalLatency());
+		assertEquals(1, corrected.getLatencyCount(60));
+		assertEquals(counter.duration(), corrected.duration());
+		// the original counter is unchanged
+		assertEquals(11, counter.sampleCount());
+	}
+	
+	@Test
+	public void testCorrectionWithoutInterval() {
+		LatencyCounter counter = new LatencyCounter("test");
+		counter.addSample(5);
+		counter.addSample(50);
+		LatencyCounter corrected = counter.correctedForCoordinatedOmission(0, new LinearLatencyHistogram(100));
+		assertEquals(2, corrected.sampleCount());
+		assertEquals(55, corrected.totalLatency());
+	}
+	
 }
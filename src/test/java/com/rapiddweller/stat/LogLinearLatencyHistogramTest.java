@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link LogLinearLatencyHistogram}.<br/><br/>
+ * Created: 17.10.2026 11:40:12
+ * @since 2.6.0
+ * @author agent
+ */
+public class LogLinearLatencyHistogramTest {
+	
+	@Test
+	public void testExactRange() {
+		LogLinearLatencyHistogram histogram = new LogLinearLatencyHistogram(2);
+		for (int i = 0; i < 256; i++)
+			histogram.addSample(i);
+		for (int i = 0; i < 256; i++)
+			assertEquals(1, histogram.getLatencyCount(i));
+		assertEquals(256, histogram.counts.length);
+		assertEquals(127, histogram.latencyAtCount(128));
+	}
+	
+	@Test
+	public void testPrecision() {
+		LogLinearLatencyHistogram histogram = new LogLinearLatencyHistogram(3);
+		long[] values = { 1, 999, 2048, 12345, 1000000, 60000000, 3600000000000L };
+		for (long value : values) {
+			histogram.addSample(value);
+			long start = histogram.bucketStart(histogram.bucketIndex(value));
+			long end = histogram.nextLatency(value) - 1;
+			assertTrue(start <= value && value <= end);
+			assertTrue("Bucket of " + value + " is too wide", (end - start) <= value / 1000.);
+		}
+		assertEquals(values.length, histogram.sampleCount());
+		assertEquals(3600000000000L, histogram.maxLatency());
+	}
+	
+	@Test
+	public void testBoundedMemory() {
+		LogLinearLatencyHistogram histogram = new LogLinearLatencyHistogram(2);
+		histogram.addSample(60000);
+		assertTrue(histogram.counts.length < 2048);
+	}
+	
+	@Test
+	public void testBucketIteration() {
+		LatencyCounter counter = new LatencyCounter("test", "system", new LogLinearLatencyHistogram(1));
+		counter.addSample(5);
+		counter.addSample(50);
+		counter.addSample(55);
+		counter.addSample(500);
+		long total = 0;
+		int steps = 0;
+		for (long i = counter.minLatency(); i <= counter.maxLatency(); i = counter.nextLatency(i)) {
+			total += counter.getLatencyCount(i);
+			steps++;
+		}
+		assertEquals(4, total);
+		assertTrue(steps < 100);
+	}
+	
+	@Test
+	public void testPercentiles() {
+		LatencyCounter counter = new LatencyCounter("test", "system", new LogLinearLatencyHistogram(3));
+		for (int i = 1; i <= 100000; i++)
+			counter.addSample(i);
+		assertEquals(50000, counter.percentileLatency(50), 50);
+		assertEquals(90000, counter.percentileLatency(90), 90);
+		assertEquals(100000, counter.percentileLatency(100));
+		assertEquals(10., counter.percentileAboveLatency(90000), 0.1);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalDigits() {
+		new LogLinearLatencyHistogram(0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeLatency() {
+		new LogLinearLatencyHistogram(2).addSample(-1);
+	}
+	
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link MannWhitney} test on {@link LatencyDistribution}s.<br/><br/>
+ * Created: 18.10.2026 20:24:08
+ * @since 2.6.0
+ * @author agent
+ */
+public class MannWhitneyTest {
+	
+	@Test
+	public void testIdentical() {
+		LatencyDistribution x = spread(1000, 100);
+		assertTrue(MannWhitney.pValueGreater(x, x) > 0.4);
+	}
+	
+	@Test
+	public void testSlower() {
+		LatencyDistribution baseline = spread(1000, 100);
+		LatencyDistribution current = baseline.scaled(1.2);
+		assertTrue(MannWhitney.pValueGreater(current, baseline) < 0.01);
+		assertTrue(MannWhitney.pValueGreater(baseline, current) > 0.99);
+	}
+	
+	@Test
+	public void testTolerance() {
+		LatencyDistribution baseline = spread(1000, 100);
+		LatencyDistribution current = baseline.scaled(1.05);
+		assertTrue(MannWhitney.pValueGreater(current, baseline) < 0.01);
+		assertTrue(MannWhitney.pValueGreater(current, baseline.scaled(1.1)) > 0.01);
+	}
+	
+	@Test
+	public void testDistributionOfLatencies() {
+		LatencyDistribution distribution = LatencyDistribution.of(new double[] { 300, 100, 300, 200 });
+		assertEquals(3, distribution.size());
+		assertEquals(4, distribution.sampleCount());
+		assertEquals(100., distribution.getLatency(0), 0.);
+		assertEquals(2, distribution.getCount(2));
+		assertEquals(200., distribution.percentile(50), 0.);
+	}
+	
+	@Test
+	public void testRoundtrip() throws IOException {
+		LatencyDistribution distribution = spread(1000, 10);
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		distribution.write(new DataOutputStream(buffer));
+		LatencyDistribution copy = LatencyDistribution.read(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+		assertEquals(distribution.size(), copy.size());
+		assertEquals(distribution.sampleCount(), copy.sampleCount());
+		for (int i = 0; i < distribution.size(); i++) {
+			assertEquals(distribution.getLatency(i), copy.getLatency(i), 0.);
+			assertEquals(distribution.getCount(i), copy.getCount(i));
+		}
+	}
+	
+	// helpers ---------------------------------------------------------------------------------------------------------
+	
+	/** creates a distribution of latencies from base to 2 * base, each occurring the given number of times */
+	private static LatencyDistribution spread(int base, int countPerLatency) {
+		double[] latencies = new double[50];
+		long[] counts = new long[latencies.length];
+		for (int i = 0; i < latencies.length; i++) {
+			latencies[i] = base + i * base / 50.;
+			counts[i] = countPerLatency;
+		}
+		return new LatencyDistribution(latencies, counts);
+	}
+	
+}
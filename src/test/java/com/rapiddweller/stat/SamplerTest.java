@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 agent (agent@local).
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.rapiddweller.stat;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link Sampler}.<br/><br/>
+ * Created: 18.10.2026 10:06:51
+ * @since 2.6.0
+ * @author agent
+ */
+public class SamplerTest {
+	
+	private static final int CALLS = 1000000;
+
+	@Test
+	public void testAll() {
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(Sampler.ALL.sample());
+			assertEquals(1, Sampler.ALL.weight());
+		}
+	}
+	
+	@Test
+	public void testIntegralWeight() {
+		Sampler sampler = new Sampler(0.01);
+		long sampled = 0;
+		for (int i = 0; i < CALLS; i++)
+			if (sampler.sample()) {
+				sampled++;
+				assertEquals(100, sampler.weight());
+			}
+		assertEquals(CALLS / 100, sampled, CALLS / 1000);
+	}
+	
+	@Test
+	public void testFractionalWeight() {
+		Sampler sampler = new Sampler(0.3);
+		long totalWeight = 0;
+		for (int i = 0; i < CALLS; i++)
+			if (sampler.sample())
+				totalWeight += sampler.weight();
+		assertEquals(CALLS, totalWeight, CALLS / 50);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalRate() {
+		new Sampler(0);
+	}
+	
+}